@@ -6,7 +6,6 @@
 import jakarta.ws.rs.core.Response;
 
 import org.minijax.Minijax;
-import org.minijax.test.MinijaxTestWebTarget;
 
 public class HelloBenchmark {
 
@@ -22,7 +21,7 @@ public static void main(final String[] args) throws IOException {
         final long startTime = System.currentTimeMillis();
 
         for (int i = 0; i < 100_000_000; i++) {
-            final Response response = new MinijaxTestWebTarget(server, uri)
+            final Response response = server.target(uri)
                     .request()
                     .get();
 
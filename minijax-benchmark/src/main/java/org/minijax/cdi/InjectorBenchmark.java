@@ -0,0 +1,68 @@
+package org.minijax.cdi;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures <code>MinijaxInjector.getResource</code> throughput for unqualified classes.
+ *
+ * Run with:
+ *
+ *     mvn package && java -jar target/benchmarks.jar InjectorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectorBenchmark {
+    private MinijaxInjector injector;
+
+    @Singleton
+    public static class SingletonResource {
+    }
+
+    public static class Dependency {
+    }
+
+    public static class PerCallResource {
+        @Inject
+        Dependency dependency;
+    }
+
+    @Setup
+    public void setUp() {
+        injector = new MinijaxInjector();
+        injector.getResource(SingletonResource.class);
+        injector.getResource(PerCallResource.class);
+    }
+
+    @Benchmark
+    public Object getSingleton() {
+        return injector.getResource(SingletonResource.class, null);
+    }
+
+    @Benchmark
+    public Object getPerCall() {
+        return injector.getResource(PerCallResource.class, null);
+    }
+
+    @Benchmark
+    public Object keyedLookup() {
+        return injector.getProvider(injector.buildKey(SingletonResource.class), null, null).get(null);
+    }
+}
@@ -0,0 +1,83 @@
+package org.minijax.rs;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.minijax.cdi.MinijaxProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares resource method invocation through <code>MinijaxMethodInvoker</code> against <code>Method.invoke</code>.
+ *
+ * Run with:
+ *
+ *     mvn package && java -jar target/benchmarks.jar InvokerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvokerBenchmark {
+    private final InvokerBenchmark instance = this;
+    private MinijaxProvider<?>[] intProviders;
+    private MinijaxProvider<?>[] stringProviders;
+    private MinijaxMethodInvoker staticHandle;
+    private MinijaxMethodInvoker instanceHandle;
+    private MinijaxMethodInvoker staticReflection;
+    private MinijaxMethodInvoker instanceReflection;
+
+    public static int add(final Integer a, final Integer b) {
+        return a + b;
+    }
+
+    public String concat(final String a, final String b) {
+        return a.concat(b);
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        final Method staticMethod = InvokerBenchmark.class.getMethod("add", Integer.class, Integer.class);
+        final Method instanceMethod = InvokerBenchmark.class.getMethod("concat", String.class, String.class);
+
+        staticHandle = MinijaxMethodInvoker.create(staticMethod);
+        instanceHandle = MinijaxMethodInvoker.create(instanceMethod);
+        staticReflection = new MinijaxMethodInvoker.ReflectionInvoker(staticMethod);
+        instanceReflection = new MinijaxMethodInvoker.ReflectionInvoker(instanceMethod);
+
+        final Integer one = 1;
+        final String x = "x";
+        intProviders = new MinijaxProvider<?>[] { context -> one, context -> one };
+        stringProviders = new MinijaxProvider<?>[] { context -> x, context -> x };
+    }
+
+    @Benchmark
+    public Object staticMethodHandle() throws Throwable {
+        return staticHandle.invoke(null, intProviders, null);
+    }
+
+    @Benchmark
+    public Object staticReflection() throws Throwable {
+        return staticReflection.invoke(null, intProviders, null);
+    }
+
+    @Benchmark
+    public Object instanceMethodHandle() throws Throwable {
+        return instanceHandle.invoke(instance, stringProviders, null);
+    }
+
+    @Benchmark
+    public Object instanceReflection() throws Throwable {
+        return instanceReflection.invoke(instance, stringProviders, null);
+    }
+}
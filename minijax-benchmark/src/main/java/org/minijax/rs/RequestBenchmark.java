@@ -0,0 +1,92 @@
+package org.minijax.rs;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import org.minijax.Minijax;
+import org.minijax.rs.test.MinijaxTestHttpHeaders;
+import org.minijax.rs.test.MinijaxTestRequestContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a plain GET on a static resource method, and the bytes allocated per request.
+ *
+ * The URI and headers are shared between requests, so the numbers cover the request context
+ * and dispatch only.  Allocation is measured with the thread allocation counter and printed
+ * after each iteration; <code>-prof gc</code> reports the same figure as
+ * <code>gc.alloc.rate.norm</code>.
+ *
+ * Run with:
+ *
+ *     mvn package && java -jar target/benchmarks.jar RequestBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBenchmark {
+    private MinijaxApplication application;
+    private MinijaxUriInfo uriInfo;
+    private MinijaxHttpHeaders httpHeaders;
+    private long requests;
+    private long startBytes;
+
+    @Path("/hello")
+    public static class HelloResource {
+
+        @GET
+        public static String hello() {
+            return "Hello world!";
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        application = new Minijax().register(HelloResource.class).getDefaultApplication();
+        application.freeze();
+        uriInfo = new MinijaxUriInfo(URI.create("/hello"));
+        httpHeaders = new MinijaxTestHttpHeaders();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        requests = 0;
+        startBytes = getAllocatedBytes();
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration() {
+        final long bytes = getAllocatedBytes() - startBytes;
+        System.out.printf("%n%d bytes/request over %d requests%n", requests == 0 ? 0 : bytes / requests, requests);
+    }
+
+    @Benchmark
+    public Response staticGet() throws Exception {
+        requests++;
+        try (final MinijaxRequestContext ctx = new MinijaxTestRequestContext(application, "GET", uriInfo, httpHeaders, null)) {
+            return application.handle(ctx);
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
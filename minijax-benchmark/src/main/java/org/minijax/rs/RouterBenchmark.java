@@ -0,0 +1,103 @@
+package org.minijax.rs;
+
+import static jakarta.ws.rs.HttpMethod.*;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.PathParam;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares route lookup in the compiled <code>MinijaxRouter</code> against the original linear scan.
+ *
+ * Router lookup cost should stay flat as the number of routes grows, while the linear scan grows
+ * with the number of routes.
+ *
+ * Run with:
+ *
+ *     mvn package && java -jar target/benchmarks.jar RouterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouterBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int routeCount;
+
+    private List<MinijaxResourceMethod> resourceMethods;
+    private MinijaxRouter router;
+    private URI literalUri;
+    private URI templateUri;
+
+    public static String handler(@PathParam("id") final String id) {
+        return id;
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        final Method handler = RouterBenchmark.class.getMethod("handler", String.class);
+
+        // Half literal routes, half template routes
+        resourceMethods = new ArrayList<>();
+        for (int i = 0; i < routeCount / 2; i++) {
+            resourceMethods.add(new MinijaxResourceMethod(GET, handler, null, "/resource" + i, Collections.emptyList(), null));
+            resourceMethods.add(new MinijaxResourceMethod(GET, handler, null, "/resource" + i + "/{id}", Collections.emptyList(), null));
+        }
+        MinijaxResourceMethod.sortByLiteralLength(resourceMethods);
+        router = new MinijaxRouter(resourceMethods);
+
+        // Request the last registered resource, which is the worst case for a linear scan
+        final int last = routeCount / 2 - 1;
+        literalUri = URI.create("/resource" + last);
+        templateUri = URI.create("/resource" + last + "/123");
+    }
+
+    @Benchmark
+    public MinijaxResourceMethod routerLiteral() {
+        return router.findRoute(GET, new MinijaxUriInfo(literalUri));
+    }
+
+    @Benchmark
+    public MinijaxResourceMethod routerTemplate() {
+        return router.findRoute(GET, new MinijaxUriInfo(templateUri));
+    }
+
+    @Benchmark
+    public MinijaxResourceMethod linearScanLiteral() {
+        return linearScan(new MinijaxUriInfo(literalUri));
+    }
+
+    @Benchmark
+    public MinijaxResourceMethod linearScanTemplate() {
+        return linearScan(new MinijaxUriInfo(templateUri));
+    }
+
+    private MinijaxResourceMethod linearScan(final MinijaxUriInfo uriInfo) {
+        for (final MinijaxResourceMethod rm : resourceMethods) {
+            if (rm.getHttpMethod().equals(GET) && rm.getPathPattern().tryMatch(uriInfo) != null) {
+                return rm;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package org.minijax.rs.util;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares <code>QueryStringMap</code> against eager decoding with <code>UrlUtils.urlDecodeMultivaluedParams()</code>.
+ *
+ * The query string is a search request with a handful of application parameters and a long
+ * tail of campaign tracking parameters.  The "lookup" benchmarks read two parameters, like a
+ * resource method with two <code>@QueryParam</code> arguments.  The "all" benchmarks read every
+ * parameter.
+ *
+ * Run with:
+ *
+ *     mvn package && java -jar target/benchmarks.jar QueryStringBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryStringBenchmark {
+    private final String query = "q=running+shoes&page=2&sort=price_asc&size=10.5&color=black"
+            + "&utm_source=newsletter&utm_medium=email&utm_campaign=spring_sale_2020&utm_term=running%20shoes"
+            + "&utm_content=hero_banner&gclid=Cj0KCQjw-O35BRDVARIsAJU5mQV1Zr8uH8ZkF1Jl4Xg0Ew4hS3ZyWq0bGQJt"
+            + "&fbclid=IwAR2F4-dJx8Bq7h9vR3ZlL5aC0fP2kYtW6nGmS1oU4eQ&mc_cid=a1b2c3d4e5&mc_eid=f6g7h8i9j0"
+            + "&ref=homepage&_hsenc=p2ANqtz-8abcdefghijklmnop&_hsmi=123456789&msclkid=0123456789abcdef"
+            + "&redirect=https%3A%2F%2Fwww.example.com%2Fcheckout%3Fstep%3D1";
+
+    @Benchmark
+    public String eagerLookup() {
+        final MultivaluedMap<String, String> params = UrlUtils.urlDecodeMultivaluedParams(query);
+        return params.getFirst("q") + params.getFirst("page");
+    }
+
+    @Benchmark
+    public String lazyLookup() {
+        final MultivaluedMap<String, String> params = new QueryStringMap(query);
+        return params.getFirst("q") + params.getFirst("page");
+    }
+
+    @Benchmark
+    public int eagerAll() {
+        return UrlUtils.urlDecodeMultivaluedParams(query).size();
+    }
+
+    @Benchmark
+    public int lazyAll() {
+        return new QueryStringMap(query).size();
+    }
+}
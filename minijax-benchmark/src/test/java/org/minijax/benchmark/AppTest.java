@@ -2,39 +2,12 @@
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import junit.framework.Test;
-import junit.framework.TestCase;
-import junit.framework.TestSuite;
+import org.junit.jupiter.api.Test;
 
-/**
- * Unit test for simple App.
- */
-class AppTest
-    extends TestCase
-{
-    /**
-     * Create the test case
-     *
-     * @param testName name of the test case
-     */
-    public AppTest( String testName )
-    {
-        super( testName );
-    }
-
-    /**
-     * @return the suite of tests being tested
-     */
-    public static Test suite()
-    {
-        return new TestSuite( AppTest.class );
-    }
+class AppTest {
 
-    /**
-     * Rigourous Test :-)
-     */
-    void testApp()
-    {
-        assertTrue( true );
+    @Test
+    void testApp() {
+        assertTrue(true);
     }
 }
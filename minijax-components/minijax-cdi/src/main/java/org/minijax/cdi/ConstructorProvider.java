@@ -2,14 +2,24 @@
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.enterprise.inject.InjectionException;
 
+/**
+ * The ConstructorProvider class creates new instances with an injection constructor,
+ * and then injects fields and methods.
+ *
+ * The constructor and injected members are converted to method handles when the provider is
+ * built, and the members are flattened into one array in JSR 330 order, so each instance is
+ * created and initialized with straight-line calls and without reflective access checks.
+ */
 public class ConstructorProvider<T> implements MinijaxProvider<T> {
     private final Constructor<T> ctor;
     private final MinijaxProvider<?>[] paramProviders;
-    private final List<InjectionSet> injectionSets;
+    private final Instantiator<T> instantiator;
+    private final MemberInjector[] memberInjectors;
 
     public ConstructorProvider(
             final Constructor<T> ctor,
@@ -18,13 +28,14 @@ public ConstructorProvider(
 
         this.ctor = ctor;
         this.paramProviders = paramProviders;
-        this.injectionSets = injectionSets;
+        this.instantiator = Instantiator.create(ctor);
+        this.memberInjectors = buildMemberInjectors(injectionSets);
     }
 
     @Override
     public T get(final Object context) {
         try {
-            final T result = ctor.newInstance(getParams(paramProviders, context));
+            final T result = instantiator.newInstance(paramProviders, context);
             initImpl(result, context);
             return result;
 
@@ -54,22 +65,22 @@ public T initResource(final T instance, final Object context) {
     public void initImpl(final T result, final Object context)
             throws IllegalAccessException, InvocationTargetException {
 
+        for (final MemberInjector memberInjector : memberInjectors) {
+            memberInjector.inject(result, context);
+        }
+    }
+
+    private static MemberInjector[] buildMemberInjectors(final List<InjectionSet> injectionSets) {
+        final List<MemberInjector> result = new ArrayList<>();
         for (final InjectionSet injectionSet : injectionSets) {
             for (final FieldProvider<?> fieldProvider : injectionSet.getFieldProviders()) {
-                fieldProvider.getField().set(result, fieldProvider.getProvider().get(context));
+                result.add(MemberInjector.forField(fieldProvider));
             }
 
             for (final MethodProvider methodProvider : injectionSet.getMethodProviders()) {
-                methodProvider.getMethod().invoke(result, getParams(methodProvider.getParamProviders(), context));
+                result.add(MemberInjector.forMethod(methodProvider));
             }
         }
-    }
-
-    private Object[] getParams(final MinijaxProvider<?>[] providers, final Object context) {
-        final Object[] params = new Object[providers.length];
-        for (int i = 0; i < providers.length; ++i) {
-            params[i] = providers[i].get(context);
-        }
-        return params;
+        return result.toArray(new MemberInjector[result.size()]);
     }
 }
@@ -0,0 +1,179 @@
+package org.minijax.cdi;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * The Instantiator class calls an injection constructor.
+ *
+ * Instantiators are created once per <code>ConstructorProvider</code>.  The constructor is
+ * adapted to a generic method handle, and there are dedicated instantiators for up to three
+ * parameters, so the common case does not allocate a parameter array.  Constructors that
+ * cannot be unreflected fall back to <code>Constructor.newInstance</code>.
+ *
+ * Exceptions thrown by the constructor are wrapped in <code>InvocationTargetException</code>,
+ * as with reflection.
+ */
+abstract class Instantiator<T> {
+    private static final int MAX_SPECIALIZED_ARITY = 3;
+
+    abstract T newInstance(MinijaxProvider<?>[] providers, Object context)
+            throws InstantiationException, IllegalAccessException, InvocationTargetException;
+
+    static <T> Instantiator<T> create(final Constructor<T> ctor) {
+        final MethodHandle handle = unreflect(ctor);
+        if (handle == null) {
+            return new ReflectionInstantiator<>(ctor);
+        }
+
+        final int arity = ctor.getParameterCount();
+        final MethodHandle mh = handle.asType(MethodType.genericMethodType(arity));
+
+        switch (arity) {
+        case 0:
+            return new Instantiator0<>(mh);
+        case 1:
+            return new Instantiator1<>(mh);
+        case 2:
+            return new Instantiator2<>(mh);
+        case MAX_SPECIALIZED_ARITY:
+            return new Instantiator3<>(mh);
+        default:
+            return new SpreadInstantiator<>(mh.asSpreader(Object[].class, arity));
+        }
+    }
+
+    private static MethodHandle unreflect(final Constructor<?> ctor) {
+        try {
+            ctor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(ctor);
+        } catch (final RuntimeException | IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    static Object[] getParams(final MinijaxProvider<?>[] providers, final Object context) {
+        final Object[] params = new Object[providers.length];
+        for (int i = 0; i < providers.length; ++i) {
+            params[i] = providers[i].get(context);
+        }
+        return params;
+    }
+
+    private static class Instantiator0<T> extends Instantiator<T> {
+        private final MethodHandle mh;
+
+        Instantiator0(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        T newInstance(final MinijaxProvider<?>[] p, final Object context) throws InvocationTargetException {
+            try {
+                return (T) mh.invokeExact();
+            } catch (final Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+    }
+
+    private static class Instantiator1<T> extends Instantiator<T> {
+        private final MethodHandle mh;
+
+        Instantiator1(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        T newInstance(final MinijaxProvider<?>[] p, final Object context) throws InvocationTargetException {
+            final Object a = p[0].get(context);
+            try {
+                return (T) mh.invokeExact(a);
+            } catch (final Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+    }
+
+    private static class Instantiator2<T> extends Instantiator<T> {
+        private final MethodHandle mh;
+
+        Instantiator2(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        T newInstance(final MinijaxProvider<?>[] p, final Object context) throws InvocationTargetException {
+            final Object a = p[0].get(context);
+            final Object b = p[1].get(context);
+            try {
+                return (T) mh.invokeExact(a, b);
+            } catch (final Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+    }
+
+    private static class Instantiator3<T> extends Instantiator<T> {
+        private final MethodHandle mh;
+
+        Instantiator3(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        T newInstance(final MinijaxProvider<?>[] p, final Object context) throws InvocationTargetException {
+            final Object a = p[0].get(context);
+            final Object b = p[1].get(context);
+            final Object c = p[2].get(context);
+            try {
+                return (T) mh.invokeExact(a, b, c);
+            } catch (final Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+    }
+
+    private static class SpreadInstantiator<T> extends Instantiator<T> {
+        private final MethodHandle mh;
+
+        SpreadInstantiator(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        T newInstance(final MinijaxProvider<?>[] p, final Object context) throws InvocationTargetException {
+            final Object[] params = getParams(p, context);
+            try {
+                return (T) mh.invokeExact(params);
+            } catch (final Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+    }
+
+    /**
+     * Fallback instantiator for constructors that cannot be converted to a method handle.
+     */
+    static class ReflectionInstantiator<T> extends Instantiator<T> {
+        private final Constructor<T> ctor;
+
+        ReflectionInstantiator(final Constructor<T> ctor) {
+            this.ctor = ctor;
+        }
+
+        @Override
+        T newInstance(final MinijaxProvider<?>[] p, final Object context)
+                throws InstantiationException, IllegalAccessException, InvocationTargetException {
+            return ctor.newInstance(getParams(p, context));
+        }
+    }
+}
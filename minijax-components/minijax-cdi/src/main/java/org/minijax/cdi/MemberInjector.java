@@ -0,0 +1,146 @@
+package org.minijax.cdi;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * The MemberInjector class assigns one injected field or calls one injected method.
+ *
+ * Fields are assigned through setter method handles, and methods are called through method
+ * handles, with a dedicated path for single parameter methods.  Members that cannot be
+ * unreflected fall back to <code>Field.set</code> and <code>Method.invoke</code>.
+ *
+ * Exceptions thrown by injected methods are wrapped in <code>InvocationTargetException</code>,
+ * as with reflection.
+ */
+abstract class MemberInjector {
+
+    abstract void inject(Object instance, Object context) throws IllegalAccessException, InvocationTargetException;
+
+    static MemberInjector forField(final FieldProvider<?> fieldProvider) {
+        final Field field = fieldProvider.getField();
+        try {
+            field.setAccessible(true);
+            final MethodHandle mh = MethodHandles.lookup().unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return new FieldHandleInjector(mh, fieldProvider.getProvider());
+        } catch (final RuntimeException | IllegalAccessException ex) {
+            return new FieldReflectionInjector(field, fieldProvider.getProvider());
+        }
+    }
+
+    static MemberInjector forMethod(final MethodProvider methodProvider) {
+        final Method method = methodProvider.getMethod();
+        final MinijaxProvider<?>[] providers = methodProvider.getParamProviders();
+        final MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (final RuntimeException | IllegalAccessException ex) {
+            return new MethodReflectionInjector(method, providers);
+        }
+
+        final int arity = method.getParameterCount();
+        final MethodHandle mh = handle.asType(MethodType.genericMethodType(arity + 1).changeReturnType(void.class));
+        if (arity == 1) {
+            return new Method1Injector(mh, providers[0]);
+        }
+        return new MethodSpreadInjector(mh.asSpreader(Object[].class, arity), providers);
+    }
+
+    private static class FieldHandleInjector extends MemberInjector {
+        private final MethodHandle mh;
+        private final MinijaxProvider<?> provider;
+
+        FieldHandleInjector(final MethodHandle mh, final MinijaxProvider<?> provider) {
+            this.mh = mh;
+            this.provider = provider;
+        }
+
+        @Override
+        void inject(final Object instance, final Object context) {
+            final Object value = provider.get(context);
+            try {
+                mh.invokeExact(instance, value);
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    static class FieldReflectionInjector extends MemberInjector {
+        private final Field field;
+        private final MinijaxProvider<?> provider;
+
+        FieldReflectionInjector(final Field field, final MinijaxProvider<?> provider) {
+            this.field = field;
+            this.provider = provider;
+        }
+
+        @Override
+        void inject(final Object instance, final Object context) throws IllegalAccessException {
+            field.set(instance, provider.get(context));
+        }
+    }
+
+    private static class Method1Injector extends MemberInjector {
+        private final MethodHandle mh;
+        private final MinijaxProvider<?> provider;
+
+        Method1Injector(final MethodHandle mh, final MinijaxProvider<?> provider) {
+            this.mh = mh;
+            this.provider = provider;
+        }
+
+        @Override
+        void inject(final Object instance, final Object context) throws InvocationTargetException {
+            final Object value = provider.get(context);
+            try {
+                mh.invokeExact(instance, value);
+            } catch (final Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+    }
+
+    private static class MethodSpreadInjector extends MemberInjector {
+        private final MethodHandle mh;
+        private final MinijaxProvider<?>[] providers;
+
+        MethodSpreadInjector(final MethodHandle mh, final MinijaxProvider<?>[] providers) {
+            this.mh = mh;
+            this.providers = providers;
+        }
+
+        @Override
+        void inject(final Object instance, final Object context) throws InvocationTargetException {
+            final Object[] params = Instantiator.getParams(providers, context);
+            try {
+                mh.invokeExact(instance, params);
+            } catch (final Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+    }
+
+    static class MethodReflectionInjector extends MemberInjector {
+        private final Method method;
+        private final MinijaxProvider<?>[] providers;
+
+        MethodReflectionInjector(final Method method, final MinijaxProvider<?>[] providers) {
+            this.method = method;
+            this.providers = providers;
+        }
+
+        @Override
+        void inject(final Object instance, final Object context) throws IllegalAccessException, InvocationTargetException {
+            method.invoke(instance, Instantiator.getParams(providers, context));
+        }
+    }
+}
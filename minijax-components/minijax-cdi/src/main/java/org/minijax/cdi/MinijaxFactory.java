@@ -0,0 +1,32 @@
+package org.minijax.cdi;
+
+/**
+ * The MinijaxFactory interface is implemented by classes generated at compile time by
+ * the minijax-processor annotation processor.
+ *
+ * A factory replaces <code>ConstructorProviderBuilder</code> for one class.  It resolves the
+ * providers of the injection points once, and returns a provider that calls the constructor
+ * and assigns the injected members directly, without reflection.
+ *
+ * @param <T> The type created by the factory.
+ */
+public interface MinijaxFactory<T> {
+
+    /**
+     * Returns the class created by this factory.
+     *
+     * @return The class.
+     */
+    Class<T> getType();
+
+    /**
+     * Builds the provider for the class.
+     *
+     * Dependencies must be resolved through the state, so that circular dependencies are
+     * detected as with reflective injection.
+     *
+     * @param state The injector state.
+     * @return The provider.
+     */
+    MinijaxProvider<T> build(MinijaxInjectorState state);
+}
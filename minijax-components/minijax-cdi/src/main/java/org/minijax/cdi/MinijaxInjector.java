@@ -2,9 +2,14 @@
 
 import java.io.Closeable;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.enterprise.inject.InjectionException;
 import jakarta.inject.Inject;
@@ -17,16 +22,33 @@
 import org.minijax.cdi.annotation.TypeAnnotationProcessor;
 import org.minijax.commons.CloseUtils;
 import org.minijax.commons.CopyOnWriteMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The MinijaxInjector class provides a Minijax-container-aware implementation of Java CDI (JSR 330).
  *
  * The implementation is heavily inspired by <a href="http://zsoltherpai.github.io/feather/">Feather</a>.
+ *
+ * Providers are built lazily on first use by default.  Containers should call
+ * <code>prepare()</code> with all known classes and then <code>freeze()</code> before serving
+ * traffic, so that reflective provider construction does not happen on request threads.
+ * Providers that are still built after the freeze are recorded and reported by
+ * <code>getLazyProviders()</code>.
+ *
+ * When a generated <code>MinijaxInjectorModule</code> has a factory for a class, the factory is
+ * used instead of reflection, unless the class has fields with annotations handled by a
+ * field annotation processor, which generated factories do not know about.
  */
 public class MinijaxInjector implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(MinijaxInjector.class);
     private final Map<Class<? extends Annotation>, TypeAnnotationProcessor<?>> typeAnnotationProcessors = new CopyOnWriteMap<>();
     private final Map<Class<? extends Annotation>, FieldAnnotationProcessor<?>> fieldAnnotationProcessors = new CopyOnWriteMap<>();
     private final Map<Key<?>, MinijaxProvider<?>> providers = new CopyOnWriteMap<>();
+    private final Map<Class<?>, MinijaxProvider<?>> classProviders = new ConcurrentHashMap<>();
+    private final Map<Class<?>, MinijaxFactory<?>> factories = new CopyOnWriteMap<>(MinijaxInjectorModules.getFactories());
+    private volatile Map<Key<?>, MinijaxProvider<?>> frozenProviders;
+    private final List<Key<?>> lazyProviders = Collections.synchronizedList(new ArrayList<>());
 
     public MinijaxInjector() {
         typeAnnotationProcessors.put(Singleton.class, new SingletonAnnotationProcessor<>());
@@ -41,6 +63,54 @@ public void addFieldAnnotationProcessor(final Class<? extends Annotation> annota
         fieldAnnotationProcessors.put(annotationType, processor);
     }
 
+    /**
+     * Adds the factories of a generated injector module.
+     *
+     * Modules on the class path are added automatically.  Factories only affect providers
+     * that have not been built yet.
+     *
+     * @param module The injector module.
+     */
+    public void addModule(final MinijaxInjectorModule module) {
+        factories.putAll(MinijaxInjectorModules.getFactories(module));
+    }
+
+    /**
+     * Returns the generated factory for a class.
+     *
+     * @param c The class.
+     * @return The factory, or null if the class does not have a usable generated factory.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> MinijaxFactory<T> getFactory(final Class<T> c) {
+        final MinijaxFactory<T> factory = (MinijaxFactory<T>) factories.get(c);
+        if (factory == null || hasProcessedFields(c)) {
+            return null;
+        }
+        return factory;
+    }
+
+    /**
+     * Returns true if the class or a superclass has a field with an annotation that is handled
+     * by a field annotation processor other than <code>@Inject</code>.
+     *
+     * @param c The class.
+     * @return True if the class needs reflective field injection.
+     */
+    private boolean hasProcessedFields(final Class<?> c) {
+        for (Class<?> t = c; t != null && t != Object.class; t = t.getSuperclass()) {
+            for (final Field field : t.getDeclaredFields()) {
+                for (final Annotation annotation : field.getAnnotations()) {
+                    final Class<? extends Annotation> annotationType = annotation.annotationType();
+                    if (annotationType != Inject.class && fieldAnnotationProcessors.containsKey(annotationType)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     public boolean isInjectedField(final Class<?> annotationType) {
         return fieldAnnotationProcessors.containsKey(annotationType);
     }
@@ -83,24 +153,92 @@ public MinijaxInjector bind(final Object instance, final Class<?> contract) {
             provider = new SingletonProvider<>(instance);
         }
         providers.put(buildKey(contract), provider);
+        onBind(contract);
         return this;
     }
 
     public MinijaxInjector bind(final Class<?> component, final Class<?> contract) {
         providers.put(buildKey(contract), getProvider(component));
+        onBind(contract);
         return this;
     }
 
     public MinijaxInjector bind(final Class<?> component, final Class<?> contract, final Class<? extends Annotation> qualifier) {
         providers.put(buildKey(contract, qualifier), getProvider(component));
+        onBind(null);
         return this;
     }
 
     public MinijaxInjector bind(final Class<?> component, final Class<?> contract, final String name) {
         providers.put(buildKey(contract, name), getProvider(component));
+        onBind(null);
         return this;
     }
 
+    /**
+     * Updates the lookup caches after a binding.
+     *
+     * @param contract The contract of an unqualified binding, or null for a qualified binding,
+     *                 which does not affect unqualified lookups.
+     */
+    private synchronized void onBind(final Class<?> contract) {
+        if (contract != null) {
+            classProviders.remove(contract);
+        }
+        if (frozenProviders != null) {
+            frozenProviders = Map.copyOf(providers);
+        }
+    }
+
+    /**
+     * Builds the providers for a collection of classes and their transitive dependencies.
+     *
+     * Classes that cannot be built by the injector (for example, resource classes with only
+     * static methods and no usable constructor) are skipped.
+     *
+     * @param classes The classes.
+     */
+    public void prepare(final Iterable<? extends Class<?>> classes) {
+        for (final Class<?> c : classes) {
+            try {
+                getProvider(c);
+            } catch (final RuntimeException ex) {
+                LOG.debug("Cannot prepare provider for {}: {}", c, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Freezes the provider table.
+     *
+     * The providers built so far are copied into an immutable table.  Providers built after
+     * this point still work, but they are recorded as lazy providers.
+     */
+    public synchronized void freeze() {
+        frozenProviders = Map.copyOf(providers);
+    }
+
+    public boolean isFrozen() {
+        return frozenProviders != null;
+    }
+
+    /**
+     * Returns the keys of providers that were built after the provider table was frozen.
+     *
+     * Each entry is a hint that a class should be passed to <code>prepare()</code>.
+     *
+     * @return The lazily built provider keys, in build order.
+     */
+    public List<String> getLazyProviders() {
+        final List<String> result = new ArrayList<>();
+        synchronized (lazyProviders) {
+            for (final Key<?> key : lazyProviders) {
+                result.add(key.toString());
+            }
+        }
+        return result;
+    }
+
     public Set<Object> getSingletons() {
         final Set<Object> result = new HashSet<>();
         for (final MinijaxProvider<?> provider : providers.values()) {
@@ -121,7 +259,11 @@ public <T> T getResource(final Class<T> c, final Object context) {
 
     @SuppressWarnings("unchecked")
     public <T> T initResource(final T resource, final Object context) {
-        final Provider<T> provider = (Provider<T>) getProvider(resource.getClass());
+        Provider<T> provider = (Provider<T>) getProvider(resource.getClass());
+        if (!(provider instanceof ConstructorProvider) && getFactory(resource.getClass()) != null) {
+            // Generated factories only create new instances, so use reflection to init existing ones
+            provider = new ConstructorProviderBuilder<T>(new MinijaxInjectorState(this, buildKey(resource.getClass()), null)).build();
+        }
         if (!(provider instanceof ConstructorProvider)) {
             throw new InjectionException("Cannot init resource class " + resource.getClass());
         }
@@ -130,8 +272,27 @@ public <T> T initResource(final T resource, final Object context) {
         return resource;
     }
 
+    /**
+     * Returns the provider for an unqualified class.
+     *
+     * Unqualified lookups are cached per class, so the common case does not allocate a key.
+     * Binding a new unqualified contract removes it from the cache.
+     *
+     * @param c The class.
+     * @return The provider.
+     */
+    @SuppressWarnings("unchecked")
     public <T> MinijaxProvider<T> getProvider(final Class<T> c) {
-        return getProvider(buildKey(c), null, null);
+        MinijaxProvider<T> result = (MinijaxProvider<T>) classProviders.get(c);
+        if (result == null) {
+            // Not computeIfAbsent, because building a provider can look up other classes
+            result = getProvider(buildKey(c), null, null);
+            final MinijaxProvider<T> existing = (MinijaxProvider<T>) classProviders.putIfAbsent(c, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
     }
 
     public <T> MinijaxProvider<T> getProvider(final Class<T> c, final Annotation[] annotations) {
@@ -140,11 +301,23 @@ public <T> MinijaxProvider<T> getProvider(final Class<T> c, final Annotation[] a
 
     @SuppressWarnings({ "squid:S3824", "unchecked" })
     <T> MinijaxProvider<T> getProvider(final Key<T> key, final Set<Key<?>> chain, final Annotation[] annotations) {
+        final Map<Key<?>, MinijaxProvider<?>> frozen = frozenProviders;
+        if (frozen != null) {
+            final MinijaxProvider<T> result = (MinijaxProvider<T>) frozen.get(key);
+            if (result != null) {
+                return result;
+            }
+        }
+
         MinijaxProvider<T> result = (MinijaxProvider<T>) providers.get(key);
 
         if (result == null) {
             result = buildProvider(key, chain, annotations);
             providers.put(key, result);
+            if (frozen != null) {
+                lazyProviders.add(key);
+                LOG.debug("Provider built after freeze: {}", key);
+            }
         }
 
         return result;
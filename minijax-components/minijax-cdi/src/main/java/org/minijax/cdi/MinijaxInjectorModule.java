@@ -0,0 +1,21 @@
+package org.minijax.cdi;
+
+import java.util.List;
+
+/**
+ * The MinijaxInjectorModule interface is implemented by classes generated at compile time by
+ * the minijax-processor annotation processor.
+ *
+ * Modules are discovered with <code>java.util.ServiceLoader</code>.  When a module has a factory
+ * for a class, <code>MinijaxInjector</code> uses the factory instead of building a reflective
+ * <code>ConstructorProvider</code>.
+ */
+public interface MinijaxInjectorModule {
+
+    /**
+     * Returns the generated factories.
+     *
+     * @return The factories.
+     */
+    List<MinijaxFactory<?>> getFactories();
+}
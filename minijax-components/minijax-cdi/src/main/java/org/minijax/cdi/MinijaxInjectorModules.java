@@ -0,0 +1,45 @@
+package org.minijax.cdi;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * The MinijaxInjectorModules class holds the factories of the generated injector modules found
+ * on the class path.
+ *
+ * Modules are loaded once per class loader of this class.
+ */
+public final class MinijaxInjectorModules {
+    private static final Map<Class<?>, MinijaxFactory<?>> FACTORIES = load();
+
+    MinijaxInjectorModules() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the generated factories by class.
+     *
+     * @return The factories.
+     */
+    public static Map<Class<?>, MinijaxFactory<?>> getFactories() {
+        return FACTORIES;
+    }
+
+    static Map<Class<?>, MinijaxFactory<?>> getFactories(final MinijaxInjectorModule module) {
+        final Map<Class<?>, MinijaxFactory<?>> result = new HashMap<>();
+        for (final MinijaxFactory<?> factory : module.getFactories()) {
+            result.put(factory.getType(), factory);
+        }
+        return result;
+    }
+
+    private static Map<Class<?>, MinijaxFactory<?>> load() {
+        final Map<Class<?>, MinijaxFactory<?>> result = new HashMap<>();
+        for (final MinijaxInjectorModule module : ServiceLoader.load(MinijaxInjectorModule.class, MinijaxInjectorModules.class.getClassLoader())) {
+            result.putAll(getFactories(module));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
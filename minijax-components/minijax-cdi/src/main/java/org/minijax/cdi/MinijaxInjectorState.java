@@ -1,7 +1,11 @@
 package org.minijax.cdi;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
+import jakarta.enterprise.inject.InjectionException;
+
 public class MinijaxInjectorState {
     private final MinijaxInjector injector;
     private final Key<?> key;
@@ -26,4 +30,41 @@ Key<?> getKey() {
     Set<Key<?>> getChain() {
         return chain;
     }
+
+    /**
+     * Returns the provider for a dependency of the class being built.
+     *
+     * Used by generated factories.  Circular dependencies are detected as in
+     * <code>ConstructorProviderBuilder</code>.
+     *
+     * @param type The dependency class.
+     * @param name The <code>@Named</code> value, or null for an unqualified dependency.
+     * @return The provider.
+     */
+    public <T> MinijaxProvider<T> getProvider(final Class<T> type, final String name) {
+        final Key<T> newKey = name == null ? new Key<>(type) : new Key<>(type, name);
+        final Set<Key<?>> newChain = new LinkedHashSet<>();
+        if (chain != null) {
+            newChain.addAll(chain);
+        }
+        newChain.add(key);
+        if (newChain.contains(newKey)) {
+            throw new InjectionException(String.format("Circular dependency: %s -> %s", newChain, newKey));
+        }
+        return injector.getProvider(newKey, Collections.unmodifiableSet(newChain), null);
+    }
+
+    /**
+     * Returns a <code>Provider</code> for a dependency that is resolved on each call.
+     *
+     * Used by generated factories for <code>Provider&lt;T&gt;</code> injection points.
+     *
+     * @param type The dependency class.
+     * @param name The <code>@Named</code> value, or null for an unqualified dependency.
+     * @return The provider.
+     */
+    public <T> MinijaxProvider<T> getLazyProvider(final Class<T> type, final String name) {
+        final Key<T> newKey = name == null ? new Key<>(type) : new Key<>(type, name);
+        return context -> injector.getProvider(newKey, null, null).get(context);
+    }
 }
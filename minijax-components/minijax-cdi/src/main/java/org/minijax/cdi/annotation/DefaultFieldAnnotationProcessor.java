@@ -5,6 +5,7 @@
 import jakarta.inject.Provider;
 
 import org.minijax.cdi.ConstructorProviderBuilder;
+import org.minijax.cdi.MinijaxFactory;
 import org.minijax.cdi.MinijaxInjectorState;
 import org.minijax.cdi.MinijaxProvider;
 import org.minijax.cdi.WrapperProvider;
@@ -22,6 +23,10 @@ public MinijaxProvider<T> buildProvider(final MinijaxInjectorState state, final
                 return (MinijaxProvider<T>) ctorProvider;
             }
         } else {
+            final MinijaxFactory<T> factory = state.getInjector().getFactory(type);
+            if (factory != null) {
+                return factory.build(state);
+            }
             return (MinijaxProvider<T>) new ConstructorProviderBuilder<>(state).build();
         }
     }
@@ -2,6 +2,8 @@
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+
 import jakarta.enterprise.inject.InjectionException;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
@@ -237,4 +239,80 @@ void testInitExplodingSetter() {
         final ExplodingSetter instance = new ExplodingSetter();
         assertThrows(InjectionException.class, () -> injector.initResource(instance, null));
     }
+
+    @Test
+    void testUnqualifiedProviderCached() {
+        final MinijaxProvider<A> provider = injector.getProvider(A.class);
+        assertSame(provider, injector.getProvider(A.class));
+        assertSame(provider, injector.getProvider(injector.buildKey(A.class), null, null));
+    }
+
+    @Test
+    void testBindAfterLookup() {
+        final MySingleton first = injector.getResource(MySingleton.class);
+        final MySingleton bound = new MySingleton();
+        injector.bind(bound, MySingleton.class);
+        assertNotSame(first, bound);
+        assertSame(bound, injector.getResource(MySingleton.class));
+    }
+
+    @Test
+    void testBindInvalidatesOnlyContract() {
+        final MinijaxProvider<A> provider = injector.getProvider(A.class);
+        injector.bind(new MySingleton(), MySingleton.class);
+        injector.bind(C.class, C.class, "named");
+        assertSame(provider, injector.getProvider(A.class));
+    }
+
+    @Test
+    void testPrepareAndFreeze() {
+        injector.prepare(Arrays.asList(A.class, NoValidConstructors.class));
+        injector.freeze();
+        assertTrue(injector.isFrozen());
+
+        // Dependencies of A were built by prepare
+        assertNotNull(injector.getResource(A.class).b.c);
+        assertNotNull(injector.getResource(C.class));
+        assertTrue(injector.getLazyProviders().isEmpty());
+
+        injector.getResource(MySingleton.class);
+        assertEquals(1, injector.getLazyProviders().size());
+        assertTrue(injector.getLazyProviders().get(0).contains(MySingleton.class.getName()));
+    }
+
+    @Test
+    void testBindAfterFreeze() {
+        injector.getResource(MySingleton.class);
+        injector.freeze();
+
+        final MySingleton bound = new MySingleton();
+        injector.bind(bound, MySingleton.class);
+        assertSame(bound, injector.getResource(MySingleton.class));
+    }
+
+    @Test
+    void testModuleFactory() {
+        final MinijaxInjectorModule module = () -> Arrays.asList(new MinijaxFactory<B>() {
+            @Override
+            public Class<B> getType() {
+                return B.class;
+            }
+
+            @Override
+            public MinijaxProvider<B> build(final MinijaxInjectorState state) {
+                final MinijaxProvider<C> c = state.getProvider(C.class, null);
+                return context -> new B(c.get(context));
+            }
+        });
+
+        injector.addModule(module);
+        assertNotNull(injector.getFactory(B.class));
+        assertNull(injector.getFactory(A.class));
+        assertFalse(injector.getProvider(B.class) instanceof ConstructorProvider);
+        assertNotNull(injector.getResource(A.class).b.c);
+
+        // Existing instances are still initialized by reflection
+        final B instance = new B(null);
+        assertSame(instance, injector.initResource(instance, null));
+    }
 }
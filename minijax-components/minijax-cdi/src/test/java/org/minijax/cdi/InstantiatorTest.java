@@ -0,0 +1,132 @@
+package org.minijax.cdi;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+class InstantiatorTest {
+
+    static class Widget {
+        final String a;
+        final String b;
+        final String c;
+        final String d;
+
+        Widget() {
+            this(null, null, null, null);
+        }
+
+        Widget(final String a) {
+            this(a, null, null, null);
+        }
+
+        Widget(final String a, final String b) {
+            this(a, b, null, null);
+        }
+
+        Widget(final String a, final String b, final String c) {
+            this(a, b, c, null);
+        }
+
+        Widget(final String a, final String b, final String c, final String d) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+    }
+
+    static class Exploding {
+        Exploding() {
+            throw new IllegalArgumentException("boom");
+        }
+    }
+
+    static class Gadget {
+        @Inject
+        String name;
+
+        @Inject
+        int count;
+
+        String first;
+        String second;
+
+        @Inject
+        void setFirst(final String first) {
+            this.first = first;
+        }
+
+        @Inject
+        void setBoth(final String first, final String second) {
+            this.second = second;
+        }
+    }
+
+    private static final MinijaxProvider<?>[] PROVIDERS = {
+            context -> "a", context -> "b", context -> "c", context -> "d" };
+
+    private static Widget newWidget(final int arity) throws ReflectiveOperationException {
+        final Class<?>[] types = new Class<?>[arity];
+        Arrays.fill(types, String.class);
+        final Constructor<Widget> ctor = Widget.class.getDeclaredConstructor(types);
+        return Instantiator.create(ctor).newInstance(providers(arity), null);
+    }
+
+    private static MinijaxProvider<?>[] providers(final int count) {
+        return Arrays.copyOf(PROVIDERS, count);
+    }
+
+    @Test
+    void testArities() throws ReflectiveOperationException {
+        assertNull(newWidget(0).a);
+        assertEquals("a", newWidget(1).a);
+        assertEquals("b", newWidget(2).b);
+        assertEquals("c", newWidget(3).c);
+        assertEquals("d", newWidget(4).d);
+    }
+
+    @Test
+    void testReflectionFallback() throws ReflectiveOperationException {
+        final Constructor<Widget> ctor = Widget.class.getDeclaredConstructor(String.class);
+        final Widget widget = new Instantiator.ReflectionInstantiator<>(ctor).newInstance(providers(1), null);
+        assertEquals("a", widget.a);
+    }
+
+    @Test
+    void testConstructorException() throws ReflectiveOperationException {
+        final Instantiator<Exploding> instantiator = Instantiator.create(Exploding.class.getDeclaredConstructor());
+        final InvocationTargetException ex = assertThrows(InvocationTargetException.class, () -> instantiator.newInstance(providers(0), null));
+        assertTrue(ex.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void testMembers() throws ReflectiveOperationException {
+        final Gadget gadget = new Gadget();
+        MemberInjector.forField(new FieldProvider<>(Gadget.class.getDeclaredField("name"), context -> "x")).inject(gadget, null);
+        MemberInjector.forField(new FieldProvider<>(Gadget.class.getDeclaredField("count"), context -> 3)).inject(gadget, null);
+        MemberInjector.forMethod(new MethodProvider(Gadget.class.getDeclaredMethod("setFirst", String.class), providers(1))).inject(gadget, null);
+        MemberInjector.forMethod(new MethodProvider(Gadget.class.getDeclaredMethod("setBoth", String.class, String.class), providers(2)))
+                .inject(gadget, null);
+
+        assertEquals("x", gadget.name);
+        assertEquals(3, gadget.count);
+        assertEquals("a", gadget.first);
+        assertEquals("b", gadget.second);
+    }
+
+    @Test
+    void testMemberReflectionFallback() throws ReflectiveOperationException {
+        final Gadget gadget = new Gadget();
+        new MemberInjector.FieldReflectionInjector(Gadget.class.getDeclaredField("name"), context -> "y").inject(gadget, null);
+        new MemberInjector.MethodReflectionInjector(Gadget.class.getDeclaredMethod("setFirst", String.class), providers(1)).inject(gadget, null);
+        assertEquals("y", gadget.name);
+        assertEquals("a", gadget.first);
+    }
+}
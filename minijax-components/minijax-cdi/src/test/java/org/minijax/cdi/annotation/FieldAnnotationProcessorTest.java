@@ -8,8 +8,10 @@
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
+import org.minijax.cdi.MinijaxFactory;
 import org.minijax.cdi.MinijaxInjector;
 import org.minijax.cdi.MinijaxInjectorState;
 import org.minijax.cdi.MinijaxProvider;
@@ -51,4 +53,31 @@ void testFieldAnnotationProcessor() {
             assertEquals("hello", resource.foo);
         }
     }
+
+    @Test
+    void testFieldAnnotationProcessorWithFactory() {
+        final MinijaxFactory<MyTestResource> factory = new MinijaxFactory<>() {
+            @Override
+            public Class<MyTestResource> getType() {
+                return MyTestResource.class;
+            }
+
+            @Override
+            public MinijaxProvider<MyTestResource> build(final MinijaxInjectorState state) {
+                // Like a generated factory, this does not know about custom field annotations
+                return context -> new MyTestResource();
+            }
+        };
+
+        try (final MinijaxInjector injector = new MinijaxInjector()) {
+            injector.addModule(() -> Collections.singletonList(factory));
+            assertSame(factory, injector.getFactory(MyTestResource.class));
+
+            injector.addFieldAnnotationProcessor(MyFieldAnnotation.class, new MyFieldAnnotationProcessor());
+            assertNull(injector.getFactory(MyTestResource.class));
+
+            final MyTestResource resource = injector.getResource(MyTestResource.class);
+            assertEquals("hello", resource.foo);
+        }
+    }
 }
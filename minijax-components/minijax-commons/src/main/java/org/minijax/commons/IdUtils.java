@@ -3,14 +3,12 @@
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 import java.util.UUID;
-import java.util.regex.Pattern;
 
 /**
  * The IdUtils class provides helper methods for creating, parsing, and using UUID's.
  */
 public class IdUtils {
     private static final SecureRandom RANDOM = new SecureRandom();
-    private static final Pattern PATTERN = Pattern.compile("[0-9a-fA-F\\-]+");
 
     IdUtils() {
         throw new UnsupportedOperationException();
@@ -60,20 +58,47 @@ public static UUID tryParse(final String str) {
             return null;
         }
 
-        if (!PATTERN.matcher(str).matches()) {
-            return null;
+        // Single pass over the input, ignoring dashes, without intermediate strings
+        long msb = 0;
+        long lsb = 0;
+        int digits = 0;
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            final int digit = hexDigit(c);
+            if (digit < 0 || digits == 32) {
+                return null;
+            }
+            if (digits < 16) {
+                msb = (msb << 4) | digit;
+            } else {
+                lsb = (lsb << 4) | digit;
+            }
+            digits++;
         }
 
-        final String clean = str.replace("-", "");
-        if (clean.length() != 32) {
+        if (digits != 32) {
             return null;
         }
 
-        final long msb = Long.parseUnsignedLong(clean.substring(0, 16), 16);
-        final long lsb = Long.parseUnsignedLong(clean.substring(16), 16);
         return new UUID(msb, lsb);
     }
 
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
     /**
      * Converts a UUID to a 16-element byte array.
      *
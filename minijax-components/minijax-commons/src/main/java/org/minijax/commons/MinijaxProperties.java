@@ -14,6 +14,9 @@ public class MinijaxProperties {
 
     public static final String SECURITY_USER_CLASS = "org.minijax.security.userClass";
 
+    public static final String RECYCLE_CONTEXTS = "org.minijax.server.recycleContexts";
+    public static final String DETECT_CONTEXT_LEAKS = "org.minijax.server.detectContextLeaks";
+
     MinijaxProperties() {
         throw new UnsupportedOperationException();
     }
@@ -39,6 +39,23 @@ void testParseTooShort() {
         assertNull(IdUtils.tryParse("1234567890"));
     }
 
+    @Test
+    void testParseTooLong() {
+        assertNull(IdUtils.tryParse(IdUtils.create().toString() + "0"));
+    }
+
+    @Test
+    void testParseNonAsciiDigits() {
+        assertNull(IdUtils.tryParse("\uff11" + IdUtils.create().toString().substring(1)));
+    }
+
+    @Test
+    void testParseUpperCase() {
+        final UUID id1 = IdUtils.create();
+        final UUID id2 = IdUtils.tryParse(id1.toString().toUpperCase());
+        assertEquals(id1, id2);
+    }
+
     @Test
     void testParseNormal() {
         final UUID id1 = IdUtils.create();
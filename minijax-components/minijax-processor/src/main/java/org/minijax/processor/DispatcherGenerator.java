@@ -0,0 +1,302 @@
+package org.minijax.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * The DispatcherGenerator class writes the <code>MinijaxDispatcher</code> for one resource class.
+ *
+ * A resource method gets a generated invoker if it is not private, does not declare checked
+ * throwables other than exceptions, and every parameter is a <code>String</code> or primitive
+ * annotated with <code>@PathParam</code>, <code>@QueryParam</code>, or <code>@HeaderParam</code>
+ * (optionally with <code>@DefaultValue</code>).  The conversions match the built-in
+ * <code>ParamConverter</code> implementations, which take precedence over user converters for
+ * these types.
+ */
+class DispatcherGenerator {
+    static final String DISPATCHER_SUFFIX = "_MinijaxDispatcher";
+    private static final String HTTP_METHOD = "jakarta.ws.rs.HttpMethod";
+    private static final String PATH_PARAM = "jakarta.ws.rs.PathParam";
+    private static final String QUERY_PARAM = "jakarta.ws.rs.QueryParam";
+    private static final String HEADER_PARAM = "jakarta.ws.rs.HeaderParam";
+    private static final String DEFAULT_VALUE = "jakarta.ws.rs.DefaultValue";
+    private final ProcessingEnvironment env;
+    private final TypeElement type;
+
+    DispatcherGenerator(final ProcessingEnvironment env, final TypeElement type) {
+        this.env = env;
+        this.type = type;
+    }
+
+    /**
+     * Generates the dispatcher source file.
+     *
+     * @return The qualified name of the dispatcher, or null if the class has no eligible methods.
+     */
+    String generate() {
+        if (!ProcessorUtils.isPackageVisible(type) || !type.getTypeParameters().isEmpty()) {
+            return null;
+        }
+
+        final List<MethodInvoker> invokers = new ArrayList<>();
+        for (final Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.METHOD) {
+                final MethodInvoker invoker = buildInvoker((ExecutableElement) element, invokers.size());
+                if (invoker != null) {
+                    invokers.add(invoker);
+                }
+            }
+        }
+
+        if (invokers.isEmpty()) {
+            return null;
+        }
+
+        final String packageName = env.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String simpleName = ProcessorUtils.getFlatName(type) + DISPATCHER_SUFFIX;
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try {
+            final JavaFileObject file = env.getFiler().createSourceFile(qualifiedName, type);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(render(packageName, simpleName, invokers));
+            }
+        } catch (final IOException ex) {
+            env.getMessager().printMessage(Kind.ERROR, "Error writing " + qualifiedName + ": " + ex.getMessage(), type);
+            return null;
+        }
+
+        return qualifiedName;
+    }
+
+    private String render(final String packageName, final String simpleName, final List<MethodInvoker> invokers) {
+        final String resourceName = type.getQualifiedName().toString();
+        final StringBuilder b = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            b.append("package ").append(packageName).append(";\n\n");
+        }
+
+        b.append("import org.minijax.rs.MinijaxDispatcher;\n");
+        b.append("import org.minijax.rs.MinijaxRequestContext;\n\n");
+        b.append(RegistryGenerator.getGeneratedAnnotation(env));
+        b.append("public final class ").append(simpleName).append(" implements MinijaxDispatcher {\n\n");
+
+        b.append("    @Override\n");
+        b.append("    public Class<?> getResourceClass() {\n");
+        b.append("        return ").append(resourceName).append(".class;\n");
+        b.append("    }\n\n");
+
+        b.append("    @Override\n");
+        b.append("    public MinijaxDispatcher.Invoker getInvoker(final String methodKey) {\n");
+        b.append("        switch (methodKey) {\n");
+        for (final MethodInvoker invoker : invokers) {
+            b.append("        case ").append(ProcessorUtils.quote(invoker.key)).append(":\n");
+            b.append("            return ").append(simpleName).append("::").append(invoker.name).append(";\n");
+        }
+        b.append("        default:\n");
+        b.append("            return null;\n");
+        b.append("        }\n");
+        b.append("    }\n");
+
+        for (final MethodInvoker invoker : invokers) {
+            b.append('\n');
+            b.append("    private static Object ").append(invoker.name)
+                    .append("(final Object instance, final MinijaxRequestContext ctx) throws Exception {\n");
+            b.append("        ");
+            if (!invoker.isVoid) {
+                b.append("return ");
+            }
+            if (invoker.isStatic) {
+                b.append(resourceName);
+            } else {
+                b.append("((").append(resourceName).append(") instance)");
+            }
+            b.append('.').append(invoker.methodName).append('(');
+            for (int i = 0; i < invoker.args.size(); i++) {
+                if (i > 0) {
+                    b.append(", ");
+                }
+                b.append(invoker.args.get(i));
+            }
+            b.append(");\n");
+            if (invoker.isVoid) {
+                b.append("        return null;\n");
+            }
+            b.append("    }\n");
+        }
+
+        b.append("}\n");
+        return b.toString();
+    }
+
+    private MethodInvoker buildInvoker(final ExecutableElement method, final int index) {
+        if (!isResourceMethod(method)
+                || method.getModifiers().contains(Modifier.PRIVATE)
+                || !method.getTypeParameters().isEmpty()
+                || !throwsOnlyExceptions(method)) {
+            return null;
+        }
+
+        final List<String> args = new ArrayList<>();
+        final StringBuilder key = new StringBuilder();
+        key.append(method.getSimpleName()).append('(');
+
+        for (final VariableElement param : method.getParameters()) {
+            final String arg = buildArgument(param);
+            if (arg == null) {
+                return null;
+            }
+            if (!args.isEmpty()) {
+                key.append(',');
+            }
+            key.append(getTypeName(param.asType()));
+            args.add(arg);
+        }
+        key.append(')');
+
+        final MethodInvoker result = new MethodInvoker();
+        result.name = "invoke" + index;
+        result.key = key.toString();
+        result.methodName = method.getSimpleName().toString();
+        result.isStatic = method.getModifiers().contains(Modifier.STATIC);
+        result.isVoid = method.getReturnType().getKind() == TypeKind.VOID;
+        result.args = args;
+        return result;
+    }
+
+    private static boolean isResourceMethod(final ExecutableElement method) {
+        for (final AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            final Element annotationType = annotation.getAnnotationType().asElement();
+            for (final AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+                if (getName(meta).equals(HTTP_METHOD)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean throwsOnlyExceptions(final ExecutableElement method) {
+        final TypeMirror exception = env.getElementUtils().getTypeElement("java.lang.Exception").asType();
+        final TypeMirror error = env.getElementUtils().getTypeElement("java.lang.Error").asType();
+        for (final TypeMirror thrown : method.getThrownTypes()) {
+            if (!env.getTypeUtils().isAssignable(thrown, exception) && !env.getTypeUtils().isAssignable(thrown, error)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the argument expression for one parameter.
+     *
+     * @param param The method parameter.
+     * @return The Java expression, or null if the parameter is not supported.
+     */
+    private static String buildArgument(final VariableElement param) {
+        String source = null;
+        String name = null;
+        String defaultValue = null;
+
+        for (final AnnotationMirror annotation : param.getAnnotationMirrors()) {
+            final String annotationName = getName(annotation);
+            switch (annotationName) {
+            case PATH_PARAM:
+                source = "getPathParam";
+                name = getValue(annotation);
+                break;
+            case QUERY_PARAM:
+                source = "getQueryParam";
+                name = getValue(annotation);
+                break;
+            case HEADER_PARAM:
+                source = "getHeaderParam";
+                name = getValue(annotation);
+                break;
+            case DEFAULT_VALUE:
+                defaultValue = getValue(annotation);
+                break;
+            default:
+                return null;
+            }
+        }
+
+        if (source == null || name == null) {
+            return null;
+        }
+
+        final String str = "MinijaxDispatcher." + source + "(ctx, " + ProcessorUtils.quote(name) + ", " + ProcessorUtils.quote(defaultValue) + ")";
+        return convert(param.asType(), str);
+    }
+
+    private static String convert(final TypeMirror paramType, final String str) {
+        switch (paramType.getKind()) {
+        case BOOLEAN:
+            return "Boolean.parseBoolean(" + str + ")";
+        case BYTE:
+            return "Byte.parseByte(" + str + ")";
+        case SHORT:
+            return "Short.parseShort(" + str + ")";
+        case INT:
+            return "Integer.parseInt(" + str + ")";
+        case LONG:
+            return "Long.parseLong(" + str + ")";
+        case FLOAT:
+            return "Float.parseFloat(" + str + ")";
+        case DOUBLE:
+            return "Double.parseDouble(" + str + ")";
+        case DECLARED:
+            return getTypeName(paramType).equals("java.lang.String") ? str : null;
+        default:
+            return null;
+        }
+    }
+
+    private static String getTypeName(final TypeMirror t) {
+        if (t.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) t).asElement()).getQualifiedName().toString();
+        }
+        return t.getKind().name().toLowerCase();
+    }
+
+    private static String getName(final AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static String getValue(final AnnotationMirror annotation) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return (String) entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static class MethodInvoker {
+        String name;
+        String key;
+        String methodName;
+        boolean isStatic;
+        boolean isVoid;
+        List<String> args;
+    }
+}
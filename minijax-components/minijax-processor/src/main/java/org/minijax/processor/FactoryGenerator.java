@@ -0,0 +1,336 @@
+package org.minijax.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * The FactoryGenerator class writes the <code>MinijaxFactory</code> for one injectable class.
+ *
+ * A class gets a generated factory if it is a concrete, non-generic, package visible class with
+ * a non-private <code>@Inject</code> or no-arg constructor, and all of its injection points can
+ * be reached from the same package.  Injection points may be unqualified or
+ * <code>@Named</code>, and may be <code>Provider&lt;T&gt;</code>.
+ *
+ * Classes that use JAX-RS or persistence injection annotations, other qualifiers, static or
+ * final injected members, checked exceptions, or inherit injection points are left to the
+ * default reflective path.
+ */
+class FactoryGenerator {
+    static final String FACTORY_SUFFIX = "_MinijaxFactory";
+    private static final String INJECT = "jakarta.inject.Inject";
+    private static final String NAMED = "jakarta.inject.Named";
+    private static final String PROVIDER = "jakarta.inject.Provider";
+    private static final String QUALIFIER = "jakarta.inject.Qualifier";
+    private static final String[] RUNTIME_PACKAGES = { "jakarta.ws.rs.", "jakarta.persistence." };
+    private final ProcessingEnvironment env;
+    private final TypeElement type;
+    private final List<Dependency> dependencies = new ArrayList<>();
+
+    FactoryGenerator(final ProcessingEnvironment env, final TypeElement type) {
+        this.env = env;
+        this.type = type;
+    }
+
+    /**
+     * Generates the factory source file.
+     *
+     * @return The qualified name of the factory, or null if the class is not supported.
+     */
+    String generate() {
+        if (!isSupportedType()) {
+            return null;
+        }
+
+        final ExecutableElement constructor = findConstructor();
+        if (constructor == null) {
+            return null;
+        }
+
+        final List<String> ctorArgs = buildArguments(constructor);
+        if (ctorArgs == null) {
+            return null;
+        }
+
+        final List<String> statements = new ArrayList<>();
+        for (final Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.FIELD && hasAnnotation(element, INJECT)) {
+                final String value = buildValue(element.asType(), element);
+                if (value == null) {
+                    return null;
+                }
+                statements.add("instance." + element.getSimpleName() + " = " + value + ";");
+            }
+        }
+        for (final Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.METHOD && hasAnnotation(element, INJECT)) {
+                final ExecutableElement method = (ExecutableElement) element;
+                if (method.getModifiers().contains(Modifier.ABSTRACT) || !method.getTypeParameters().isEmpty()) {
+                    return null;
+                }
+                final List<String> args = buildArguments(method);
+                if (args == null) {
+                    return null;
+                }
+                statements.add("instance." + method.getSimpleName() + "(" + String.join(", ", args) + ");");
+            }
+        }
+
+        final String packageName = env.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String simpleName = ProcessorUtils.getFlatName(type) + FACTORY_SUFFIX;
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try {
+            final JavaFileObject file = env.getFiler().createSourceFile(qualifiedName, type);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(render(packageName, simpleName, ctorArgs, statements));
+            }
+        } catch (final IOException ex) {
+            env.getMessager().printMessage(Kind.ERROR, "Error writing " + qualifiedName + ": " + ex.getMessage(), type);
+            return null;
+        }
+
+        return qualifiedName;
+    }
+
+    private String render(final String packageName, final String simpleName, final List<String> ctorArgs, final List<String> statements) {
+        final String typeName = type.getQualifiedName().toString();
+        final StringBuilder b = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            b.append("package ").append(packageName).append(";\n\n");
+        }
+
+        b.append("import jakarta.enterprise.inject.InjectionException;\n\n");
+        b.append("import org.minijax.cdi.MinijaxFactory;\n");
+        b.append("import org.minijax.cdi.MinijaxInjectorState;\n");
+        b.append("import org.minijax.cdi.MinijaxProvider;\n\n");
+        b.append(RegistryGenerator.getGeneratedAnnotation(env));
+        b.append("public final class ").append(simpleName).append(" implements MinijaxFactory<").append(typeName).append("> {\n\n");
+
+        b.append("    @Override\n");
+        b.append("    public Class<").append(typeName).append("> getType() {\n");
+        b.append("        return ").append(typeName).append(".class;\n");
+        b.append("    }\n\n");
+
+        b.append("    @Override\n");
+        b.append("    @SuppressWarnings(\"unchecked\")\n");
+        b.append("    public MinijaxProvider<").append(typeName).append("> build(final MinijaxInjectorState state) {\n");
+        for (int i = 0; i < dependencies.size(); i++) {
+            final Dependency d = dependencies.get(i);
+            b.append("        final MinijaxProvider<?> p").append(i).append(" = state.")
+                    .append(d.lazy ? "getLazyProvider(" : "getProvider(")
+                    .append(d.className).append(".class, ").append(ProcessorUtils.quote(d.name)).append(");\n");
+        }
+        b.append("        return context -> {\n");
+        b.append("            try {\n");
+        b.append("                final ").append(typeName).append(" instance = new ").append(typeName)
+                .append('(').append(String.join(", ", ctorArgs)).append(");\n");
+        for (final String statement : statements) {
+            b.append("                ").append(statement).append('\n');
+        }
+        b.append("                return instance;\n");
+        b.append("            } catch (final InjectionException ex) {\n");
+        b.append("                throw ex;\n");
+        b.append("            } catch (final RuntimeException ex) {\n");
+        b.append("                throw new InjectionException(ex.getMessage(), ex);\n");
+        b.append("            }\n");
+        b.append("        };\n");
+        b.append("    }\n");
+        b.append("}\n");
+        return b.toString();
+    }
+
+    private boolean isSupportedType() {
+        if (type.getKind() != ElementKind.CLASS
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || !type.getTypeParameters().isEmpty()
+                || !ProcessorUtils.isPackageVisible(type)
+                || type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+
+        for (final Element element : type.getEnclosedElements()) {
+            if ((element.getKind() == ElementKind.FIELD || element.getKind() == ElementKind.METHOD)
+                    && !isSupportedMember(element)) {
+                return false;
+            }
+        }
+
+        // Inherited injection points are left to the reflective path,
+        // which implements the JSR 330 override rules.
+        for (TypeMirror t = type.getSuperclass(); t.getKind() == TypeKind.DECLARED; ) {
+            final TypeElement superType = (TypeElement) ((DeclaredType) t).asElement();
+            if (superType.getQualifiedName().contentEquals("java.lang.Object")) {
+                break;
+            }
+            for (final Element element : superType.getEnclosedElements()) {
+                if (hasAnnotation(element, INJECT) || element.getKind() == ElementKind.FIELD && hasRuntimeAnnotation(element)) {
+                    return false;
+                }
+            }
+            t = superType.getSuperclass();
+        }
+
+        return true;
+    }
+
+    private static boolean isSupportedMember(final Element element) {
+        final boolean field = element.getKind() == ElementKind.FIELD;
+        if (field && hasRuntimeAnnotation(element)) {
+            return false;
+        }
+        if (!hasAnnotation(element, INJECT)) {
+            return true;
+        }
+        final Set<Modifier> modifiers = element.getModifiers();
+        return !modifiers.contains(Modifier.PRIVATE)
+                && !modifiers.contains(Modifier.STATIC)
+                && !(field && modifiers.contains(Modifier.FINAL));
+    }
+
+    private ExecutableElement findConstructor() {
+        ExecutableElement inject = null;
+        ExecutableElement noarg = null;
+
+        for (final Element element : type.getEnclosedElements()) {
+            if (element.getKind() != ElementKind.CONSTRUCTOR) {
+                continue;
+            }
+            final ExecutableElement ctor = (ExecutableElement) element;
+            if (hasAnnotation(ctor, INJECT)) {
+                if (inject != null) {
+                    return null;
+                }
+                inject = ctor;
+            } else if (ctor.getParameters().isEmpty()) {
+                noarg = ctor;
+            }
+        }
+
+        final ExecutableElement result = inject != null ? inject : noarg;
+        if (result == null || result.getModifiers().contains(Modifier.PRIVATE) || !result.getThrownTypes().isEmpty()) {
+            return null;
+        }
+        return result;
+    }
+
+    private List<String> buildArguments(final ExecutableElement executable) {
+        if (!executable.getThrownTypes().isEmpty()) {
+            return null;
+        }
+        final List<String> result = new ArrayList<>();
+        for (final VariableElement param : executable.getParameters()) {
+            final String value = buildValue(param.asType(), param);
+            if (value == null) {
+                return null;
+            }
+            result.add(value);
+        }
+        return result;
+    }
+
+    /**
+     * Builds the value expression for one injection point.
+     *
+     * @param t The declared type of the injection point.
+     * @param element The field or parameter.
+     * @return The Java expression, or null if the injection point is not supported.
+     */
+    private String buildValue(final TypeMirror t, final Element element) {
+        if (t.getKind() != TypeKind.DECLARED || hasRuntimeAnnotation(element)) {
+            return null;
+        }
+
+        String name = null;
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(NAMED)) {
+                name = getValue(annotation);
+            } else if (hasAnnotation(annotationType, QUALIFIER)) {
+                return null;
+            }
+        }
+
+        final DeclaredType declared = (DeclaredType) t;
+        final TypeElement typeElement = (TypeElement) declared.asElement();
+        final int index = dependencies.size();
+
+        if (typeElement.getQualifiedName().contentEquals(PROVIDER)) {
+            if (declared.getTypeArguments().size() != 1 || declared.getTypeArguments().get(0).getKind() != TypeKind.DECLARED) {
+                return null;
+            }
+            final TypeMirror target = declared.getTypeArguments().get(0);
+            dependencies.add(new Dependency(getErasure(target), name, true));
+            return "(" + t + ") p" + index;
+        }
+
+        dependencies.add(new Dependency(getErasure(t), name, false));
+        return "(" + t + ") p" + index + ".get(context)";
+    }
+
+    private String getErasure(final TypeMirror t) {
+        return ((TypeElement) ((DeclaredType) env.getTypeUtils().erasure(t)).asElement()).getQualifiedName().toString();
+    }
+
+    private static boolean hasRuntimeAnnotation(final Element element) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            final String name = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            for (final String prefix : RUNTIME_PACKAGES) {
+                if (name.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasAnnotation(final Element element, final String annotationName) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getValue(final AnnotationMirror annotation) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return (String) entry.getValue().getValue();
+            }
+        }
+        return "";
+    }
+
+    private static class Dependency {
+        final String className;
+        final String name;
+        final boolean lazy;
+
+        Dependency(final String className, final String name, final boolean lazy) {
+            this.className = className;
+            this.name = name;
+            this.lazy = lazy;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package org.minijax.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * The MinijaxProcessor class is an annotation processor that generates reflection-free
+ * dispatch code for Minijax applications.
+ *
+ * For every resource class, the processor generates a <code>MinijaxDispatcher</code> with direct
+ * calls to the resource methods, and direct parameter extraction for <code>@PathParam</code>,
+ * <code>@QueryParam</code>, and <code>@HeaderParam</code>.  Resource methods with other kinds of
+ * parameters are left to the default runtime path.
+ *
+ * After the dispatchers, the processor generates a <code>MinijaxRegistry</code> listing the
+ * classes that class path scanning would find, and registers it in
+ * <code>META-INF/services/org.minijax.rs.MinijaxRegistry</code>.
+ *
+ * The registry class name can be set with the <code>-Aminijax.registry=com.example.MyRegistry</code>
+ * compiler option.  The default is <code>MinijaxGeneratedRegistry</code> in the first package.
+ * Class path scanning is still used at runtime, unless the package trees are declared complete
+ * with the <code>-Aminijax.completePackages=com.example,com.example2</code> compiler option.
+ *
+ * The processor also generates a <code>MinijaxFactory</code> for each supported class that is
+ * injectable (annotated with <code>@Singleton</code> or <code>@RequestScoped</code>, declaring
+ * <code>@Inject</code> members, or found by scanning), and a <code>MinijaxInjectorModule</code>
+ * listing the factories, registered in
+ * <code>META-INF/services/org.minijax.cdi.MinijaxInjectorModule</code>.  The module class name
+ * can be set with the <code>-Aminijax.module=com.example.MyModule</code> compiler option.  The
+ * default is <code>MinijaxGeneratedModule</code> in the first package.
+ */
+@SupportedAnnotationTypes({
+        "jakarta.ws.rs.ApplicationPath",
+        "jakarta.ws.rs.Path",
+        "jakarta.ws.rs.ext.Provider",
+        "jakarta.websocket.server.ServerEndpoint",
+        "jakarta.ws.rs.DELETE",
+        "jakarta.ws.rs.GET",
+        "jakarta.ws.rs.HEAD",
+        "jakarta.ws.rs.OPTIONS",
+        "jakarta.ws.rs.PATCH",
+        "jakarta.ws.rs.POST",
+        "jakarta.ws.rs.PUT",
+        "jakarta.inject.Inject",
+        "jakarta.inject.Singleton",
+        "jakarta.enterprise.context.RequestScoped"
+})
+@SupportedOptions({ MinijaxProcessor.REGISTRY_OPTION, MinijaxProcessor.COMPLETE_PACKAGES_OPTION, MinijaxProcessor.MODULE_OPTION })
+public class MinijaxProcessor extends AbstractProcessor {
+    static final String REGISTRY_OPTION = "minijax.registry";
+    static final String COMPLETE_PACKAGES_OPTION = "minijax.completePackages";
+    static final String REGISTRY_SERVICE_FILE = "META-INF/services/org.minijax.rs.MinijaxRegistry";
+    static final String MODULE_OPTION = "minijax.module";
+    static final String MODULE_SERVICE_FILE = "META-INF/services/org.minijax.cdi.MinijaxInjectorModule";
+    private static final String DEFAULT_REGISTRY_NAME = "MinijaxGeneratedRegistry";
+    private static final String DEFAULT_MODULE_NAME = "MinijaxGeneratedModule";
+    private static final Set<String> SCAN_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "jakarta.ws.rs.ApplicationPath",
+            "jakarta.ws.rs.Path",
+            "jakarta.ws.rs.ext.Provider",
+            "jakarta.websocket.server.ServerEndpoint"));
+    private static final Set<String> INJECTION_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "jakarta.inject.Inject",
+            "jakarta.inject.Singleton",
+            "jakarta.enterprise.context.RequestScoped"));
+
+    private final Map<String, RegistryEntry> classes = new TreeMap<>();
+    private final Set<String> dispatchers = new TreeSet<>();
+    private final Set<String> packages = new TreeSet<>();
+    private final Set<String> resourceTypes = new HashSet<>();
+    private final Set<String> factories = new TreeSet<>();
+    private final Set<String> factoryPackages = new TreeSet<>();
+    private final Set<String> factoryTypes = new HashSet<>();
+    private boolean registryWritten;
+    private boolean moduleWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final Set<TypeElement> newResourceTypes = new LinkedHashSet<>();
+        final Set<TypeElement> newFactoryTypes = new LinkedHashSet<>();
+
+        for (final TypeElement annotation : annotations) {
+            final String annotationName = annotation.getQualifiedName().toString();
+            final boolean scanned = SCAN_ANNOTATIONS.contains(annotationName);
+            final boolean injection = INJECTION_ANNOTATIONS.contains(annotationName);
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                final TypeElement type = getType(element);
+                if (type == null) {
+                    continue;
+                }
+                if ((injection || scanned && element == type) && factoryTypes.add(type.getQualifiedName().toString())) {
+                    newFactoryTypes.add(type);
+                }
+                if (injection) {
+                    continue;
+                }
+                if (scanned && element == type) {
+                    addClass(type);
+                }
+                if (resourceTypes.add(type.getQualifiedName().toString())) {
+                    newResourceTypes.add(type);
+                }
+            }
+        }
+
+        int generated = 0;
+        for (final TypeElement type : newResourceTypes) {
+            final String dispatcher = new DispatcherGenerator(processingEnv, type).generate();
+            if (dispatcher != null) {
+                dispatchers.add(dispatcher);
+                packages.add(getPackageName(type));
+                generated++;
+            }
+        }
+
+        for (final TypeElement type : newFactoryTypes) {
+            final String factory = new FactoryGenerator(processingEnv, type).generate();
+            if (factory != null) {
+                factories.add(factory);
+                factoryPackages.add(getPackageName(type));
+                generated++;
+            }
+        }
+
+        // Write the registry in the first round that does not generate dispatchers.
+        // Writing it before the final round keeps it subject to normal compilation.
+        if (generated == 0 && !packages.isEmpty() && !registryWritten) {
+            writeRegistry();
+        } else if (registryWritten && !newResourceTypes.isEmpty()) {
+            processingEnv.getMessager().printMessage(Kind.WARNING, "Resource classes found after the Minijax registry was written");
+        }
+
+        if (generated == 0 && !factories.isEmpty() && !moduleWritten) {
+            writeModule();
+        } else if (moduleWritten && !newFactoryTypes.isEmpty()) {
+            processingEnv.getMessager().printMessage(Kind.WARNING, "Injectable classes found after the Minijax module was written");
+        }
+
+        return false;
+    }
+
+    private static TypeElement getType(final Element element) {
+        if (element instanceof TypeElement) {
+            return element.getKind() == ElementKind.CLASS ? (TypeElement) element : null;
+        }
+        final Element enclosing = element.getEnclosingElement();
+        if (enclosing instanceof TypeElement && enclosing.getKind() == ElementKind.CLASS) {
+            return (TypeElement) enclosing;
+        }
+        return null;
+    }
+
+    private void addClass(final TypeElement type) {
+        final String qualifiedName = type.getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String packageName = getPackageName(type);
+        classes.put(qualifiedName, new RegistryEntry(qualifiedName, binaryName, packageName, ProcessorUtils.isPublic(type)));
+        packages.add(packageName);
+    }
+
+    private String getPackageName(final TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    }
+
+    private void writeRegistry() {
+        registryWritten = true;
+
+        final String registryName = getRegistryName();
+        final RegistryGenerator generator = new RegistryGenerator(processingEnv, registryName);
+        for (final String packageName : packages) {
+            generator.addPackage(packageName);
+        }
+        for (final String packageName : getCompletePackages()) {
+            generator.addCompletePackage(packageName);
+        }
+        for (final RegistryEntry entry : classes.values()) {
+            generator.addClass(entry);
+        }
+        for (final String dispatcher : dispatchers) {
+            generator.addDispatcher(dispatcher);
+        }
+        generator.generate();
+        writeServiceFile(REGISTRY_SERVICE_FILE, registryName);
+    }
+
+    private void writeModule() {
+        moduleWritten = true;
+
+        final String moduleName = getModuleName();
+        final ModuleGenerator generator = new ModuleGenerator(processingEnv, moduleName);
+        for (final String factory : factories) {
+            generator.addFactory(factory);
+        }
+        generator.generate();
+        writeServiceFile(MODULE_SERVICE_FILE, moduleName);
+    }
+
+    private String getModuleName() {
+        final String option = processingEnv.getOptions().get(MODULE_OPTION);
+        if (option != null && !option.isEmpty()) {
+            return option;
+        }
+        final String packageName = factoryPackages.iterator().next();
+        return packageName.isEmpty() ? DEFAULT_MODULE_NAME : packageName + "." + DEFAULT_MODULE_NAME;
+    }
+
+    private void writeServiceFile(final String fileName, final String className) {
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", fileName);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(className);
+                writer.write('\n');
+            }
+        } catch (final IOException ex) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Error writing " + fileName + ": " + ex.getMessage());
+        }
+    }
+
+    private Set<String> getCompletePackages() {
+        final Set<String> result = new TreeSet<>();
+        final String option = processingEnv.getOptions().get(COMPLETE_PACKAGES_OPTION);
+        if (option != null) {
+            for (final String packageName : option.split(",")) {
+                if (!packageName.isBlank()) {
+                    result.add(packageName.trim());
+                }
+            }
+        }
+        return result;
+    }
+
+    private String getRegistryName() {
+        final String option = processingEnv.getOptions().get(REGISTRY_OPTION);
+        if (option != null && !option.isEmpty()) {
+            return option;
+        }
+        final String packageName = packages.iterator().next();
+        return packageName.isEmpty() ? DEFAULT_REGISTRY_NAME : packageName + "." + DEFAULT_REGISTRY_NAME;
+    }
+
+    /**
+     * A class that will be listed in the generated registry.
+     */
+    static class RegistryEntry {
+        private final String qualifiedName;
+        private final String binaryName;
+        private final String packageName;
+        private final boolean publicType;
+
+        RegistryEntry(final String qualifiedName, final String binaryName, final String packageName, final boolean publicType) {
+            this.qualifiedName = qualifiedName;
+            this.binaryName = binaryName;
+            this.packageName = packageName;
+            this.publicType = publicType;
+        }
+
+        String getQualifiedName() {
+            return qualifiedName;
+        }
+
+        String getBinaryName() {
+            return binaryName;
+        }
+
+        String getPackageName() {
+            return packageName;
+        }
+
+        boolean isPublicType() {
+            return publicType;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.minijax.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * The ModuleGenerator class writes the <code>MinijaxInjectorModule</code> implementation,
+ * which lists the generated factories.
+ */
+class ModuleGenerator {
+    private final ProcessingEnvironment env;
+    private final String qualifiedName;
+    private final String packageName;
+    private final String simpleName;
+    private final List<String> factories = new ArrayList<>();
+
+    ModuleGenerator(final ProcessingEnvironment env, final String qualifiedName) {
+        this.env = env;
+        this.qualifiedName = qualifiedName;
+        final int index = qualifiedName.lastIndexOf('.');
+        packageName = index < 0 ? "" : qualifiedName.substring(0, index);
+        simpleName = qualifiedName.substring(index + 1);
+    }
+
+    void addFactory(final String factoryName) {
+        factories.add("new " + factoryName + "()");
+    }
+
+    void generate() {
+        try {
+            final JavaFileObject file = env.getFiler().createSourceFile(qualifiedName);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(render());
+            }
+        } catch (final IOException ex) {
+            env.getMessager().printMessage(Kind.ERROR, "Error writing " + qualifiedName + ": " + ex.getMessage());
+        }
+    }
+
+    private String render() {
+        final StringBuilder b = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            b.append("package ").append(packageName).append(";\n\n");
+        }
+
+        b.append("import java.util.Arrays;\n");
+        b.append("import java.util.List;\n\n");
+        b.append("import org.minijax.cdi.MinijaxFactory;\n");
+        b.append("import org.minijax.cdi.MinijaxInjectorModule;\n\n");
+        b.append(RegistryGenerator.getGeneratedAnnotation(env));
+        b.append("public final class ").append(simpleName).append(" implements MinijaxInjectorModule {\n\n");
+        b.append("    @Override\n");
+        b.append("    public List<MinijaxFactory<?>> getFactories() {\n");
+        b.append("        return Arrays.<MinijaxFactory<?>>asList(\n");
+        for (int i = 0; i < factories.size(); i++) {
+            b.append("                ").append(factories.get(i));
+            b.append(i < factories.size() - 1 ? ",\n" : ");\n");
+        }
+        b.append("    }\n");
+        b.append("}\n");
+        return b.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package org.minijax.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Helper functions shared by the code generators.
+ */
+final class ProcessorUtils {
+
+    ProcessorUtils() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns true if the type and all enclosing types are public.
+     *
+     * @param element The type element.
+     * @return True if the type is visible from any package.
+     */
+    static boolean isPublic(final Element element) {
+        for (Element e = element; e != null && e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+            if (!e.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the type is visible from other classes in the same package.
+     *
+     * @param element The type element.
+     * @return True if neither the type nor any enclosing type is private.
+     */
+    static boolean isPackageVisible(final Element element) {
+        for (Element e = element; e != null && e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (e.getKind() != ElementKind.CLASS && e.getKind() != ElementKind.INTERFACE) {
+                // Local or anonymous class
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the simple names of a type and its enclosing types joined with underscores.
+     *
+     * @param type The type element.
+     * @return The flat name, for example <code>Outer_Inner</code>.
+     */
+    static String getFlatName(final TypeElement type) {
+        final StringBuilder b = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+            b.insert(0, '_').insert(0, e.getSimpleName());
+        }
+        return b.toString();
+    }
+
+    /**
+     * Returns a Java string literal for a string value.
+     *
+     * @param str The string value.
+     * @return The Java string literal, or "null" if the value is null.
+     */
+    static String quote(final String str) {
+        if (str == null) {
+            return "null";
+        }
+        final StringBuilder b = new StringBuilder(str.length() + 2);
+        b.append('"');
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            switch (c) {
+            case '"':
+                b.append("\\\"");
+                break;
+            case '\\':
+                b.append("\\\\");
+                break;
+            case '\n':
+                b.append("\\n");
+                break;
+            case '\r':
+                b.append("\\r");
+                break;
+            case '\t':
+                b.append("\\t");
+                break;
+            default:
+                if (c < 0x20 || c > 0x7e) {
+                    b.append(String.format("\\u%04x", (int) c));
+                } else {
+                    b.append(c);
+                }
+            }
+        }
+        return b.append('"').toString();
+    }
+}
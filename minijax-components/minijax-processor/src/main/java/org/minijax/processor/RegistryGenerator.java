@@ -0,0 +1,139 @@
+package org.minijax.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import org.minijax.processor.MinijaxProcessor.RegistryEntry;
+
+/**
+ * The RegistryGenerator class writes the <code>MinijaxRegistry</code> implementation.
+ *
+ * Public classes and classes in the registry package are referenced with class literals.
+ * Other classes are loaded by name when the registry is first used.
+ */
+class RegistryGenerator {
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+    private final ProcessingEnvironment env;
+    private final String qualifiedName;
+    private final String packageName;
+    private final String simpleName;
+    private final List<String> packages = new ArrayList<>();
+    private final List<String> completePackages = new ArrayList<>();
+    private final List<String> classes = new ArrayList<>();
+    private final List<String> dispatchers = new ArrayList<>();
+    private boolean needsLoader;
+
+    RegistryGenerator(final ProcessingEnvironment env, final String qualifiedName) {
+        this.env = env;
+        this.qualifiedName = qualifiedName;
+        final int index = qualifiedName.lastIndexOf('.');
+        packageName = index < 0 ? "" : qualifiedName.substring(0, index);
+        simpleName = qualifiedName.substring(index + 1);
+    }
+
+    void addPackage(final String name) {
+        packages.add(ProcessorUtils.quote(name));
+    }
+
+    void addCompletePackage(final String name) {
+        completePackages.add(ProcessorUtils.quote(name));
+    }
+
+    void addClass(final RegistryEntry entry) {
+        if (entry.isPublicType() || entry.getPackageName().equals(packageName)) {
+            classes.add(entry.getQualifiedName() + ".class");
+        } else {
+            classes.add("load(" + ProcessorUtils.quote(entry.getBinaryName()) + ")");
+            needsLoader = true;
+        }
+    }
+
+    void addDispatcher(final String dispatcherName) {
+        dispatchers.add("new " + dispatcherName + "()");
+    }
+
+    void generate() {
+        try {
+            final JavaFileObject file = env.getFiler().createSourceFile(qualifiedName);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(render());
+            }
+        } catch (final IOException ex) {
+            env.getMessager().printMessage(Kind.ERROR, "Error writing " + qualifiedName + ": " + ex.getMessage());
+        }
+    }
+
+    private String render() {
+        final StringBuilder b = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            b.append("package ").append(packageName).append(";\n\n");
+        }
+
+        b.append("import java.util.Arrays;\n");
+        b.append("import java.util.Collections;\n");
+        b.append("import java.util.List;\n\n");
+        b.append("import org.minijax.rs.MinijaxDispatcher;\n");
+        b.append("import org.minijax.rs.MinijaxRegistry;\n\n");
+        b.append(getGeneratedAnnotation(env));
+        b.append("public final class ").append(simpleName).append(" implements MinijaxRegistry {\n\n");
+
+        appendList(b, "String", "getPackages", packages);
+        b.append('\n');
+        if (!completePackages.isEmpty()) {
+            appendList(b, "String", "getCompletePackages", completePackages);
+            b.append('\n');
+        }
+        appendList(b, "Class<?>", "getClasses", classes);
+        b.append('\n');
+        appendList(b, "MinijaxDispatcher", "getDispatchers", dispatchers);
+
+        if (needsLoader) {
+            b.append('\n');
+            b.append("    private static Class<?> load(final String name) {\n");
+            b.append("        try {\n");
+            b.append("            return Class.forName(name, false, ").append(simpleName).append(".class.getClassLoader());\n");
+            b.append("        } catch (final ClassNotFoundException ex) {\n");
+            b.append("            throw new IllegalStateException(ex);\n");
+            b.append("        }\n");
+            b.append("    }\n");
+        }
+
+        b.append("}\n");
+        return b.toString();
+    }
+
+    private static void appendList(final StringBuilder b, final String elementType, final String methodName, final List<String> values) {
+        b.append("    @Override\n");
+        b.append("    public List<").append(elementType).append("> ").append(methodName).append("() {\n");
+        if (values.isEmpty()) {
+            b.append("        return Collections.emptyList();\n");
+        } else {
+            b.append("        return Arrays.<").append(elementType).append(">asList(\n");
+            for (int i = 0; i < values.size(); i++) {
+                b.append("                ").append(values.get(i));
+                b.append(i < values.size() - 1 ? ",\n" : ");\n");
+            }
+        }
+        b.append("    }\n");
+    }
+
+    /**
+     * Returns the <code>@Generated</code> annotation line, if available in the target environment.
+     *
+     * @param env The processing environment.
+     * @return The annotation source line, or an empty string.
+     */
+    static String getGeneratedAnnotation(final ProcessingEnvironment env) {
+        if (env.getElementUtils().getTypeElement(GENERATED) == null) {
+            return "";
+        }
+        return "@" + GENERATED + "(\"" + MinijaxProcessor.class.getName() + "\")\n";
+    }
+}
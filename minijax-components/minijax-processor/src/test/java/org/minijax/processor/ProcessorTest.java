@@ -0,0 +1,284 @@
+package org.minijax.processor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jakarta.enterprise.inject.InjectionException;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.minijax.Minijax;
+import org.minijax.cdi.ConstructorProvider;
+import org.minijax.cdi.MinijaxFactory;
+import org.minijax.cdi.MinijaxInjector;
+import org.minijax.cdi.MinijaxInjectorModule;
+import org.minijax.cdi.MinijaxProvider;
+import org.minijax.commons.MinijaxException;
+import org.minijax.rs.MinijaxDispatcher;
+import org.minijax.rs.MinijaxRegistry;
+import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxUriInfo;
+import org.minijax.rs.test.MinijaxTestRequestContext;
+import org.slf4j.Logger;
+
+class ProcessorTest {
+    private static final String WIDGET_SOURCE = String.join("\n",
+            "package com.example;",
+            "",
+            "import jakarta.ws.rs.*;",
+            "",
+            "@Path(\"/widgets\")",
+            "public class WidgetResource {",
+            "",
+            "    @GET",
+            "    @Path(\"/{id}\")",
+            "    public static String get(@PathParam(\"id\") final String id, @QueryParam(\"n\") @DefaultValue(\"5\") final int n) {",
+            "        return id + \":\" + n;",
+            "    }",
+            "",
+            "    @GET",
+            "    @Path(\"/header\")",
+            "    public String header(@HeaderParam(\"X-Test\") final String value) {",
+            "        return \"header:\" + value;",
+            "    }",
+            "",
+            "    @POST",
+            "    public String create(final String body) {",
+            "        return body;",
+            "    }",
+            "",
+            "    @DELETE",
+            "    public void delete() {",
+            "    }",
+            "}",
+            "");
+
+    private static final String PROVIDER_SOURCE = String.join("\n",
+            "package com.example.providers;",
+            "",
+            "@jakarta.ws.rs.ext.Provider",
+            "class HiddenProvider {",
+            "}",
+            "");
+
+    private static final String GREETER_SOURCE = String.join("\n",
+            "package com.example.services;",
+            "",
+            "import jakarta.inject.*;",
+            "",
+            "public class Greeter {",
+            "    private final Clock clock;",
+            "",
+            "    @Inject",
+            "    Provider<Clock> clocks;",
+            "",
+            "    @Inject",
+            "    @Named(\"hello\")",
+            "    Greeting greeting;",
+            "",
+            "    @Inject",
+            "    public Greeter(final Clock clock) {",
+            "        this.clock = clock;",
+            "    }",
+            "",
+            "    public String greet() {",
+            "        return greeting.text() + \":\" + (clock == clocks.get());",
+            "    }",
+            "}",
+            "",
+            "@Singleton",
+            "class Clock {",
+            "}",
+            "",
+            "interface Greeting {",
+            "    String text();",
+            "}",
+            "",
+            "class Hello implements Greeting {",
+            "    public String text() {",
+            "        return \"hello\";",
+            "    }",
+            "}",
+            "");
+
+    private Path tempDir;
+    private URLClassLoader classLoader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("minijax-processor");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (classLoader != null) {
+            classLoader.close();
+        }
+    }
+
+    @Test
+    void testGeneratedRegistry() throws Exception {
+        compile();
+
+        final MinijaxRegistry registry = (MinijaxRegistry) load("com.example.MinijaxGeneratedRegistry").getConstructor().newInstance();
+        assertEquals(Arrays.asList("com.example", "com.example.providers"), registry.getPackages());
+        assertEquals(2, registry.getClasses().size());
+        assertEquals(load("com.example.WidgetResource"), registry.getClasses().get(0));
+        assertEquals(load("com.example.providers.HiddenProvider"), registry.getClasses().get(1));
+        assertEquals(1, registry.getDispatchers().size());
+        assertTrue(registry.getCompletePackages().isEmpty());
+
+        final String services = new String(
+                Files.readAllBytes(tempDir.resolve(MinijaxProcessor.REGISTRY_SERVICE_FILE)),
+                StandardCharsets.UTF_8);
+        assertEquals("com.example.MinijaxGeneratedRegistry", services.trim());
+    }
+
+    @Test
+    void testCompletePackages() throws Exception {
+        compile("-A" + MinijaxProcessor.COMPLETE_PACKAGES_OPTION + "=com.example, com.example.providers");
+
+        final MinijaxRegistry registry = (MinijaxRegistry) load("com.example.MinijaxGeneratedRegistry").getConstructor().newInstance();
+        assertEquals(Arrays.asList("com.example", "com.example.providers"), registry.getCompletePackages());
+    }
+
+    @Test
+    void testGeneratedDispatcher() throws Exception {
+        compile();
+
+        final Class<?> resourceClass = load("com.example.WidgetResource");
+        final MinijaxDispatcher dispatcher = (MinijaxDispatcher) load("com.example.WidgetResource_MinijaxDispatcher").getConstructor().newInstance();
+        assertEquals(resourceClass, dispatcher.getResourceClass());
+
+        // Methods with entity parameters use the default runtime path
+        assertNull(dispatcher.getInvoker(MinijaxDispatcher.getMethodKey(resourceClass.getMethod("create", String.class))));
+
+        final MinijaxDispatcher.Invoker get = dispatcher.getInvoker(MinijaxDispatcher.getMethodKey(resourceClass.getMethod("get", String.class, int.class)));
+        final MinijaxDispatcher.Invoker header = dispatcher.getInvoker(MinijaxDispatcher.getMethodKey(resourceClass.getMethod("header", String.class)));
+        final MinijaxDispatcher.Invoker delete = dispatcher.getInvoker(MinijaxDispatcher.getMethodKey(resourceClass.getMethod("delete")));
+        assertNotNull(get);
+        assertNotNull(header);
+        assertNotNull(delete);
+
+        final Minijax minijax = new Minijax();
+        minijax.register(resourceClass);
+
+        try (final MinijaxRequestContext ctx = new MinijaxTestRequestContext(minijax.getDefaultApplication(), "GET", "/widgets/abc?n=3")) {
+            ((MinijaxUriInfo) ctx.getUriInfo()).setPathParameters(new MultivaluedHashMap<>(Collections.singletonMap("id", "abc")));
+            assertEquals("abc:3", get.invoke(null, ctx));
+        }
+
+        try (final MinijaxRequestContext ctx = new MinijaxTestRequestContext(minijax.getDefaultApplication(), "GET", "/widgets/abc")) {
+            ((MinijaxUriInfo) ctx.getUriInfo()).setPathParameters(new MultivaluedHashMap<>(Collections.singletonMap("id", "abc")));
+            assertEquals("abc:5", get.invoke(null, ctx));
+        }
+
+        assertNull(delete.invoke(resourceClass.getConstructor().newInstance(), null));
+    }
+
+    @Test
+    void testGeneratedModule() throws Exception {
+        compile();
+
+        final MinijaxInjectorModule module = (MinijaxInjectorModule) load("com.example.MinijaxGeneratedModule").getConstructor().newInstance();
+        final List<String> types = new ArrayList<>();
+        for (final MinijaxFactory<?> factory : module.getFactories()) {
+            types.add(factory.getType().getName());
+        }
+        assertEquals(Arrays.asList(
+                "com.example.WidgetResource",
+                "com.example.providers.HiddenProvider",
+                "com.example.services.Clock",
+                "com.example.services.Greeter"), types);
+
+        final String services = new String(
+                Files.readAllBytes(tempDir.resolve(MinijaxProcessor.MODULE_SERVICE_FILE)),
+                StandardCharsets.UTF_8);
+        assertEquals("com.example.MinijaxGeneratedModule", services.trim());
+
+        final Class<?> greeterClass = load("com.example.services.Greeter");
+        try (final MinijaxInjector injector = new MinijaxInjector()) {
+            injector.addModule(module);
+            injector.bind(load("com.example.services.Hello"), load("com.example.services.Greeting"), "hello");
+
+            assertFalse(injector.getProvider(greeterClass) instanceof ConstructorProvider);
+            assertEquals("hello:true", greeterClass.getMethod("greet").invoke(injector.getResource(greeterClass)));
+        }
+    }
+
+    private void compile(final String... processorOptions) throws IOException, URISyntaxException {
+        final Path sourceDir = tempDir.resolve("src");
+        write(sourceDir.resolve("com/example/WidgetResource.java"), WIDGET_SOURCE);
+        write(sourceDir.resolve("com/example/providers/HiddenProvider.java"), PROVIDER_SOURCE);
+        write(sourceDir.resolve("com/example/services/Greeter.java"), GREETER_SOURCE);
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (final StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            final List<File> sources = Arrays.asList(
+                    sourceDir.resolve("com/example/WidgetResource.java").toFile(),
+                    sourceDir.resolve("com/example/providers/HiddenProvider.java").toFile(),
+                    sourceDir.resolve("com/example/services/Greeter.java").toFile());
+
+            final List<String> options = new ArrayList<>(Arrays.asList(
+                    "-classpath", getClassPath(),
+                    "-d", tempDir.toString(),
+                    "-s", tempDir.resolve("generated").toString()));
+            options.addAll(Arrays.asList(processorOptions));
+            Files.createDirectories(tempDir.resolve("generated"));
+
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(sources));
+            task.setProcessors(Collections.singletonList(new MinijaxProcessor()));
+            assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+        }
+
+        classLoader = new URLClassLoader(new URL[] { tempDir.toUri().toURL() }, ProcessorTest.class.getClassLoader());
+    }
+
+    private Class<?> load(final String name) throws ClassNotFoundException {
+        return Class.forName(name, true, classLoader);
+    }
+
+    private static void write(final Path path, final String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String getClassPath() throws URISyntaxException {
+        final List<String> paths = new ArrayList<>();
+        for (final Class<?> c : Arrays.asList(
+                PathParam.class,
+                Inject.class,
+                InjectionException.class,
+                MinijaxDispatcher.class,
+                MinijaxProvider.class,
+                MinijaxException.class,
+                Logger.class)) {
+            paths.add(new File(c.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath());
+        }
+        return String.join(File.pathSeparator, paths);
+    }
+}
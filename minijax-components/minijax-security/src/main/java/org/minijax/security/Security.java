@@ -25,6 +25,8 @@
 import org.mindrot.jbcrypt.BCrypt;
 import org.minijax.commons.IdUtils;
 import org.minijax.commons.MinijaxProperties;
+import org.minijax.rs.MinijaxRoleDictionary;
+import org.minijax.rs.MinijaxSecurityContext;
 
 /**
  * The Security class manages logging in and out of the application.
@@ -37,7 +39,7 @@
  */
 @Provider
 @RequestScoped
-public class Security<T extends SecurityUser> implements SecurityContext {
+public class Security<T extends SecurityUser> implements MinijaxSecurityContext {
     public static final int MINIMUM_PASSWORD_LENGTH = 8;
     public static final String COOKIE_NAME = "a";
     private static final String COOKIE_PATH = "/";
@@ -375,6 +377,19 @@ public boolean isUserInRole(final String role) {
         return user != null && user.hasRole(role);
     }
 
+    /**
+     * Returns the bitset of the user's roles.
+     *
+     * The mask is computed from the parsed role list of the user, and cached on the user.
+     *
+     * @param dictionary The role dictionary of the application.
+     * @return The role bitset.
+     */
+    @Override
+    public long getRoleMask(final MinijaxRoleDictionary dictionary) {
+        return user == null ? 0L : user.getRoleMask(dictionary);
+    }
+
     @Override
     public boolean isSecure() {
         return true;
@@ -1,6 +1,9 @@
 package org.minijax.security;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import jakarta.json.bind.annotation.JsonbTransient;
 import jakarta.persistence.Column;
@@ -10,6 +13,7 @@
 
 import org.mindrot.jbcrypt.BCrypt;
 import org.minijax.dao.DefaultNamedEntity;
+import org.minijax.rs.MinijaxRoleDictionary;
 
 /**
  * The SecurityUser class is an abstract base class for "security" entities
@@ -31,6 +35,9 @@ public abstract class SecurityUser extends DefaultNamedEntity {
     @JsonbTransient
     private String passwordHash;
 
+    private transient volatile RoleList roleList;
+    private transient volatile RoleMask roleMask;
+
     public String getEmail() {
         return email;
     }
@@ -65,7 +72,99 @@ public void setRoles(final String... roles) {
         this.roles = Arrays.asList(roles).toString();
     }
 
+    /**
+     * Returns the user roles as a list.
+     *
+     * The parsed list is cached until the roles string changes.  The cache is keyed on the
+     * string itself, because the persistence provider can set the field directly.
+     *
+     * @return The user roles.
+     */
+    @JsonbTransient
+    public List<String> getRoleList() {
+        return getRoleList(roles);
+    }
+
     public boolean hasRole(final String role) {
-        return roles != null && roles.contains(role);
+        return getRoleList().contains(role);
+    }
+
+    /**
+     * Returns the bitset of the user roles in a role dictionary.
+     *
+     * The mask is cached until the roles string or the dictionary changes.
+     *
+     * @param dictionary The role dictionary.
+     * @return The role bitset.
+     */
+    public long getRoleMask(final MinijaxRoleDictionary dictionary) {
+        final String current = roles;
+        final RoleMask cached = roleMask;
+        final int size = dictionary.size();
+        if (cached != null && cached.roles == current && cached.dictionary == dictionary && cached.size == size) {
+            return cached.mask;
+        }
+        final long mask = dictionary.getMask(getRoleList(current));
+        roleMask = new RoleMask(current, dictionary, size, mask);
+        return mask;
+    }
+
+    private List<String> getRoleList(final String current) {
+        final RoleList cached = roleList;
+        // Identity is enough, because the same string always parses to the same roles
+        if (cached != null && cached.roles == current) {
+            return cached.list;
+        }
+        final List<String> list = parseRoles(current);
+        roleList = new RoleList(current, list);
+        return list;
+    }
+
+    /**
+     * Parses a roles string, such as <code>[user, admin]</code>.
+     *
+     * @param str The roles string.
+     * @return The role names.
+     */
+    static List<String> parseRoles(final String str) {
+        if (str == null) {
+            return Collections.emptyList();
+        }
+        String value = str.trim();
+        if (value.startsWith("[") && value.endsWith("]")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        final List<String> result = new ArrayList<>();
+        for (final String role : value.split(",")) {
+            final String trimmed = role.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static class RoleList {
+        final String roles;
+        final List<String> list;
+
+        RoleList(final String roles, final List<String> list) {
+            this.roles = roles;
+            this.list = list;
+        }
+    }
+
+    private static class RoleMask {
+        final String roles;
+        final MinijaxRoleDictionary dictionary;
+        final int size;
+        final long mask;
+
+        RoleMask(final String roles, final MinijaxRoleDictionary dictionary, final int size, final long mask) {
+            this.roles = roles;
+            this.dictionary = dictionary;
+            this.size = size;
+            this.mask = mask;
+        }
     }
 }
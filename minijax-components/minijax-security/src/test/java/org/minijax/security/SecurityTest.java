@@ -4,6 +4,9 @@
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
 
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotAuthorizedException;
@@ -17,6 +20,7 @@
 import org.minijax.commons.IdUtils;
 import org.minijax.commons.MinijaxProperties;
 import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxRoleDictionary;
 import org.minijax.rs.test.MinijaxTest;
 
 class SecurityTest extends MinijaxTest {
@@ -148,6 +152,66 @@ void testCookie() {
         assertEquals(SecurityContext.FORM_AUTH, security.getAuthenticationScheme());
         assertTrue(security.isUserInRole("admin"));
         assertFalse(security.isUserInRole("foo"));
+
+        final MinijaxRoleDictionary dictionary = new MinijaxRoleDictionary();
+        dictionary.register("user");
+        dictionary.register("admin");
+        assertEquals(2L, security.getRoleMask(dictionary));
+    }
+
+    @Test
+    void testParseRoles() {
+        assertEquals(Collections.emptyList(), SecurityUser.parseRoles(null));
+        assertEquals(Collections.emptyList(), SecurityUser.parseRoles("[]"));
+        assertEquals(Arrays.asList("user", "admin"), SecurityUser.parseRoles("[user, admin]"));
+        assertEquals(Arrays.asList("user", "admin"), SecurityUser.parseRoles("user,admin"));
+    }
+
+    @Test
+    void testHasRoleExactMatch() {
+        final User user = new User();
+        user.setRoles("superadmin");
+        assertTrue(user.hasRole("superadmin"));
+        assertFalse(user.hasRole("admin"));
+    }
+
+    @Test
+    void testRolesSetByPersistenceProvider() throws ReflectiveOperationException {
+        final MinijaxRoleDictionary dictionary = new MinijaxRoleDictionary();
+        dictionary.register("user");
+        dictionary.register("admin");
+
+        final User user = new User();
+        user.setRoles("admin");
+        assertTrue(user.hasRole("admin"));
+        assertEquals(2L, user.getRoleMask(dictionary));
+
+        // JPA providers with field access, refresh and merge write the field directly
+        final Field field = SecurityUser.class.getDeclaredField("roles");
+        field.setAccessible(true);
+        field.set(user, "[user]");
+        assertFalse(user.hasRole("admin"));
+        assertTrue(user.hasRole("user"));
+        assertEquals(1L, user.getRoleMask(dictionary));
+    }
+
+    @Test
+    void testUserRoleMask() {
+        final MinijaxRoleDictionary dictionary = new MinijaxRoleDictionary();
+        dictionary.register("user");
+        dictionary.register("admin");
+
+        final User user = new User();
+        user.setRoles("admin", "editor");
+        assertEquals(2L, user.getRoleMask(dictionary));
+
+        // New dictionary roles are picked up
+        dictionary.register("editor");
+        assertEquals(6L, user.getRoleMask(dictionary));
+
+        // Changing the roles resets the mask
+        user.setRoles("user");
+        assertEquals(1L, user.getRoleMask(dictionary));
     }
 
     @Test
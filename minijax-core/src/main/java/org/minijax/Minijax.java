@@ -21,13 +21,13 @@
 import org.minijax.commons.MinijaxProperties;
 import org.minijax.rs.MinijaxApplication;
 import org.minijax.rs.MinijaxCacheControlFilter;
+import org.minijax.rs.MinijaxRegistries;
 import org.minijax.rs.MinijaxRequestContext;
 import org.minijax.rs.MinijaxServer;
 import org.minijax.rs.MinijaxStaticResource;
 import org.minijax.rs.test.MinijaxTestClient;
 import org.minijax.rs.test.MinijaxTestRequestContext;
 import org.minijax.rs.test.MinijaxTestWebTarget;
-import org.minijax.rs.util.ClassPathScanner;
 import org.minijax.rs.util.UrlUtils;
 
 /**
@@ -192,7 +192,7 @@ public Minijax register(final Object component, final Map<Class<?>, Integer> con
     }
 
     public Minijax packages(final String... packageNames) {
-        for (final Class<?> c : ClassPathScanner.scan(packageNames)) {
+        for (final Class<?> c : MinijaxRegistries.getClasses(packageNames)) {
             register(c);
         }
         return this;
@@ -236,6 +236,31 @@ public Minijax secure(final String keyStorePath, final String keyStorePassword,
         return this;
     }
 
+    /**
+     * Enables per-thread request context recycling in the server.
+     *
+     * Each server thread reuses its request context, URI info and headers objects between
+     * requests.  Resources must not keep a reference to the request context, or to objects
+     * obtained from it, after the request ends.
+     *
+     * @return The Minijax container.
+     */
+    public Minijax recycleContexts() {
+        return property(MinijaxProperties.RECYCLE_CONTEXTS, "true");
+    }
+
+    /**
+     * Enables request context leak detection.
+     *
+     * Recycled contexts are not reused, and any use of a request context after its request
+     * ended is logged with the stack trace of the release.  Intended for development only.
+     *
+     * @return The Minijax container.
+     */
+    public Minijax detectContextLeaks() {
+        return property(MinijaxProperties.DETECT_CONTEXT_LEAKS, "true");
+    }
+
     public Minijax defaultCacheControl(final CacheControl defaultCacheControl) {
         getDefaultApplication().register(new MinijaxCacheControlFilter(defaultCacheControl));
         return this;
@@ -266,6 +291,10 @@ public void start(final int port) {
 
     @SuppressWarnings("unchecked")
     public void start() {
+        for (final MinijaxApplication application : applications) {
+            application.freeze();
+        }
+
         if (server == null) {
             try {
                 final String serviceFile = "META-INF/services/org.minijax.MinijaxServer";
@@ -0,0 +1,26 @@
+package org.minijax.rs;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables automatic entity tags for a resource method, or for all resource methods of a class.
+ *
+ * On servers that buffer the response body, a successful GET response without an
+ * <code>ETag</code> header gets a strong entity tag computed from the serialized body.  If the
+ * request's <code>If-None-Match</code> header matches, the body is dropped and the response is
+ * sent as 304 (Not Modified).
+ *
+ * The resource method still runs and the entity is still serialized, so this saves bandwidth,
+ * not server work.  Use <code>Request.evaluatePreconditions()</code> to avoid the work as well.
+ *
+ * @see MinijaxAutoETag
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface AutoETag {
+}
@@ -1,7 +1,5 @@
 package org.minijax.rs;
 
-import static jakarta.ws.rs.HttpMethod.*;
-
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -10,25 +8,22 @@
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
-import jakarta.annotation.security.DenyAll;
-import jakarta.annotation.security.PermitAll;
-import jakarta.annotation.security.RolesAllowed;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.ws.rs.ApplicationPath;
 import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.CookieParam;
-import jakarta.ws.rs.ForbiddenException;
 import jakarta.ws.rs.FormParam;
 import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.HttpMethod;
-import jakarta.ws.rs.NotAuthorizedException;
+import jakarta.ws.rs.NotAcceptableException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.QueryParam;
@@ -43,19 +38,21 @@
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.Feature;
 import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.SecurityContext;
 import jakarta.ws.rs.ext.ExceptionMapper;
 import jakarta.ws.rs.ext.MessageBodyReader;
 import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.ParamConverter;
 import jakarta.ws.rs.ext.ParamConverterProvider;
 import jakarta.ws.rs.ext.ReaderInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptor;
 
 import org.minijax.cdi.MinijaxInjector;
 import org.minijax.cdi.MinijaxProvider;
+import org.minijax.cdi.SingletonProvider;
 import org.minijax.cdi.annotation.DefaultFieldAnnotationProcessor;
 import org.minijax.commons.MinijaxException;
 import org.minijax.commons.OptionalClasses;
@@ -69,9 +66,9 @@
 import org.minijax.rs.cdi.RequestScopedAnnotationProcessor;
 import org.minijax.rs.converters.ConstructorParamConverterProvider;
 import org.minijax.rs.converters.PrimitiveParamConverterProvider;
+import org.minijax.rs.converters.StringParamConverterProvider;
 import org.minijax.rs.converters.UuidParamConverterProvider;
 import org.minijax.rs.converters.ValueOfParamConverterProvider;
-import org.minijax.rs.util.ClassPathScanner;
 import org.minijax.rs.util.MediaTypeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -91,20 +88,29 @@ public class MinijaxApplication extends Application implements Configuration, Fe
     private final List<Class<? extends WriterInterceptor>> writerInterceptors;
     private final List<Class<? extends MessageBodyReader<?>>> readers;
     private final List<Class<? extends MessageBodyWriter<?>>> writers;
+    private final MinijaxEntityProviderCache readerCache;
+    private final MinijaxEntityProviderCache writerCache;
     private final List<Class<? extends ExceptionMapper<?>>> exceptionMappers;
+    private final MinijaxExceptionMappers exceptionMapperTable;
     private final List<ParamConverterProvider> paramConverterProviders;
+    private final MinijaxRoleDictionary roleDictionary;
+    private final RequestScopedAnnotationProcessor<?> requestScopedProcessor;
     private Class<? extends SecurityContext> securityContextClass;
+    private volatile MinijaxRouter router;
+    private volatile MinijaxFilterChain globalFilters;
+    private volatile MinijaxProviders sharedProviders;
 
     public MinijaxApplication(final String path) {
         this.path = path;
         injector = new MinijaxInjector();
-        injector.addTypeAnnotationProcessor(RequestScoped.class, new RequestScopedAnnotationProcessor<>());
+        requestScopedProcessor = new RequestScopedAnnotationProcessor<>();
+        injector.addTypeAnnotationProcessor(RequestScoped.class, requestScopedProcessor);
         injector.addFieldAnnotationProcessor(BeanParam.class, new DefaultFieldAnnotationProcessor<>());
-        injector.addFieldAnnotationProcessor(CookieParam.class, new CookieParamAnnotationProcessor<>());
-        injector.addFieldAnnotationProcessor(FormParam.class, new FormParamAnnotationProcessor<>());
-        injector.addFieldAnnotationProcessor(HeaderParam.class, new HeaderParamAnnotationProcessor<>());
-        injector.addFieldAnnotationProcessor(PathParam.class, new PathParamAnnotationProcessor<>());
-        injector.addFieldAnnotationProcessor(QueryParam.class, new QueryParamAnnotationProcessor<>());
+        injector.addFieldAnnotationProcessor(CookieParam.class, new CookieParamAnnotationProcessor<>(this::getParamConverter));
+        injector.addFieldAnnotationProcessor(FormParam.class, new FormParamAnnotationProcessor<>(this::getParamConverter));
+        injector.addFieldAnnotationProcessor(HeaderParam.class, new HeaderParamAnnotationProcessor<>(this::getParamConverter));
+        injector.addFieldAnnotationProcessor(PathParam.class, new PathParamAnnotationProcessor<>(this::getParamConverter));
+        injector.addFieldAnnotationProcessor(QueryParam.class, new QueryParamAnnotationProcessor<>(this::getParamConverter));
         injector.addFieldAnnotationProcessor(Context.class, new ContextAnnotationProcessor<>());
 
         configuration = new MinijaxConfiguration();
@@ -118,8 +124,13 @@ public MinijaxApplication(final String path) {
         writerInterceptors = new ArrayList<>();
         readers = new ArrayList<>();
         writers = new ArrayList<>();
+        readerCache = new MinijaxEntityProviderCache();
+        writerCache = new MinijaxEntityProviderCache();
         exceptionMappers = new ArrayList<>();
+        roleDictionary = new MinijaxRoleDictionary();
+        exceptionMapperTable = new MinijaxExceptionMappers();
         paramConverterProviders = new ArrayList<>();
+        paramConverterProviders.add(new StringParamConverterProvider());
         paramConverterProviders.add(new PrimitiveParamConverterProvider());
         paramConverterProviders.add(new ConstructorParamConverterProvider());
         paramConverterProviders.add(new ValueOfParamConverterProvider());
@@ -153,6 +164,25 @@ public MinijaxInjector getInjector() {
         return injector;
     }
 
+    /**
+     * Returns the number of request-scoped providers, which is the size of each request's
+     * <code>ResourceCache</code>.
+     *
+     * @return The number of request-scoped providers.
+     */
+    int getRequestScopedSlotCount() {
+        return requestScopedProcessor.getSlotCount();
+    }
+
+    /**
+     * Returns the dictionary of roles used by <code>@RolesAllowed</code> annotations.
+     *
+     * @return The role dictionary.
+     */
+    public MinijaxRoleDictionary getRoleDictionary() {
+        return roleDictionary;
+    }
+
     public <T> T getResource(final Class<T> c) {
         return getInjector().getResource(c, null);
     }
@@ -320,7 +350,7 @@ public MinijaxApplication register(final Object component, final Map<Class<?>, I
     }
 
     public MinijaxApplication packages(final String... packageNames) {
-        for (final Class<?> c : ClassPathScanner.scan(packageNames)) {
+        for (final Class<?> c : MinijaxRegistries.getClasses(packageNames)) {
             register(c);
         }
         return this;
@@ -344,14 +374,55 @@ List<Class<? extends MessageBodyWriter<?>>> getWriters() {
         return writers;
     }
 
+    MinijaxEntityProviderCache getReaderCache() {
+        return readerCache;
+    }
+
+    MinijaxEntityProviderCache getWriterCache() {
+        return writerCache;
+    }
+
     List<Class<? extends ExceptionMapper<?>>> getExceptionMappers() {
         return exceptionMappers;
     }
 
+    /**
+     * Returns the <code>Providers</code> view shared by all requests.
+     *
+     * @return The shared view, or null if the application is not frozen or has request scoped providers.
+     */
+    MinijaxProviders getSharedProviders() {
+        return sharedProviders;
+    }
+
+    Class<? extends ExceptionMapper<?>> getExceptionMapper(final Class<?> exceptionType) {
+        return exceptionMapperTable.get(exceptionType);
+    }
+
     List<ParamConverterProvider> getParamConverterProviders() {
         return paramConverterProviders;
     }
 
+    /**
+     * Returns the first param converter for the type.
+     *
+     * The built-in converter providers are always checked before user providers.
+     *
+     * @param rawType The raw type of the object to be converted.
+     * @param genericType The type of object to be converted.
+     * @param annotations The annotations associated with the parameter.
+     * @return The param converter, or null if no provider supports the type.
+     */
+    public <T> ParamConverter<T> getParamConverter(final Class<T> rawType, final Type genericType, final Annotation[] annotations) {
+        for (final ParamConverterProvider provider : paramConverterProviders) {
+            final ParamConverter<T> converter = provider.getConverter(rawType, genericType, annotations);
+            if (converter != null) {
+                return converter;
+            }
+        }
+        return null;
+    }
+
     /*
      * Private helpers
      */
@@ -370,10 +441,12 @@ private void registerImpl(final Class<?> c) {
 
         if (MessageBodyReader.class.isAssignableFrom(c)) {
             readers.add((Class<MessageBodyReader<?>>) c);
+            readerCache.clear();
         }
 
         if (MessageBodyWriter.class.isAssignableFrom(c)) {
             writers.add((Class<MessageBodyWriter<?>>) c);
+            writerCache.clear();
         }
 
         if (ReaderInterceptor.class.isAssignableFrom(c)) {
@@ -386,6 +459,7 @@ private void registerImpl(final Class<?> c) {
 
         if (ExceptionMapper.class.isAssignableFrom(c)) {
             exceptionMappers.add((Class<ExceptionMapper<?>>) c);
+            exceptionMapperTable.add((Class<ExceptionMapper<?>>) c);
         }
 
         if (ParamConverterProvider.class.isAssignableFrom(c)) {
@@ -393,6 +467,10 @@ private void registerImpl(final Class<?> c) {
         }
 
         classesScanned.add(c);
+
+        if (router != null) {
+            updateSharedProviders();
+        }
     }
 
     /**
@@ -427,23 +505,151 @@ private void registerApplication(final Class<?> c) {
     }
 
     private void registerResourceMethods(final Class<?> c) {
+        final MinijaxDispatcher dispatcher = MinijaxRegistries.getDispatcher(c);
         for (final Method method : c.getDeclaredMethods()) {
             for (final Annotation annotation : method.getAnnotations()) {
                 final HttpMethod httpMethod = annotation.annotationType().getAnnotation(HttpMethod.class);
                 if (httpMethod != null) {
-                    addResourceMethod(new MinijaxResourceMethod(httpMethod.value(), method, getParamProviders(method)));
+                    addResourceMethod(createResourceMethod(httpMethod.value(), method, dispatcher));
                 }
             }
         }
     }
 
-    public void addResourceMethod(final MinijaxResourceMethod rm) {
+    /**
+     * Creates a resource method.
+     *
+     * Uses the generated invoker if the resource class was compiled with the annotation processor.
+     * Otherwise builds the param providers with the injector.
+     *
+     * @param httpMethod The HTTP method.
+     * @param method The Java method.
+     * @param dispatcher The generated dispatcher for the resource class, or null.
+     * @return The resource method.
+     */
+    private MinijaxResourceMethod createResourceMethod(final String httpMethod, final Method method, final MinijaxDispatcher dispatcher) {
+        if (dispatcher != null) {
+            final MinijaxDispatcher.Invoker invoker = dispatcher.getInvoker(MinijaxDispatcher.getMethodKey(method));
+            if (invoker != null) {
+                return MinijaxResourceMethod.withGeneratedInvoker(httpMethod, method, invoker);
+            }
+        }
+        return new MinijaxResourceMethod(httpMethod, method, getParamProviders(method));
+    }
+
+    /**
+     * Adds a resource method.
+     *
+     * During the registration phase, the resource method is only recorded.  Sorting, route table
+     * construction, and <code>DynamicFeature</code> callbacks are deferred to <code>freeze()</code>.
+     *
+     * Resource methods added after the application is frozen are configured immediately,
+     * and the route table is rebuilt and replaced (copy-on-write).
+     *
+     * @param rm The resource method.
+     */
+    public synchronized void addResourceMethod(final MinijaxResourceMethod rm) {
+        rm.setAuthorization(MinijaxAuthorization.compile(rm.getSecurityAnnotation(), roleDictionary));
+        resourceMethods.add(rm);
+
+        if (router != null) {
+            configureDynamicFeatures(rm);
+            router = buildRouter();
+        }
+    }
+
+    /**
+     * Ends the registration phase and builds the route table.
+     *
+     * Runs the <code>DynamicFeature</code> callbacks for all registered resource methods,
+     * sorts the resource methods once, and builds the immutable route table.  The injector
+     * providers of all registered classes are built, and the provider table is frozen.
+     *
+     * This is called automatically by <code>Minijax.start()</code> and on the first request.
+     * Calling it more than once has no effect.
+     */
+    public synchronized void freeze() {
+        if (router != null) {
+            return;
+        }
+
+        // Dynamic features may register additional resource methods,
+        // so iterate by index rather than with an iterator.
+        for (int i = 0; i < resourceMethods.size(); i++) {
+            configureDynamicFeatures(resourceMethods.get(i));
+        }
+
+        // Build the providers of all registered classes up front,
+        // so that the first requests do not pay for reflection.
+        injector.prepare(new ArrayList<>(classesScanned));
+        router = buildRouter();
+        updateSharedProviders();
+        injector.freeze();
+    }
+
+    /**
+     * Returns true if the registration phase has ended.
+     *
+     * @return True if the route table has been built.
+     */
+    public boolean isFrozen() {
+        return router != null;
+    }
+
+    private void configureDynamicFeatures(final MinijaxResourceMethod rm) {
         for (final DynamicFeature dynamicFeature : dynamicFeatures) {
             dynamicFeature.configure(rm, this);
         }
+    }
 
-        resourceMethods.add(rm);
-        MinijaxResourceMethod.sortByLiteralLength(resourceMethods);
+    private MinijaxRouter buildRouter() {
+        buildFilterChains();
+        final List<MinijaxResourceMethod> sorted = new ArrayList<>(resourceMethods);
+        MinijaxResourceMethod.sortByLiteralLength(sorted);
+        return new MinijaxRouter(sorted);
+    }
+
+    /**
+     * Compiles the filter chain of each resource method.
+     *
+     * Synthetic resource methods created by the router use the chain of global filters.
+     */
+    private void buildFilterChains() {
+        final Map<Class<?>, MinijaxFilterChain.Entry> entries = new HashMap<>();
+        final List<MinijaxFilterChain.Entry> request = MinijaxFilterChain.buildEntries(requestFilters, entries, this);
+        final List<MinijaxFilterChain.Entry> response = MinijaxFilterChain.buildEntries(responseFilters, entries, this);
+        for (final MinijaxResourceMethod rm : resourceMethods) {
+            rm.setFilterChain(MinijaxFilterChain.build(request, response, rm.getResourceMethod()));
+        }
+        globalFilters = MinijaxFilterChain.build(request, response, null);
+    }
+
+    /**
+     * Shares one <code>Providers</code> view between requests if every registered reader,
+     * writer and exception mapper is a singleton.
+     */
+    private synchronized void updateSharedProviders() {
+        sharedProviders = isSingletons(readers) && isSingletons(writers) && isSingletons(exceptionMappers)
+                ? new MinijaxProviders(this)
+                : null;
+    }
+
+    private boolean isSingletons(final List<? extends Class<?>> classes) {
+        for (final Class<?> c : classes) {
+            if (!(injector.getProvider(c) instanceof SingletonProvider)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rebuilds the route table and filter chains if the application is already frozen.
+     */
+    private synchronized void rebuildIfFrozen() {
+        if (router != null) {
+            router = buildRouter();
+        }
     }
 
     private void registerWebSockets(final Class<?> c) {
@@ -478,13 +684,20 @@ private void registerDynamicFeature(final Class<?> c) {
 
     @SuppressWarnings("unchecked")
     private void registerFilter(final Class<?> c) {
-        if (ContainerRequestFilter.class.isAssignableFrom(c)) {
+        final boolean request = ContainerRequestFilter.class.isAssignableFrom(c);
+        final boolean response = ContainerResponseFilter.class.isAssignableFrom(c);
+
+        if (request) {
             requestFilters.add((Class<? extends ContainerRequestFilter>) c);
         }
 
-        if (ContainerResponseFilter.class.isAssignableFrom(c)) {
+        if (response) {
             responseFilters.add((Class<? extends ContainerResponseFilter>) c);
         }
+
+        if (request || response) {
+            rebuildIfFrozen();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -505,6 +718,7 @@ public Response handle(final MinijaxRequestContext context) {
 
         context.setResourceMethod(rm);
 
+        final MinijaxFilterChain filters = getFilterChain(rm);
         Response response = null;
 
         try {
@@ -512,8 +726,11 @@ public Response handle(final MinijaxRequestContext context) {
                 context.setSecurityContext(context.getResource(securityContextClass));
             }
 
-            runRequestFilters(context);
+            if (!filters.isEmpty()) {
+                filters.runRequestFilters(context);
+            }
             checkSecurity(context);
+            checkAcceptable(context, rm);
             response = context.toResponse(rm.invoke(context));
         } catch (final MinijaxAbortException ex) {
             response = ex.getResponse();
@@ -526,7 +743,9 @@ public Response handle(final MinijaxRequestContext context) {
         }
 
         try {
-            runResponseFilters(context, response);
+            if (!filters.isEmpty()) {
+                filters.runResponseFilters(context, (ContainerResponseContext) response);
+            }
             return response;
         } catch (final Exception ex) {
             // ContextResponseFilters should not throw exceptions, but they might
@@ -535,67 +754,39 @@ public Response handle(final MinijaxRequestContext context) {
         }
     }
 
-    private MinijaxResourceMethod findRoute(final String httpMethod, final MinijaxUriInfo uriInfo) {
-        for (final MinijaxResourceMethod rm : resourceMethods) {
-            if (rm.tryMatch(httpMethod, uriInfo)) {
-                return rm;
-            }
+    private static void checkAcceptable(final MinijaxRequestContext context, final MinijaxResourceMethod rm) {
+        if (!rm.getProduces().isEmpty() && rm.negotiate(context.getHeaderString(HttpHeaders.ACCEPT)).isEmpty()) {
+            throw new NotAcceptableException();
         }
-
-        if (httpMethod.equals(HEAD) || httpMethod.equals(OPTIONS)) {
-            return findRoute(GET, uriInfo);
-        }
-
-        return null;
     }
 
-    private void runRequestFilters(final MinijaxRequestContext context) throws IOException {
-        for (final Class<? extends ContainerRequestFilter> filterClass : requestFilters) {
-            final ContainerRequestFilter filter = context.getResource(filterClass);
-            filter.filter(context);
-        }
+    private MinijaxResourceMethod findRoute(final String httpMethod, final MinijaxUriInfo uriInfo) {
+        return getRouter().findRoute(httpMethod, uriInfo);
     }
 
-    private void runResponseFilters(final MinijaxRequestContext context, final Response response) throws IOException {
-        final ContainerResponseContext responseContext = (ContainerResponseContext) response;
-        for (final Class<? extends ContainerResponseFilter> filterClass : responseFilters) {
-            final ContainerResponseFilter filter = context.getResource(filterClass);
-            filter.filter(context, responseContext);
+    /**
+     * Returns the compiled route table, freezing the application if necessary.
+     *
+     * @return The route table.
+     */
+    private MinijaxRouter getRouter() {
+        final MinijaxRouter result = router;
+        if (result != null) {
+            return result;
         }
+        freeze();
+        return router;
     }
 
-    private void checkSecurity(final MinijaxRequestContext context) {
-        final Annotation a = context.getResourceMethod().getSecurityAnnotation();
-        if (a == null) {
-            return;
-        }
-
-        final Class<?> c = a.annotationType();
-        if (c == PermitAll.class) {
-            return;
-        }
-
-        if (c == DenyAll.class) {
-            throw new ForbiddenException();
-        }
-
-        if (c == RolesAllowed.class) {
-            final SecurityContext security = context.getSecurityContext();
-            if (security == null || security.getUserPrincipal() == null) {
-                throw new NotAuthorizedException(Response.status(Status.UNAUTHORIZED).build());
-            }
-
-            boolean found = false;
-            for (final String role : ((RolesAllowed) a).value()) {
-                if (security.isUserInRole(role)) {
-                    found = true;
-                    break;
-                }
-            }
+    private MinijaxFilterChain getFilterChain(final MinijaxResourceMethod rm) {
+        final MinijaxFilterChain chain = rm.getFilterChain();
+        return chain != null ? chain : globalFilters;
+    }
 
-            if (!found) {
-                throw new ForbiddenException();
-            }
+    private static void checkSecurity(final MinijaxRequestContext context) {
+        final MinijaxAuthorization authorization = context.getResourceMethod().getAuthorization();
+        if (authorization != null) {
+            authorization.check(context.getSecurityContext());
         }
     }
 
@@ -0,0 +1,118 @@
+package org.minijax.rs;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.ws.rs.ForbiddenException;
+import jakarta.ws.rs.NotAuthorizedException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.SecurityContext;
+
+/**
+ * The MinijaxAuthorization class is the precompiled security check of one resource method.
+ *
+ * <code>@RolesAllowed</code> roles are registered in the application role dictionary and
+ * compiled to a bitset.  Resource methods without a security annotation, or with
+ * <code>@PermitAll</code>, have no authorization object at all.
+ */
+class MinijaxAuthorization {
+    private static final String[] NO_ROLES = new String[0];
+    private final boolean denyAll;
+    private final MinijaxRoleDictionary dictionary;
+    private final String[] roles;
+    private final long mask;
+    private final String[] overflow;
+
+    private MinijaxAuthorization(
+            final boolean denyAll,
+            final MinijaxRoleDictionary dictionary,
+            final String[] roles,
+            final long mask,
+            final String[] overflow) {
+
+        this.denyAll = denyAll;
+        this.dictionary = dictionary;
+        this.roles = roles;
+        this.mask = mask;
+        this.overflow = overflow;
+    }
+
+    /**
+     * Compiles the authorization check for a security annotation.
+     *
+     * @param annotation The security annotation, or null.
+     * @param dictionary The application role dictionary.
+     * @return The authorization check, or null if access is always permitted.
+     */
+    static MinijaxAuthorization compile(final Annotation annotation, final MinijaxRoleDictionary dictionary) {
+        if (annotation == null) {
+            return null;
+        }
+
+        final Class<?> c = annotation.annotationType();
+        if (c == DenyAll.class) {
+            return new MinijaxAuthorization(true, dictionary, NO_ROLES, 0L, NO_ROLES);
+        }
+
+        if (c == RolesAllowed.class) {
+            final String[] roles = ((RolesAllowed) annotation).value();
+            final List<String> overflow = new ArrayList<>();
+            long mask = 0L;
+            for (final String role : roles) {
+                final int index = dictionary.register(role);
+                if (index >= 0) {
+                    mask |= 1L << index;
+                } else {
+                    overflow.add(role);
+                }
+            }
+            return new MinijaxAuthorization(false, dictionary, roles, mask, overflow.toArray(NO_ROLES));
+        }
+
+        return null;
+    }
+
+    long getMask() {
+        return mask;
+    }
+
+    /**
+     * Checks that the security context is allowed to access the resource method.
+     *
+     * @param security The security context, or null.
+     * @throws NotAuthorizedException if the user is not logged in.
+     * @throws ForbiddenException if the user does not have an allowed role.
+     */
+    void check(final SecurityContext security) {
+        if (denyAll) {
+            throw new ForbiddenException();
+        }
+
+        if (security == null || security.getUserPrincipal() == null) {
+            throw new NotAuthorizedException(Response.status(Status.UNAUTHORIZED).build());
+        }
+
+        if (security instanceof MinijaxSecurityContext) {
+            if ((((MinijaxSecurityContext) security).getRoleMask(dictionary) & mask) != 0L || anyRole(security, overflow)) {
+                return;
+            }
+        } else if (anyRole(security, roles)) {
+            return;
+        }
+
+        throw new ForbiddenException();
+    }
+
+    private static boolean anyRole(final SecurityContext security, final String[] roles) {
+        for (final String role : roles) {
+            if (security.isUserInRole(role)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,154 @@
+package org.minijax.rs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * The MinijaxAutoETag class implements <code>@AutoETag</code> for servers that buffer the
+ * response body.
+ *
+ * After the entity is serialized, and before any bytes are written to the client, the server
+ * calls <code>apply()</code>.  The entity tag is a 64-bit FNV-1a hash of the body.  FNV-1a is
+ * not a cryptographic hash, but it is fast, and an entity tag only needs to change when the
+ * body changes.  The request preconditions are then evaluated with the new tag, so
+ * <code>If-None-Match</code> and <code>If-Match</code> behave exactly as with
+ * <code>Request.evaluatePreconditions()</code>.
+ *
+ * The number of tagged responses, and how many of them were answered with 304 (Not Modified),
+ * are counted so that the hit rate can be monitored.
+ */
+public class MinijaxAutoETag {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final LongAdder TAGGED = new LongAdder();
+    private static final LongAdder NOT_MODIFIED = new LongAdder();
+
+    MinijaxAutoETag() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns true if a response should get an automatic entity tag.
+     *
+     * The resource method must have <code>@AutoETag</code>, the request must be a GET, and the
+     * response must be a 200 without an <code>ETag</code> header.
+     *
+     * @param ctx The request context.
+     * @param response The response.
+     * @return True if the response should be tagged.
+     */
+    public static boolean isEnabled(final MinijaxRequestContext ctx, final Response response) {
+        final MinijaxResourceMethod rm = ctx.getResourceMethod();
+        return rm != null
+                && rm.isAutoETag()
+                && HttpMethod.GET.equals(ctx.getMethod())
+                && response.getStatus() == Status.OK.getStatusCode()
+                && response instanceof ContainerResponseContext
+                && !response.getHeaders().containsKey(HttpHeaders.ETAG);
+    }
+
+    /**
+     * Tags a buffered response, and evaluates the request preconditions.
+     *
+     * If the preconditions fail, the response status is changed to 304 or 412, the entity is
+     * removed, and the caller must not send the body.
+     *
+     * @param ctx The request context.
+     * @param response The response.
+     * @param body The serialized response body.
+     * @return True if the body should be sent; false if the response no longer has a body.
+     */
+    public static boolean apply(final MinijaxRequestContext ctx, final Response response, final ByteArrayOutputStream body) {
+        if (!isEnabled(ctx, response)) {
+            return true;
+        }
+
+        final EntityTag tag = new EntityTag(hash(body));
+        response.getHeaders().putSingle(HttpHeaders.ETAG, tag);
+        TAGGED.increment();
+
+        final ResponseBuilder precondition = ctx.getRequest().evaluatePreconditions(tag);
+        if (precondition == null) {
+            return true;
+        }
+
+        final int status = precondition.build().getStatus();
+        if (status == Status.NOT_MODIFIED.getStatusCode()) {
+            NOT_MODIFIED.increment();
+        }
+
+        final ContainerResponseContext responseContext = (ContainerResponseContext) response;
+        responseContext.setStatus(status);
+        responseContext.setEntity(null);
+        responseContext.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+        return false;
+    }
+
+    /**
+     * Returns the number of responses that were given an automatic entity tag.
+     *
+     * @return The number of tagged responses.
+     */
+    public static long getTaggedCount() {
+        return TAGGED.sum();
+    }
+
+    /**
+     * Returns the number of tagged responses that were answered with 304 (Not Modified).
+     *
+     * @return The number of 304 responses.
+     */
+    public static long getNotModifiedCount() {
+        return NOT_MODIFIED.sum();
+    }
+
+    /**
+     * Returns the fraction of tagged responses that were answered with 304 (Not Modified).
+     *
+     * @return The 304 hit rate between 0 and 1, or 0 if no responses were tagged.
+     */
+    public static double getNotModifiedRate() {
+        final long tagged = TAGGED.sum();
+        return tagged == 0 ? 0.0 : (double) NOT_MODIFIED.sum() / tagged;
+    }
+
+    static String hash(final ByteArrayOutputStream body) {
+        final HashOutputStream out = new HashOutputStream();
+        try {
+            // writeTo passes the internal buffer, so the body is not copied
+            body.writeTo(out);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final String hex = Long.toHexString(out.hash);
+        return "0000000000000000".substring(hex.length()) + hex;
+    }
+
+    private static class HashOutputStream extends OutputStream {
+        long hash = FNV_OFFSET_BASIS;
+
+        @Override
+        public void write(final int b) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            long h = hash;
+            for (int i = off; i < off + len; i++) {
+                h = (h ^ (b[i] & 0xff)) * FNV_PRIME;
+            }
+            hash = h;
+        }
+    }
+}
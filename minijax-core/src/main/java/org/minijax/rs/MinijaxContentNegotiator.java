@@ -0,0 +1,171 @@
+package org.minijax.rs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * The MinijaxContentNegotiator class implements server-driven content negotiation for one
+ * resource method.
+ *
+ * The <code>Accept</code> header is intersected with the <code>@Produces</code> list of the
+ * resource method.  Each produced type gets the quality value of the most specific matching
+ * media range; types with quality 0 are not acceptable.  The result is ordered by quality,
+ * and ties keep the <code>@Produces</code> order.
+ *
+ * Results are memoized per <code>Accept</code> string.  Real clients send a small number of
+ * distinct values, so the table is bounded, and the common browser and command line values
+ * are computed up front.
+ */
+class MinijaxContentNegotiator {
+    static final int MAX_DECISIONS = 64;
+    private static final String ANY = "*/*";
+    private static final List<String> COMMON_ACCEPT = Arrays.asList(
+            ANY,
+            "application/json",
+            "application/json, text/plain, */*",
+            "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8",
+            "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8",
+            "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,image/apng,*/*;q=0.8");
+    private final List<MediaType> produces;
+    private final Map<String, List<MediaType>> decisions;
+
+    MinijaxContentNegotiator(final List<MediaType> produces) {
+        this.produces = produces;
+        this.decisions = new ConcurrentHashMap<>();
+        if (!produces.isEmpty()) {
+            for (final String accept : COMMON_ACCEPT) {
+                decisions.put(accept, negotiateImpl(accept));
+            }
+        }
+    }
+
+    /**
+     * Returns the acceptable produced media types in order of preference.
+     *
+     * If the resource method does not declare <code>@Produces</code>, returns an empty list,
+     * and the caller should not treat the request as unacceptable.
+     *
+     * @param accept The <code>Accept</code> header value, or null.
+     * @return The acceptable media types, or an empty list if none are acceptable.
+     */
+    List<MediaType> negotiate(final String accept) {
+        if (produces.isEmpty()) {
+            return produces;
+        }
+
+        final String key = accept == null || accept.isEmpty() ? ANY : accept;
+        final List<MediaType> cached = decisions.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final List<MediaType> result = negotiateImpl(key);
+        if (decisions.size() < MAX_DECISIONS) {
+            decisions.put(key, result);
+        }
+        return result;
+    }
+
+    int size() {
+        return decisions.size();
+    }
+
+    private List<MediaType> negotiateImpl(final String accept) {
+        final List<AcceptRange> ranges = parseAccept(accept);
+        final List<Candidate> candidates = new ArrayList<>();
+
+        for (int i = 0; i < produces.size(); i++) {
+            final MediaType mediaType = produces.get(i);
+            final AcceptRange range = findBestRange(ranges, mediaType);
+            if (range != null && range.quality > 0) {
+                candidates.add(new Candidate(mediaType, range.quality, i));
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        candidates.sort((a, b) -> a.quality != b.quality ? Double.compare(b.quality, a.quality) : Integer.compare(a.index, b.index));
+
+        final List<MediaType> result = new ArrayList<>(candidates.size());
+        for (final Candidate candidate : candidates) {
+            result.add(candidate.mediaType);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static AcceptRange findBestRange(final List<AcceptRange> ranges, final MediaType mediaType) {
+        AcceptRange best = null;
+        for (final AcceptRange range : ranges) {
+            if (range.mediaType.isCompatible(mediaType) && (best == null || range.specificity > best.specificity)) {
+                best = range;
+            }
+        }
+        return best;
+    }
+
+    private static List<AcceptRange> parseAccept(final String accept) {
+        final List<AcceptRange> result = new ArrayList<>();
+        for (final String part : accept.split(",")) {
+            final String trimmed = part.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                result.add(new AcceptRange(MediaType.valueOf(trimmed)));
+            } catch (final IllegalArgumentException ex) {
+                // Ignore malformed media ranges
+            }
+        }
+        return result;
+    }
+
+    private static double parseQuality(final String str) {
+        if (str == null) {
+            return 1.0;
+        }
+        try {
+            final double q = Double.parseDouble(str);
+            return q < 0.0 || q > 1.0 ? 1.0 : q;
+        } catch (final NumberFormatException ex) {
+            return 1.0;
+        }
+    }
+
+    private static class AcceptRange {
+        final MediaType mediaType;
+        final double quality;
+        final int specificity;
+
+        AcceptRange(final MediaType mediaType) {
+            this.mediaType = mediaType;
+            this.quality = parseQuality(mediaType.getParameters().get("q"));
+            if (mediaType.isWildcardType()) {
+                specificity = 0;
+            } else if (mediaType.isWildcardSubtype()) {
+                specificity = 1;
+            } else {
+                specificity = 2;
+            }
+        }
+    }
+
+    private static class Candidate {
+        final MediaType mediaType;
+        final double quality;
+        final int index;
+
+        Candidate(final MediaType mediaType, final double quality, final int index) {
+            this.mediaType = mediaType;
+            this.quality = quality;
+            this.index = index;
+        }
+    }
+}
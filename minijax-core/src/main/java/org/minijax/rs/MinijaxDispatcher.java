@@ -0,0 +1,83 @@
+package org.minijax.rs;
+
+import java.lang.reflect.Method;
+
+/**
+ * The MinijaxDispatcher interface is implemented by classes generated at compile time by
+ * the minijax-processor annotation processor.
+ *
+ * A dispatcher provides direct, reflection-free invokers for the resource methods of one
+ * resource class.  Resource methods without a generated invoker are called through the
+ * default runtime path.
+ */
+public interface MinijaxDispatcher {
+
+    /**
+     * Returns the resource class handled by this dispatcher.
+     *
+     * @return The resource class.
+     */
+    Class<?> getResourceClass();
+
+    /**
+     * Returns the generated invoker for a resource method.
+     *
+     * @param methodKey The method key, as returned by <code>getMethodKey</code>.
+     * @return The invoker, or null if the method does not have a generated invoker.
+     */
+    Invoker getInvoker(String methodKey);
+
+    /**
+     * Returns the key that identifies a resource method within its class.
+     *
+     * The key is the method name followed by the comma separated parameter type names
+     * in parentheses, for example <code>get(java.lang.String,int)</code>.
+     *
+     * @param method The resource method.
+     * @return The method key.
+     */
+    static String getMethodKey(final Method method) {
+        final StringBuilder b = new StringBuilder();
+        b.append(method.getName()).append('(');
+        final Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                b.append(',');
+            }
+            b.append(types[i].getCanonicalName());
+        }
+        return b.append(')').toString();
+    }
+
+    static String getPathParam(final MinijaxRequestContext ctx, final String name, final String defaultValue) {
+        final String value = ((MinijaxUriInfo) ctx.getUriInfo()).getPathParameter(name);
+        return value == null ? defaultValue : value;
+    }
+
+    static String getQueryParam(final MinijaxRequestContext ctx, final String name, final String defaultValue) {
+        final String value = ctx.getUriInfo().getQueryParameters().getFirst(name);
+        return value == null ? defaultValue : value;
+    }
+
+    static String getHeaderParam(final MinijaxRequestContext ctx, final String name, final String defaultValue) {
+        final String value = ctx.getHeaderString(name);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * A generated resource method invoker.
+     */
+    @FunctionalInterface
+    interface Invoker {
+
+        /**
+         * Extracts the parameters from the request and calls the resource method.
+         *
+         * @param instance The resource instance, or null for static methods.
+         * @param ctx The request context.
+         * @return The method result, or null for void methods.
+         * @throws Exception if the resource method throws.
+         */
+        Object invoke(Object instance, MinijaxRequestContext ctx) throws Exception;
+    }
+}
@@ -0,0 +1,124 @@
+package org.minijax.rs;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * The MinijaxEntityProviderCache class caches the <code>MessageBodyReader</code> or
+ * <code>MessageBodyWriter</code> selected for a (type, media type) pair.
+ *
+ * The key uses only the type and subtype of the media type.  Parameters such as
+ * <code>charset</code> or the multipart <code>boundary</code> are ignored, so that the
+ * cache stays small.  The size is also capped; once full, new selections are not cached.
+ *
+ * The cache is cleared when a reader or writer is registered.
+ */
+class MinijaxEntityProviderCache {
+    static final int MAX_SIZE = 1024;
+    private volatile Map<Key, Selection> selections = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached selection.
+     *
+     * @param type The entity type.
+     * @param mediaType The media type.
+     * @return The selection, or null if not cached.
+     */
+    Selection get(final Class<?> type, final MediaType mediaType) {
+        return selections.get(new Key(type, mediaType));
+    }
+
+    /**
+     * Caches a selection.
+     *
+     * @param type The entity type.
+     * @param mediaType The media type.
+     * @param selection The selection.
+     */
+    void put(final Class<?> type, final MediaType mediaType, final Selection selection) {
+        final Map<Key, Selection> current = selections;
+        if (current.size() < MAX_SIZE) {
+            current.put(new Key(type, mediaType), selection);
+        }
+    }
+
+    /**
+     * Clears the cache.
+     */
+    void clear() {
+        selections = new ConcurrentHashMap<>();
+    }
+
+    int size() {
+        return selections.size();
+    }
+
+    /**
+     * A selected provider.
+     *
+     * Built-in providers are shared instances.  Registered providers are stored by class and
+     * resolved through the providers view, so their scope is respected.
+     */
+    static class Selection {
+        static final Selection NONE = new Selection(null, null);
+        private final Object instance;
+        private final Class<?> providerClass;
+
+        private Selection(final Object instance, final Class<?> providerClass) {
+            this.instance = instance;
+            this.providerClass = providerClass;
+        }
+
+        static Selection ofInstance(final Object instance) {
+            return new Selection(instance, null);
+        }
+
+        static Selection ofClass(final Class<?> providerClass) {
+            return new Selection(null, providerClass);
+        }
+
+        Object resolve(final MinijaxProviders providers) {
+            if (instance != null) {
+                return instance;
+            }
+            return providerClass == null ? null : providers.getResource(providerClass);
+        }
+    }
+
+    private static class Key {
+        private final Class<?> type;
+        private final String mediaType;
+        private final String mediaSubtype;
+        private final int hash;
+
+        Key(final Class<?> type, final MediaType mediaType) {
+            this.type = type;
+            this.mediaType = mediaType == null ? null : mediaType.getType().toLowerCase(Locale.ROOT);
+            this.mediaSubtype = mediaType == null ? null : mediaType.getSubtype().toLowerCase(Locale.ROOT);
+            this.hash = (31 * Objects.hashCode(type) + Objects.hashCode(this.mediaType)) * 31 + Objects.hashCode(this.mediaSubtype);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return type == other.type
+                    && Objects.equals(mediaType, other.mediaType)
+                    && Objects.equals(mediaSubtype, other.mediaSubtype);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.minijax.rs;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.ws.rs.ext.ExceptionMapper;
+
+/**
+ * The MinijaxExceptionMappers class is the exception mapper table for one application.
+ *
+ * The mapped exception type of each mapper is resolved once at registration.  Lookups walk
+ * the superclass chain of the exception and select the mapper for the nearest type, as
+ * required by the JAX-RS specification.  If several mappers handle the same type, the first
+ * registered mapper wins.
+ *
+ * Lookup results are cached per exception class in a <code>ClassValue</code>.  Registering a
+ * mapper replaces the cache.
+ */
+class MinijaxExceptionMappers {
+    private volatile MapperCache cache = new MapperCache(new HashMap<>());
+
+    /**
+     * Adds an exception mapper class.
+     *
+     * @param mapperClass The exception mapper class.
+     */
+    synchronized void add(final Class<? extends ExceptionMapper<?>> mapperClass) {
+        final Map<Class<?>, Class<? extends ExceptionMapper<?>>> copy = new HashMap<>(cache.mappers);
+        copy.putIfAbsent(getExceptionType(mapperClass), mapperClass);
+        cache = new MapperCache(copy);
+    }
+
+    /**
+     * Returns the exception mapper class for the nearest mapped type.
+     *
+     * @param exceptionType The exception class.
+     * @return The exception mapper class, or null if no mapper handles the exception.
+     */
+    Class<? extends ExceptionMapper<?>> get(final Class<?> exceptionType) {
+        return cache.get(exceptionType);
+    }
+
+    /**
+     * Returns the exception type handled by an exception mapper class.
+     *
+     * Walks the class hierarchy to find the <code>ExceptionMapper</code> type argument,
+     * so mappers that extend a generic base class or implement other interfaces are supported.
+     *
+     * @param mapperClass The exception mapper class.
+     * @return The mapped exception type, or <code>Throwable</code> if it cannot be resolved.
+     */
+    static Class<?> getExceptionType(final Class<?> mapperClass) {
+        final Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+        Type current = mapperClass;
+
+        while (current != null && current != Object.class) {
+            final Class<?> c;
+            if (current instanceof ParameterizedType) {
+                final ParameterizedType pt = (ParameterizedType) current;
+                c = (Class<?>) pt.getRawType();
+                final TypeVariable<?>[] vars = c.getTypeParameters();
+                final Type[] args = pt.getActualTypeArguments();
+                for (int i = 0; i < vars.length; i++) {
+                    bindings.put(vars[i], resolve(args[i], bindings));
+                }
+            } else {
+                c = (Class<?>) current;
+            }
+
+            for (final Type t : c.getGenericInterfaces()) {
+                if (t instanceof ParameterizedType && ((ParameterizedType) t).getRawType() == ExceptionMapper.class) {
+                    final Type arg = resolve(((ParameterizedType) t).getActualTypeArguments()[0], bindings);
+                    if (arg instanceof Class) {
+                        return (Class<?>) arg;
+                    }
+                    if (arg instanceof ParameterizedType) {
+                        return (Class<?>) ((ParameterizedType) arg).getRawType();
+                    }
+                }
+            }
+
+            current = c.getGenericSuperclass();
+        }
+
+        return Throwable.class;
+    }
+
+    private static Type resolve(final Type t, final Map<TypeVariable<?>, Type> bindings) {
+        if (t instanceof TypeVariable) {
+            final Type bound = bindings.get(t);
+            return bound == null ? t : bound;
+        }
+        return t;
+    }
+
+    private static class MapperCache extends ClassValue<Class<? extends ExceptionMapper<?>>> {
+        private final Map<Class<?>, Class<? extends ExceptionMapper<?>>> mappers;
+
+        MapperCache(final Map<Class<?>, Class<? extends ExceptionMapper<?>>> mappers) {
+            this.mappers = mappers;
+        }
+
+        @Override
+        protected Class<? extends ExceptionMapper<?>> computeValue(final Class<?> type) {
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                final Class<? extends ExceptionMapper<?>> mapperClass = mappers.get(c);
+                if (mapperClass != null) {
+                    return mapperClass;
+                }
+            }
+            return null;
+        }
+    }
+}
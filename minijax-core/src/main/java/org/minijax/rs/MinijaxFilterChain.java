@@ -0,0 +1,164 @@
+package org.minijax.rs;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+
+import org.minijax.cdi.MinijaxProvider;
+import org.minijax.cdi.SingletonProvider;
+
+/**
+ * The MinijaxFilterChain class is the immutable list of request and response filters
+ * that apply to one resource method.
+ *
+ * Filter chains are compiled when the route table is built.  A filter applies to a resource
+ * method if the resource method or its class has all of the filter's <code>@NameBinding</code>
+ * annotations; filters without name binding annotations apply to every resource method.
+ * Request filters run in ascending <code>@Priority</code> order, and response filters in
+ * descending order.  Filters with the same priority run in registration order.
+ */
+class MinijaxFilterChain {
+    static final MinijaxFilterChain EMPTY = new MinijaxFilterChain(new Entry[0], new Entry[0]);
+    private final Entry[] requestFilters;
+    private final Entry[] responseFilters;
+
+    private MinijaxFilterChain(final Entry[] requestFilters, final Entry[] responseFilters) {
+        this.requestFilters = requestFilters;
+        this.responseFilters = responseFilters;
+    }
+
+    /**
+     * Compiles the filter chain for a resource method.
+     *
+     * @param requestFilters The request filter entries, in registration order.
+     * @param responseFilters The response filter entries, in registration order.
+     * @param method The Java method, or null for synthetic resource methods.
+     * @return The filter chain.
+     */
+    static MinijaxFilterChain build(final List<Entry> requestFilters, final List<Entry> responseFilters, final Method method) {
+        final Set<Class<? extends Annotation>> bindings = getNameBindings(method);
+        final Entry[] request = select(requestFilters, bindings, Comparator.comparingInt(e -> e.priority));
+        final Entry[] response = select(responseFilters, bindings, Comparator.comparingInt((final Entry e) -> e.priority).reversed());
+        return request.length == 0 && response.length == 0 ? EMPTY : new MinijaxFilterChain(request, response);
+    }
+
+    /**
+     * Creates the entries for a list of filter classes.
+     *
+     * @param filterClasses The filter classes.
+     * @param entries The entries by filter class, shared between request and response filters.
+     * @param application The application.
+     * @return The entries, in registration order.
+     */
+    static List<Entry> buildEntries(
+            final List<? extends Class<?>> filterClasses,
+            final Map<Class<?>, Entry> entries,
+            final MinijaxApplication application) {
+
+        final List<Entry> result = new ArrayList<>(filterClasses.size());
+        for (final Class<?> filterClass : filterClasses) {
+            result.add(entries.computeIfAbsent(filterClass, c -> new Entry(c, application.getInjector().getProvider(c))));
+        }
+        return result;
+    }
+
+    boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    int getRequestFilterCount() {
+        return requestFilters.length;
+    }
+
+    int getResponseFilterCount() {
+        return responseFilters.length;
+    }
+
+    void runRequestFilters(final MinijaxRequestContext context) throws IOException {
+        for (final Entry entry : requestFilters) {
+            ((ContainerRequestFilter) entry.get(context)).filter(context);
+        }
+    }
+
+    void runResponseFilters(final MinijaxRequestContext context, final ContainerResponseContext responseContext) throws IOException {
+        for (final Entry entry : responseFilters) {
+            ((ContainerResponseFilter) entry.get(context)).filter(context, responseContext);
+        }
+    }
+
+    private static Entry[] select(final List<Entry> entries, final Set<Class<? extends Annotation>> bindings, final Comparator<Entry> order) {
+        final List<Entry> result = new ArrayList<>();
+        for (final Entry entry : entries) {
+            if (bindings.containsAll(entry.nameBindings)) {
+                result.add(entry);
+            }
+        }
+        result.sort(order);
+        return result.toArray(new Entry[result.size()]);
+    }
+
+    private static Set<Class<? extends Annotation>> getNameBindings(final Method method) {
+        final Set<Class<? extends Annotation>> result = new HashSet<>();
+        if (method != null) {
+            addNameBindings(result, method.getAnnotations());
+            addNameBindings(result, method.getDeclaringClass().getAnnotations());
+        }
+        return result;
+    }
+
+    private static void addNameBindings(final Set<Class<? extends Annotation>> result, final Annotation[] annotations) {
+        for (final Annotation annotation : annotations) {
+            if (annotation.annotationType().isAnnotationPresent(NameBinding.class)) {
+                result.add(annotation.annotationType());
+            }
+        }
+    }
+
+    /**
+     * A filter in a chain.
+     *
+     * Singleton filters are cached directly in the entry after the first request.
+     * Other filters are resolved through their injector provider on each request.
+     */
+    static class Entry {
+        private final MinijaxProvider<?> provider;
+        private final boolean singleton;
+        private final int priority;
+        private final Set<Class<? extends Annotation>> nameBindings;
+        private volatile Object instance;
+
+        Entry(final Class<?> filterClass, final MinijaxProvider<?> provider) {
+            this.provider = provider;
+            this.singleton = provider instanceof SingletonProvider;
+            final Priority p = filterClass.getAnnotation(Priority.class);
+            this.priority = p == null ? Priorities.USER : p.value();
+            this.nameBindings = new HashSet<>();
+            addNameBindings(nameBindings, filterClass.getAnnotations());
+        }
+
+        Object get(final MinijaxRequestContext context) {
+            final Object cached = instance;
+            if (cached != null) {
+                return cached;
+            }
+            final Object result = provider.get(context);
+            if (singleton) {
+                instance = result;
+            }
+            return result;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package org.minijax.rs;
 
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -10,6 +9,7 @@
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 
+import org.minijax.rs.util.CookieMap;
 import org.minijax.rs.util.LocaleUtils;
 import org.minijax.rs.util.MediaTypeUtils;
 
@@ -18,6 +18,17 @@ public abstract class MinijaxHttpHeaders implements HttpHeaders {
     private List<MediaType> acceptableMediaTypes;
     private Map<String, Cookie> cookies;
 
+    /**
+     * Clears the parsed header values, so that the headers object can be reused.
+     *
+     * Subclasses that cache their own values should override this method.
+     */
+    protected void reset() {
+        acceptableLanguages = null;
+        acceptableMediaTypes = null;
+        cookies = null;
+    }
+
     @Override
     public List<MediaType> getAcceptableMediaTypes() {
         if (acceptableMediaTypes == null) {
@@ -37,7 +48,7 @@ public List<Locale> getAcceptableLanguages() {
     @Override
     public MediaType getMediaType() {
         final String contentType = getHeaderString("Content-Type");
-        return contentType == null ? null : MediaType.valueOf(contentType);
+        return MediaTypeUtils.parseMediaType(contentType);
     }
 
     @Override
@@ -67,29 +78,8 @@ public Date getDate() {
     @Override
     public Map<String, Cookie> getCookies() {
         if (cookies == null) {
-            buildCookies();
+            cookies = new CookieMap(getRequestHeader("Cookie"));
         }
         return cookies;
     }
-
-    private void buildCookies() {
-        cookies = new HashMap<>();
-
-        final List<String> cookieStrList = getRequestHeader("Cookie");
-        if (cookieStrList == null) {
-            return;
-        }
-
-        for (final String line : cookieStrList) {
-            for (final String chunk : line.split(";")) {
-                final String[] parts = chunk.split("=", 2);
-                final String key = parts[0].trim();
-                String value = parts[1].trim();
-                if (value.startsWith("\"") && value.endsWith("\"")) {
-                    value = value.substring(1, value.length() - 1);
-                }
-                cookies.put(key, new Cookie(key, value));
-            }
-        }
-    }
 }
@@ -0,0 +1,274 @@
+package org.minijax.rs;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.minijax.cdi.MinijaxProvider;
+
+/**
+ * The MinijaxMethodInvoker class calls a resource method.
+ *
+ * Invokers are created once per resource method when the resource method is registered.
+ * The method handle is adapted to a generic (Object...)Object type, and there are dedicated
+ * invokers for static and instance methods with up to four parameters, so the common case
+ * does not allocate a parameter array.  Methods that cannot be unreflected fall back to
+ * <code>Method.invoke</code>.
+ */
+abstract class MinijaxMethodInvoker {
+    private static final int MAX_SPECIALIZED_ARITY = 4;
+
+    /**
+     * Invokes the method.
+     *
+     * Exceptions thrown by the method are propagated as-is.
+     *
+     * @param instance The resource instance, or null for static methods.
+     * @param providers The parameter providers.
+     * @param ctx The request context.
+     * @return The method result.
+     * @throws Throwable if the method throws.
+     */
+    abstract Object invoke(Object instance, MinijaxProvider<?>[] providers, MinijaxRequestContext ctx) throws Throwable;
+
+    static MinijaxMethodInvoker create(final Method method) {
+        final MethodHandle handle = unreflect(method);
+        if (handle == null) {
+            return new ReflectionInvoker(method);
+        }
+
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+        final int arity = method.getParameterCount();
+        final MethodHandle mh = handle.asType(MethodType.genericMethodType(isStatic ? arity : arity + 1));
+
+        if (arity > MAX_SPECIALIZED_ARITY) {
+            return isStatic
+                    ? new StaticSpreadInvoker(mh.asSpreader(Object[].class, arity))
+                    : new InstanceSpreadInvoker(mh.asSpreader(Object[].class, arity));
+        }
+
+        if (isStatic) {
+            switch (arity) {
+            case 0:
+                return new Static0(mh);
+            case 1:
+                return new Static1(mh);
+            case 2:
+                return new Static2(mh);
+            case 3:
+                return new Static3(mh);
+            default:
+                return new Static4(mh);
+            }
+        }
+
+        switch (arity) {
+        case 0:
+            return new Instance0(mh);
+        case 1:
+            return new Instance1(mh);
+        case 2:
+            return new Instance2(mh);
+        case 3:
+            return new Instance3(mh);
+        default:
+            return new Instance4(mh);
+        }
+    }
+
+    private static MethodHandle unreflect(final Method method) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        } catch (final RuntimeException | IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    private static Object[] getParams(final MinijaxProvider<?>[] providers, final MinijaxRequestContext ctx) {
+        final Object[] params = new Object[providers.length];
+        for (int i = 0; i < providers.length; ++i) {
+            params[i] = providers[i].get(ctx);
+        }
+        return params;
+    }
+
+    private static class Static0 extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        Static0(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact();
+        }
+    }
+
+    private static class Static1 extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        Static1(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(p[0].get(ctx));
+        }
+    }
+
+    private static class Static2 extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        Static2(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(p[0].get(ctx), p[1].get(ctx));
+        }
+    }
+
+    private static class Static3 extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        Static3(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(p[0].get(ctx), p[1].get(ctx), p[2].get(ctx));
+        }
+    }
+
+    private static class Static4 extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        Static4(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(p[0].get(ctx), p[1].get(ctx), p[2].get(ctx), p[3].get(ctx));
+        }
+    }
+
+    private static class StaticSpreadInvoker extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        StaticSpreadInvoker(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(getParams(p, ctx));
+        }
+    }
+
+    private static class Instance0 extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        Instance0(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(instance);
+        }
+    }
+
+    private static class Instance1 extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        Instance1(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(instance, p[0].get(ctx));
+        }
+    }
+
+    private static class Instance2 extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        Instance2(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(instance, p[0].get(ctx), p[1].get(ctx));
+        }
+    }
+
+    private static class Instance3 extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        Instance3(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(instance, p[0].get(ctx), p[1].get(ctx), p[2].get(ctx));
+        }
+    }
+
+    private static class Instance4 extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        Instance4(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(instance, p[0].get(ctx), p[1].get(ctx), p[2].get(ctx), p[3].get(ctx));
+        }
+    }
+
+    private static class InstanceSpreadInvoker extends MinijaxMethodInvoker {
+        private final MethodHandle mh;
+
+        InstanceSpreadInvoker(final MethodHandle mh) {
+            this.mh = mh;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            return mh.invokeExact(instance, getParams(p, ctx));
+        }
+    }
+
+    /**
+     * Fallback invoker for methods that cannot be converted to a method handle.
+     */
+    static class ReflectionInvoker extends MinijaxMethodInvoker {
+        private final Method method;
+
+        ReflectionInvoker(final Method method) {
+            this.method = method;
+        }
+
+        @Override
+        Object invoke(final Object instance, final MinijaxProvider<?>[] p, final MinijaxRequestContext ctx) throws Throwable {
+            try {
+                return method.invoke(instance, getParams(p, ctx));
+            } catch (final InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.minijax.rs;
+
+import static jakarta.ws.rs.HttpMethod.*;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * The MinijaxOptionsResource class answers OPTIONS requests for paths without an explicit OPTIONS method.
+ *
+ * Instances are created by the router when the route table is built, so the Allow header value
+ * is computed once per path.
+ */
+class MinijaxOptionsResource extends MinijaxResourceMethod {
+    private final String allow;
+
+    MinijaxOptionsResource(final MinijaxResourceMethod template, final String allow) {
+        super(OPTIONS, template);
+        this.allow = allow;
+    }
+
+    String getAllow() {
+        return allow;
+    }
+
+    @Override
+    Object invoke(final MinijaxRequestContext ctx) {
+        return Response.ok().header(HttpHeaders.ALLOW, allow).build();
+    }
+}
@@ -21,13 +21,18 @@ class MinijaxPathPattern {
     private static final String HEX_DIGITS_REGEX = "(\\p{XDigit}+)";
     private static final String EXP_REGEX = "[eE][+-]?" + DIGITS_REGEX;
     private static final String DOUBLE_REGEX = getDoubleRegex();
+    static final String STRING_REGEX = "[^/]+";
+    static final String INTEGER_REGEX = "-?[0-9]+";
+    static final String UUID_REGEX = "[0-9a-f]{8}-?[0-9a-f]{4}-?[0-9a-f]{4}-?[0-9a-f]{4}-?[0-9a-f]{12}";
     private static final MultivaluedHashMap<String, String> EMPTY_PARAMS = new MultivaluedHashMap<>();
     private final String patternString;
     private final Pattern pattern;
     private final List<String> params;
+    private final List<Segment> segments;
 
-    private MinijaxPathPattern(final String patternString, final List<String> params) {
+    private MinijaxPathPattern(final String patternString, final List<String> params, final List<Segment> segments) {
         this.patternString = patternString;
+        this.segments = segments;
         if (params == null) {
             this.pattern = null;
             this.params = null;
@@ -49,8 +54,19 @@ List<String> getParams() {
         return params;
     }
 
+    /**
+     * Returns the path segments of the pattern.
+     *
+     * Returns null if the path cannot be split into segments (i.e., it does not start with a slash).
+     *
+     * @return The list of path segments.
+     */
+    List<Segment> getSegments() {
+        return segments;
+    }
+
     public MultivaluedMap<String, String> tryMatch(final MinijaxUriInfo uriInfo) {
-        final String requestPath = uriInfo.getRequestUri().getPath();
+        final String requestPath = uriInfo.getPath();
 
         if (params == null) {
             // Simple case, no params, no regex
@@ -78,9 +94,15 @@ private static class Builder {
         private final String path;
         private final StringBuilder regexBuilder = new StringBuilder();
         private final StringBuilder paramBuilder = new StringBuilder();
+        private final List<Segment> segments = new ArrayList<>();
         private List<String> params;
         private int curlyDepth;
         private int index;
+        private int segmentStart = 1;
+        private int segmentParamCount;
+        private String segmentParamName;
+        private String segmentParamRegex;
+        private boolean segmentDefaultRegex;
 
         Builder(final Method method, final String path) {
             this.method = method;
@@ -103,7 +125,9 @@ MinijaxPathPattern build() {
                 throw new IllegalArgumentException("Unexpected end of input, missing '}'");
             }
 
-            return new MinijaxPathPattern(regexBuilder.toString(), params);
+            addSegment();
+            final boolean segmented = path.startsWith("/");
+            return new MinijaxPathPattern(regexBuilder.toString(), params, segmented ? segments : null);
         }
 
         private void handleOpen() {
@@ -128,10 +152,26 @@ private void handleOther(final char c) {
             if (curlyDepth > 0) {
                 paramBuilder.append(c);
             } else {
+                if (c == '/' && index > 0) {
+                    addSegment();
+                    segmentStart = index + 1;
+                }
                 regexBuilder.append(c);
             }
         }
 
+        private void addSegment() {
+            final String text = path.substring(Math.min(segmentStart, path.length()), index);
+            if (segmentParamCount == 0) {
+                segments.add(new Segment(SegmentType.LITERAL, text, null, null, false));
+            } else if (segmentParamCount == 1 && text.startsWith("{") && text.endsWith("}")) {
+                segments.add(new Segment(SegmentType.TEMPLATE, text, segmentParamName, segmentParamRegex, segmentDefaultRegex));
+            } else {
+                segments.add(new Segment(SegmentType.COMPLEX, text, null, null, false));
+            }
+            segmentParamCount = 0;
+        }
+
         private void addParam() {
             final String paramStr = paramBuilder.toString();
             paramBuilder.setLength(0);
@@ -160,13 +200,18 @@ private void addParam() {
             }
             params.add(paramName);
             regexBuilder.append("(?<").append(paramName).append(">").append(paramRegex).append(")");
+
+            segmentParamCount++;
+            segmentParamName = paramName;
+            segmentParamRegex = paramRegex;
+            segmentDefaultRegex = colonIndex < 0;
         }
 
         private String getDefaultPathParamRegex(final String paramName) {
             final Class<?> c = getPathParamType(paramName);
 
             if (c == int.class || c == long.class || c == short.class) {
-                return "-?[0-9]+";
+                return INTEGER_REGEX;
             }
 
             if (c == double.class || c == float.class) {
@@ -174,10 +219,10 @@ private String getDefaultPathParamRegex(final String paramName) {
             }
 
             if (c == UUID.class) {
-                return "[0-9a-f]{8}-?[0-9a-f]{4}-?[0-9a-f]{4}-?[0-9a-f]{4}-?[0-9a-f]{12}";
+                return UUID_REGEX;
             }
 
-            return "[^/]+";
+            return STRING_REGEX;
         }
 
         private Class<?> getPathParamType(final String paramName) {
@@ -210,6 +255,73 @@ private Class<?> getPathParamType(final String paramName) {
         }
     }
 
+    enum SegmentType {
+        /**
+         * Plain literal text, such as "users".
+         */
+        LITERAL,
+
+        /**
+         * A single template parameter spanning the entire segment, such as "{id}".
+         */
+        TEMPLATE,
+
+        /**
+         * Anything else, such as "{id}.json" or "{a}-{b}".
+         */
+        COMPLEX
+    }
+
+    /**
+     * The Segment class represents one slash-delimited segment of a path pattern.
+     */
+    static class Segment {
+        private final SegmentType type;
+        private final String text;
+        private final String paramName;
+        private final String paramRegex;
+        private final boolean defaultRegex;
+
+        Segment(
+                final SegmentType type,
+                final String text,
+                final String paramName,
+                final String paramRegex,
+                final boolean defaultRegex) {
+            this.type = type;
+            this.text = text;
+            this.paramName = paramName;
+            this.paramRegex = paramRegex;
+            this.defaultRegex = defaultRegex;
+        }
+
+        SegmentType getType() {
+            return type;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        String getParamName() {
+            return paramName;
+        }
+
+        String getParamRegex() {
+            return paramRegex;
+        }
+
+        /**
+         * Returns true if the parameter regex was derived from the parameter type,
+         * rather than explicitly specified as "{name: regex}".
+         *
+         * @return True if the parameter uses a default regex.
+         */
+        boolean isDefaultRegex() {
+            return defaultRegex;
+        }
+    }
+
     /**
      * Returns a regular expression for strings parseable by Double.valueOf.
      *
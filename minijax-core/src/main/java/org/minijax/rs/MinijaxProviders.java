@@ -1,7 +1,6 @@
 package org.minijax.rs;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
 import jakarta.ws.rs.core.MediaType;
@@ -10,94 +9,138 @@
 import jakarta.ws.rs.ext.MessageBodyReader;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.ParamConverter;
-import jakarta.ws.rs.ext.ParamConverterProvider;
 import jakarta.ws.rs.ext.Providers;
 
+import org.minijax.rs.MinijaxEntityProviderCache.Selection;
 import org.minijax.rs.writers.FileBodyWriter;
 import org.minijax.rs.writers.InputStreamBodyWriter;
 import org.minijax.rs.writers.StringBodyWriter;
 
+/**
+ * The MinijaxProviders class is the <code>Providers</code> view of an application.
+ *
+ * A view bound to a request context resolves registered providers in the scope of the request.
+ * If every registered reader, writer and exception mapper is a singleton, the application
+ * shares one view without a request context between all requests.
+ */
 public class MinijaxProviders implements Providers {
     private static final StringBodyWriter STRING_WRITER = new StringBodyWriter();
     private static final InputStreamBodyWriter INPUT_STREAM_WRITER = new InputStreamBodyWriter();
     private static final FileBodyWriter FILE_WRITER = new FileBodyWriter();
+    private final MinijaxApplication application;
     private final MinijaxRequestContext context;
 
     public MinijaxProviders(final MinijaxRequestContext context) {
+        this.application = context.getApplication();
         this.context = context;
     }
 
+    MinijaxProviders(final MinijaxApplication application) {
+        this.application = application;
+        this.context = null;
+    }
+
     @Override
-    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @SuppressWarnings("unchecked")
     public <T> MessageBodyReader<T> getMessageBodyReader(
             final Class<T> type,
             final Type genericType,
             final Annotation[] annotations,
             final MediaType mediaType) {
 
-        for (final Class<? extends MessageBodyReader<?>> readerClass : context.getApplication().getReaders()) {
-            final MessageBodyReader reader = context.getResource(readerClass);
-            if (reader.isReadable(type, genericType, annotations, mediaType)) {
-                return reader;
-            }
+        final MinijaxEntityProviderCache cache = application.getReaderCache();
+        Selection selection = cache.get(type, mediaType);
+        if (selection == null) {
+            selection = findReader(type, genericType, annotations, mediaType);
+            cache.put(type, mediaType, selection);
         }
-        return null;
+        return (MessageBodyReader<T>) selection.resolve(this);
     }
 
     @Override
-    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @SuppressWarnings("unchecked")
     public <T> MessageBodyWriter<T> getMessageBodyWriter(
             final Class<T> type,
             final Type genericType,
             final Annotation[] annotations,
             final MediaType mediaType) {
 
-        if (STRING_WRITER.isWriteable(type, genericType, annotations, mediaType)) {
-            return (MessageBodyWriter<T>) STRING_WRITER;
+        final MinijaxEntityProviderCache cache = application.getWriterCache();
+        Selection selection = cache.get(type, mediaType);
+        if (selection == null) {
+            selection = findWriter(type, genericType, annotations, mediaType);
+            cache.put(type, mediaType, selection);
         }
-
-        if (INPUT_STREAM_WRITER.isWriteable(type, genericType, annotations, mediaType)) {
-            return (MessageBodyWriter<T>) INPUT_STREAM_WRITER;
-        }
-
-        if (FILE_WRITER.isWriteable(type, genericType, annotations, mediaType)) {
-            return (MessageBodyWriter<T>) FILE_WRITER;
-        }
-
-        for (final Class<? extends MessageBodyWriter<?>> writerClass : context.getApplication().getWriters()) {
-            final MessageBodyWriter writer = context.getResource(writerClass);
-            if (writer.isWriteable(type, genericType, annotations, mediaType)) {
-                return writer;
-            }
-        }
-        return null;
+        return (MessageBodyWriter<T>) selection.resolve(this);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Throwable> ExceptionMapper<T> getExceptionMapper(final Class<T> type) {
-        for (final Class<? extends ExceptionMapper<?>> exceptionMapperClass : context.getApplication().getExceptionMappers()) {
-            final ParameterizedType parameterizedType = (ParameterizedType) exceptionMapperClass.getGenericInterfaces()[0];
-            final Class<? extends Exception> exClass = (Class<? extends Exception>) parameterizedType.getActualTypeArguments()[0];
-            if (exClass.isAssignableFrom(type)) {
-                return (ExceptionMapper<T>) context.getResource(exceptionMapperClass);
-            }
-        }
-        return null;
+        final Class<? extends ExceptionMapper<?>> exceptionMapperClass = application.getExceptionMapper(type);
+        return exceptionMapperClass == null ? null : (ExceptionMapper<T>) getResource(exceptionMapperClass);
     }
 
     public <T> ParamConverter<T> getParamConverter(final Class<T> rawType, final Type genericType, final Annotation[] annotations) {
-        for (final ParamConverterProvider provider : context.getApplication().getParamConverterProviders()) {
-            final ParamConverter<T> converter = provider.getConverter(rawType, genericType, annotations);
-            if (converter != null) {
-                return converter;
-            }
-        }
-        return null;
+        return application.getParamConverter(rawType, genericType, annotations);
     }
 
     @Override
     public <T> ContextResolver<T> getContextResolver(final Class<T> contextType, final MediaType mediaType) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Returns a registered provider instance.
+     *
+     * @param c The provider class.
+     * @return The provider instance.
+     */
+    <T> T getResource(final Class<T> c) {
+        return context != null ? context.getResource(c) : application.getInjector().getResource(c);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Selection findReader(
+            final Class<?> type,
+            final Type genericType,
+            final Annotation[] annotations,
+            final MediaType mediaType) {
+
+        for (final Class<? extends MessageBodyReader<?>> readerClass : application.getReaders()) {
+            final MessageBodyReader reader = getResource(readerClass);
+            if (reader.isReadable(type, genericType, annotations, mediaType)) {
+                return Selection.ofClass(readerClass);
+            }
+        }
+        return Selection.NONE;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Selection findWriter(
+            final Class<?> type,
+            final Type genericType,
+            final Annotation[] annotations,
+            final MediaType mediaType) {
+
+        if (STRING_WRITER.isWriteable(type, genericType, annotations, mediaType)) {
+            return Selection.ofInstance(STRING_WRITER);
+        }
+
+        if (INPUT_STREAM_WRITER.isWriteable(type, genericType, annotations, mediaType)) {
+            return Selection.ofInstance(INPUT_STREAM_WRITER);
+        }
+
+        if (FILE_WRITER.isWriteable(type, genericType, annotations, mediaType)) {
+            return Selection.ofInstance(FILE_WRITER);
+        }
+
+        for (final Class<? extends MessageBodyWriter<?>> writerClass : application.getWriters()) {
+            final MessageBodyWriter writer = getResource(writerClass);
+            if (writer.isWriteable(type, genericType, annotations, mediaType)) {
+                return Selection.ofClass(writerClass);
+            }
+        }
+        return Selection.NONE;
+    }
 }
@@ -0,0 +1,111 @@
+package org.minijax.rs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import org.minijax.rs.util.ClassPathScanner;
+
+/**
+ * The MinijaxRegistries class holds the generated registries found on the class path.
+ *
+ * Registries are loaded once per class loader of this class.
+ */
+public final class MinijaxRegistries {
+    private static final List<MinijaxRegistry> REGISTRIES = load();
+    private static final Map<Class<?>, MinijaxDispatcher> DISPATCHERS = buildDispatchers();
+
+    MinijaxRegistries() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the generated dispatcher for a resource class.
+     *
+     * @param c The resource class.
+     * @return The dispatcher, or null if the class was not compiled with the annotation processor.
+     */
+    public static MinijaxDispatcher getDispatcher(final Class<?> c) {
+        return DISPATCHERS.get(c);
+    }
+
+    /**
+     * Returns the classes to register for the packages.
+     *
+     * Classes listed in a generated registry are always included.  The class path is still
+     * scanned, unless a registry declares the package complete, because classes from other jars
+     * or from sources not compiled with the annotation processor can share a package.
+     *
+     * @param packageNames The package names.
+     * @return The classes to register.
+     */
+    public static Set<Class<?>> getClasses(final String... packageNames) {
+        return getClasses(REGISTRIES, packageNames);
+    }
+
+    static Set<Class<?>> getClasses(final List<MinijaxRegistry> registries, final String... packageNames) {
+        final Set<Class<?>> result = new LinkedHashSet<>();
+        final List<String> scanPackages = new ArrayList<>();
+
+        for (final String packageName : packageNames) {
+            boolean complete = false;
+            for (final MinijaxRegistry registry : registries) {
+                complete |= isComplete(registry, packageName);
+                for (final Class<?> c : registry.getClasses()) {
+                    if (isInPackage(c, packageName)) {
+                        result.add(c);
+                    }
+                }
+            }
+            if (!complete) {
+                scanPackages.add(packageName);
+            }
+        }
+
+        if (!scanPackages.isEmpty()) {
+            result.addAll(ClassPathScanner.scan(scanPackages.toArray(new String[scanPackages.size()])));
+        }
+
+        return result;
+    }
+
+    private static boolean isComplete(final MinijaxRegistry registry, final String packageName) {
+        for (final String name : registry.getCompletePackages()) {
+            if (isInPackage(packageName, name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInPackage(final Class<?> c, final String packageName) {
+        return isInPackage(c.getPackage().getName(), packageName);
+    }
+
+    private static boolean isInPackage(final String name, final String packageName) {
+        return name.equals(packageName) || name.startsWith(packageName + ".");
+    }
+
+    private static List<MinijaxRegistry> load() {
+        final List<MinijaxRegistry> result = new ArrayList<>();
+        for (final MinijaxRegistry registry : ServiceLoader.load(MinijaxRegistry.class, MinijaxRegistries.class.getClassLoader())) {
+            result.add(registry);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static Map<Class<?>, MinijaxDispatcher> buildDispatchers() {
+        final Map<Class<?>, MinijaxDispatcher> result = new HashMap<>();
+        for (final MinijaxRegistry registry : REGISTRIES) {
+            for (final MinijaxDispatcher dispatcher : registry.getDispatchers()) {
+                result.put(dispatcher.getResourceClass(), dispatcher);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package org.minijax.rs;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The MinijaxRegistry interface is implemented by classes generated at compile time by
+ * the minijax-processor annotation processor.
+ *
+ * Registries are discovered with <code>java.util.ServiceLoader</code>.
+ * <code>MinijaxApplication.packages()</code> registers the classes from the registry, and only
+ * skips scanning the class path for packages the registry declares complete.
+ */
+public interface MinijaxRegistry {
+
+    /**
+     * Returns the packages compiled with the annotation processor.
+     *
+     * @return The package names.
+     */
+    List<String> getPackages();
+
+    /**
+     * Returns the packages that are fully described by this registry, including subpackages.
+     *
+     * Class path scanning is skipped for these packages.  A package should only be declared
+     * complete if every class in it is compiled with the annotation processor.
+     *
+     * @return The package names.
+     */
+    default List<String> getCompletePackages() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the classes that class path scanning would register.
+     *
+     * These are the classes annotated with <code>@ApplicationPath</code>, <code>@Path</code>,
+     * <code>@Provider</code>, or <code>@ServerEndpoint</code>.
+     *
+     * @return The classes.
+     */
+    List<Class<?>> getClasses();
+
+    /**
+     * Returns the generated resource dispatchers.
+     *
+     * @return The dispatchers.
+     */
+    List<MinijaxDispatcher> getDispatchers();
+}
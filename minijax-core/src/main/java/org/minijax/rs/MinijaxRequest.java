@@ -3,16 +3,41 @@
 import java.util.Date;
 import java.util.List;
 
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
+import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.Variant;
 
+import org.minijax.rs.util.EntityTagUtils;
+import org.minijax.rs.util.HttpDateUtils;
+
+/**
+ * The MinijaxRequest class implements the JAX-RS <code>Request</code> interface.
+ *
+ * The <code>evaluatePreconditions</code> methods implement conditional requests as described in
+ * RFC 9110 section 13.2.2.  <code>If-Match</code> and <code>If-Unmodified-Since</code> are
+ * evaluated first and fail with 412 (Precondition Failed).  Then <code>If-None-Match</code> and
+ * <code>If-Modified-Since</code> are evaluated, and fail with 304 (Not Modified) for GET and HEAD
+ * requests, or 412 for other methods.  Dates are compared with one second precision, because
+ * that is the precision of HTTP dates.
+ */
 public class MinijaxRequest implements Request {
+    private static final String ANY = "*";
     private final String method;
+    private final MinijaxRequestContext context;
 
     public MinijaxRequest(final String method) {
         this.method = method;
+        this.context = null;
+    }
+
+    MinijaxRequest(final MinijaxRequestContext context) {
+        this.method = context.getMethod();
+        this.context = context;
     }
 
     @Override
@@ -27,21 +52,113 @@ public Variant selectVariant(final List<Variant> variants) {
 
     @Override
     public ResponseBuilder evaluatePreconditions(final EntityTag eTag) {
-        throw new UnsupportedOperationException();
+        if (eTag == null) {
+            throw new IllegalArgumentException("Entity tag is null");
+        }
+        return evaluate(true, null, eTag);
     }
 
     @Override
     public ResponseBuilder evaluatePreconditions(final Date lastModified) {
-        throw new UnsupportedOperationException();
+        if (lastModified == null) {
+            throw new IllegalArgumentException("Last modified date is null");
+        }
+        return evaluate(true, lastModified, null);
     }
 
     @Override
     public ResponseBuilder evaluatePreconditions(final Date lastModified, final EntityTag eTag) {
-        throw new UnsupportedOperationException();
+        if (lastModified == null || eTag == null) {
+            throw new IllegalArgumentException("Last modified date and entity tag are required");
+        }
+        return evaluate(true, lastModified, eTag);
     }
 
+    /**
+     * Evaluates the preconditions for a resource that does not currently exist.
+     *
+     * @return A 412 response builder if <code>If-Match</code> is present, otherwise null.
+     */
     @Override
     public ResponseBuilder evaluatePreconditions() {
-        throw new UnsupportedOperationException();
+        return evaluate(false, null, null);
+    }
+
+    private ResponseBuilder evaluate(final boolean exists, final Date lastModified, final EntityTag eTag) {
+        if (context == null) {
+            return null;
+        }
+
+        final String ifMatch = context.getHeaderString(HttpHeaders.IF_MATCH);
+        if (ifMatch != null) {
+            if (!matches(ifMatch, exists, eTag, true)) {
+                return Response.status(Status.PRECONDITION_FAILED);
+            }
+        } else if (lastModified != null && isModifiedSince(lastModified, HttpHeaders.IF_UNMODIFIED_SINCE, false)) {
+            return Response.status(Status.PRECONDITION_FAILED);
+        }
+
+        final boolean getOrHead = HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+        final String ifNoneMatch = context.getHeaderString(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            if (matches(ifNoneMatch, exists, eTag, false)) {
+                return getOrHead ? notModified(lastModified, eTag) : Response.status(Status.PRECONDITION_FAILED);
+            }
+        } else if (getOrHead && lastModified != null && !isModifiedSince(lastModified, HttpHeaders.IF_MODIFIED_SINCE, true)) {
+            return notModified(lastModified, eTag);
+        }
+
+        return null;
+    }
+
+    /**
+     * Evaluates an <code>If-Match</code> or <code>If-None-Match</code> header.
+     *
+     * @param header The header value.
+     * @param exists True if the resource has a current representation.
+     * @param eTag The entity tag of the current representation, or null if unknown.
+     * @param strong True for strong comparison (<code>If-Match</code>), false for weak comparison.
+     * @return True if the header matches the current representation.
+     */
+    private static boolean matches(final String header, final boolean exists, final EntityTag eTag, final boolean strong) {
+        if (header.trim().equals(ANY)) {
+            return exists;
+        }
+        if (eTag == null) {
+            return false;
+        }
+        for (final EntityTag tag : EntityTagUtils.parseList(header)) {
+            if (strong ? EntityTagUtils.strongMatch(tag, eTag) : EntityTagUtils.weakMatch(tag, eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evaluates an <code>If-Modified-Since</code> or <code>If-Unmodified-Since</code> header.
+     *
+     * @param lastModified The last modified date of the current representation.
+     * @param name The header name.
+     * @param defaultValue The result if the header is missing or not a valid HTTP date.
+     * @return True if the representation was modified after the header date.
+     */
+    private boolean isModifiedSince(final Date lastModified, final String name, final boolean defaultValue) {
+        final Date date = HttpDateUtils.parse(context.getHeaderString(name));
+        if (date == null) {
+            return defaultValue;
+        }
+        return Math.floorDiv(lastModified.getTime(), 1000L) > Math.floorDiv(date.getTime(), 1000L);
+    }
+
+    private static ResponseBuilder notModified(final Date lastModified, final EntityTag eTag) {
+        final ResponseBuilder builder = Response.notModified();
+        if (eTag != null) {
+            builder.tag(eTag);
+        }
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
     }
 }
@@ -20,6 +20,7 @@
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
@@ -33,24 +34,38 @@
 import org.minijax.rs.delegates.MinijaxResponseBuilder;
 import org.minijax.rs.multipart.Multipart;
 import org.minijax.rs.util.ExceptionUtils;
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The MinijaxRequestContext class is the base class of the per-request state.
+ *
+ * Members that many requests never use (the properties map, the request scoped resource
+ * cache, the <code>Providers</code> view and the <code>Request</code> view) are created on
+ * first use, so that a plain request allocates as little as possible.
+ *
+ * Servers can recycle contexts with <code>MinijaxRequestContextPool</code>.  A recycled context
+ * is reset by <code>recycle()</code> and serves the next request on the same thread.  In leak
+ * detection mode, a released context is never reused, and any later use is logged.
+ */
 public abstract class MinijaxRequestContext
         implements jakarta.ws.rs.container.ContainerRequestContext, jakarta.ws.rs.container.ResourceContext, Closeable {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MinijaxRequestContext.class);
     private final MinijaxApplication application;
-    private final ResourceCache resourceCache;
-    private final Map<String, Object> properties;
-    private final MinijaxProviders providers;
+    private ResourceCache resourceCache;
+    private Map<String, Object> properties;
+    private MinijaxProviders providers;
+    private MinijaxRequest request;
     private MinijaxForm form;
     private SecurityContext securityContext;
     private MinijaxResourceMethod resourceMethod;
     private boolean upgraded;
+    private Throwable released;
+    private boolean leakReported;
 
     protected MinijaxRequestContext(final MinijaxApplication application) {
         this.application = application;
-        resourceCache = new ResourceCache();
-        properties = new HashMap<>();
-        providers = new MinijaxProviders(this);
     }
 
     public MinijaxApplication getApplication() {
@@ -59,22 +74,31 @@ public MinijaxApplication getApplication() {
 
     @Override
     public Object getProperty(final String name) {
-        return properties.get(name);
+        checkReleased();
+        return properties == null ? null : properties.get(name);
     }
 
     @Override
     public Collection<String> getPropertyNames() {
-        return Collections.unmodifiableCollection(properties.keySet());
+        checkReleased();
+        return properties == null ? Collections.emptySet() : Collections.unmodifiableCollection(properties.keySet());
     }
 
     @Override
     public void setProperty(final String name, final Object object) {
+        checkReleased();
+        if (properties == null) {
+            properties = new HashMap<>();
+        }
         properties.put(name, object);
     }
 
     @Override
     public void removeProperty(final String name) {
-        properties.remove(name);
+        checkReleased();
+        if (properties != null) {
+            properties.remove(name);
+        }
     }
 
     public abstract MinijaxHttpHeaders getHttpHeaders();
@@ -87,6 +111,7 @@ public void removeProperty(final String name) {
      */
     @Override
     public MultivaluedMap<String, String> getHeaders() {
+        checkReleased();
         return getHttpHeaders().getRequestHeaders();
     }
 
@@ -97,6 +122,7 @@ public MultivaluedMap<String, String> getHeaders() {
      */
     @Override
     public Map<String, Cookie> getCookies() {
+        checkReleased();
         return getHttpHeaders().getCookies();
     }
 
@@ -112,7 +138,11 @@ public void setRequestUri(final URI baseUri, final URI requestUri) {
 
     @Override
     public MinijaxRequest getRequest() {
-        return new MinijaxRequest(getMethod());
+        checkReleased();
+        if (request == null) {
+            request = new MinijaxRequest(this);
+        }
+        return request;
     }
 
     @Override
@@ -122,6 +152,7 @@ public void setMethod(final String method) {
 
     @Override
     public String getHeaderString(final String name) {
+        checkReleased();
         return getHttpHeaders().getHeaderString(name);
     }
 
@@ -167,6 +198,7 @@ public void setEntityStream(final InputStream input) {
 
     @Override
     public SecurityContext getSecurityContext() {
+        checkReleased();
         return securityContext;
     }
 
@@ -181,6 +213,7 @@ public void abortWith(final Response response) {
     }
 
     public MinijaxForm getForm() {
+        checkReleased();
         if (form == null) {
             readForm();
         }
@@ -218,24 +251,73 @@ public void setUpgraded(final boolean upgraded) {
 
     @Override
     public void close() throws IOException {
-        resourceCache.close();
+        if (resourceCache != null) {
+            resourceCache.close();
+        }
 
         if (form != null) {
             form.close();
         }
     }
 
+    /**
+     * Resets the per-request state, so that the context can serve another request.
+     *
+     * Called by <code>MinijaxRequestContextPool</code> after <code>close()</code>.  Subclasses
+     * that hold request state should override this method and call the super method.
+     */
+    protected void recycle() {
+        if (properties != null) {
+            properties.clear();
+        }
+        providers = null;
+        request = null;
+        form = null;
+        securityContext = null;
+        resourceMethod = null;
+        upgraded = false;
+        released = null;
+        leakReported = false;
+    }
+
+    /**
+     * Marks the context as released in leak detection mode.
+     */
+    void release() {
+        released = new IllegalStateException("Request context released");
+    }
+
+    /**
+     * Logs an error if the context is used after its request ended in leak detection mode.
+     *
+     * Usually this means a resource, filter or provider kept a reference to the context.
+     * The error is logged once per context, with the stack trace of the release as the cause.
+     */
+    protected void checkReleased() {
+        if (released != null && !leakReported) {
+            leakReported = true;
+            LOG.error("Request context used after the end of its request",
+                    new IllegalStateException("Request context leak", released));
+        }
+    }
+
     public ResourceCache getResourceCache() {
+        checkReleased();
+        if (resourceCache == null) {
+            resourceCache = new ResourceCache(application.getRequestScopedSlotCount());
+        }
         return resourceCache;
     }
 
     @Override
     public <T> T getResource(final Class<T> c) {
+        checkReleased();
         return application.getInjector().getResource(c, this);
     }
 
     @Override
     public <T> T initResource(final T resource) {
+        checkReleased();
         return application.getInjector().initResource(resource, this);
     }
 
@@ -247,7 +329,19 @@ public void setResourceMethod(final MinijaxResourceMethod resourceMethod) {
         this.resourceMethod = resourceMethod;
     }
 
+    /**
+     * Returns the <code>Providers</code> view for this request.
+     *
+     * Uses the shared application view when possible.
+     *
+     * @return The providers view.
+     */
     public MinijaxProviders getProviders() {
+        checkReleased();
+        if (providers == null) {
+            final MinijaxProviders shared = application.getSharedProviders();
+            providers = shared != null ? shared : new MinijaxProviders(this);
+        }
         return providers;
     }
 
@@ -262,14 +356,14 @@ public Response toResponse(final Object obj) {
 
         return new MinijaxResponseBuilder(this)
                 .entity(obj)
-                .type(findResponseType(obj, resourceMethod.getProduces()))
+                .type(findResponseType(obj, resourceMethod.negotiate(getHeaderString(HttpHeaders.ACCEPT))))
                 .build();
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Response toResponse(final Exception ex) {
         if (resourceMethod != null && !resourceMethod.getProduces().isEmpty()) {
-            final ExceptionMapper mapper = providers.getExceptionMapper(ex.getClass());
+            final ExceptionMapper mapper = getProviders().getExceptionMapper(ex.getClass());
             if (mapper != null) {
                 return mapper.toResponse(ex);
             }
@@ -286,7 +380,7 @@ private MediaType findResponseType(
         final Class<?> objType = obj == null ? null : obj.getClass();
 
         for (final MediaType mediaType : produces) {
-            final MessageBodyWriter writer = providers.getMessageBodyWriter(objType, null, null, mediaType);
+            final MessageBodyWriter writer = getProviders().getMessageBodyWriter(objType, null, null, mediaType);
             if (writer != null) {
                 return mediaType;
             }
@@ -308,7 +402,7 @@ private MediaType findResponseType(
      * @return            the newly created instance of {@code T}.
      */
     public <T> T convertParamToType(final String str, final Class<T> c, final Annotation[] annotations) {
-        final ParamConverter<T> converter = providers.getParamConverter(c, null, annotations);
+        final ParamConverter<T> converter = getProviders().getParamConverter(c, null, annotations);
         if (converter != null) {
             return converter.fromString(str);
         }
@@ -0,0 +1,99 @@
+package org.minijax.rs;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.minijax.commons.MinijaxProperties;
+
+/**
+ * The MinijaxRequestContextPool class hands out request contexts to a server.
+ *
+ * By default, every request gets a new context.  If the
+ * <code>org.minijax.server.recycleContexts</code> property is set, each thread owns one
+ * context that is reset and reused for the next request on that thread.  A context is only
+ * reused after it was released, so a nested request on the same thread gets a new context.
+ *
+ * If the <code>org.minijax.server.detectContextLeaks</code> property is also set, released
+ * contexts are never reused.  Instead, they are marked, and any later use is logged with the
+ * stack trace of the release.
+ *
+ * @param <C> The server request context type.
+ */
+public class MinijaxRequestContextPool<C extends MinijaxRequestContext> {
+    private final MinijaxApplication application;
+    private final Function<MinijaxApplication, C> factory;
+    private final boolean recycle;
+    private final boolean detectLeaks;
+    private final ThreadLocal<C> contexts;
+
+    /**
+     * Creates a new pool, configured from the application properties.
+     *
+     * @param application The application.
+     * @param factory The factory for new contexts.
+     */
+    public MinijaxRequestContextPool(final MinijaxApplication application, final Function<MinijaxApplication, C> factory) {
+        this(application, factory, isEnabled(application, MinijaxProperties.RECYCLE_CONTEXTS),
+                isEnabled(application, MinijaxProperties.DETECT_CONTEXT_LEAKS));
+    }
+
+    MinijaxRequestContextPool(
+            final MinijaxApplication application,
+            final Function<MinijaxApplication, C> factory,
+            final boolean recycle,
+            final boolean detectLeaks) {
+
+        this.application = application;
+        this.factory = factory;
+        this.recycle = recycle;
+        this.detectLeaks = detectLeaks;
+        this.contexts = new ThreadLocal<>();
+    }
+
+    public boolean isRecycling() {
+        return recycle;
+    }
+
+    /**
+     * Returns a context for a new request on the current thread.
+     *
+     * The caller is responsible for setting the request state, and must call
+     * <code>release()</code> when the request ends.
+     *
+     * @return The request context.
+     */
+    public C acquire() {
+        if (recycle && !detectLeaks) {
+            final C context = contexts.get();
+            if (context != null) {
+                contexts.set(null);
+                return context;
+            }
+        }
+        return factory.apply(application);
+    }
+
+    /**
+     * Closes a context at the end of its request, and keeps it for the next request if recycling.
+     *
+     * @param context The request context.
+     * @throws IOException if closing the context fails.
+     */
+    public void release(final C context) throws IOException {
+        try {
+            context.close();
+        } finally {
+            if (detectLeaks) {
+                context.release();
+            } else if (recycle) {
+                context.recycle();
+                contexts.set(context);
+            }
+        }
+    }
+
+    private static boolean isEnabled(final MinijaxApplication application, final String name) {
+        final Object value = application.getProperty(name);
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+}
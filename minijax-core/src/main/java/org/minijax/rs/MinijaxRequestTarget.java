@@ -0,0 +1,273 @@
+package org.minijax.rs;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The MinijaxRequestTarget class is the request target of an HTTP request, as sent by the client.
+ *
+ * The target string is scanned once, and the authority, path and query are kept as offsets
+ * into it.  Unlike <code>java.net.URI</code>, nothing is validated, decoded or copied up front;
+ * the pieces are extracted when they are requested, and the <code>URI</code> is only built if
+ * user code asks for it.
+ *
+ * Both origin form (<code>/path?query</code>) and absolute form
+ * (<code>http://host/path?query</code>) targets are supported.  Fragments are ignored.
+ */
+public class MinijaxRequestTarget {
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    // Unreserved, reserved and sub-delimiter characters that java.net.URI accepts in a path or query
+    private static final String URI_CHARS = "-._~:/?@!$&'()*+,;=";
+    private final String source;
+    private final String scheme;
+    private final int authorityStart;
+    private final int pathStart;
+    private final int queryStart;
+    private final int end;
+    private String authority;
+    private String rawPath;
+    private String path;
+    private String rawQuery;
+    private URI uri;
+
+    private MinijaxRequestTarget(
+            final String source,
+            final String scheme,
+            final int authorityStart,
+            final int pathStart,
+            final int queryStart,
+            final int end) {
+
+        this.source = source;
+        this.scheme = scheme;
+        this.authorityStart = authorityStart;
+        this.pathStart = pathStart;
+        this.queryStart = queryStart;
+        this.end = end;
+    }
+
+    /**
+     * Parses a request target.
+     *
+     * @param target The request target in origin form or absolute form.
+     * @return The request target.
+     */
+    public static MinijaxRequestTarget parse(final String target) {
+        final int length = target.length();
+        String scheme = null;
+        int authorityStart = -1;
+        int pathStart = 0;
+
+        final int colon = findSchemeEnd(target);
+        if (colon > 0) {
+            scheme = target.substring(0, colon);
+            authorityStart = colon + 3;
+            pathStart = authorityStart;
+            while (pathStart < length) {
+                final char c = target.charAt(pathStart);
+                if (c == '/' || c == '?' || c == '#') {
+                    break;
+                }
+                pathStart++;
+            }
+        }
+
+        int end = target.indexOf('#', pathStart);
+        if (end < 0) {
+            end = length;
+        }
+
+        final int question = target.indexOf('?', pathStart);
+        final int queryStart = question >= 0 && question < end ? question + 1 : -1;
+        return new MinijaxRequestTarget(target, scheme, authorityStart, pathStart, queryStart, end);
+    }
+
+    /**
+     * Parses a request target from a URL and a separate query string.
+     *
+     * @param url The request URL, without a query string.
+     * @param rawQuery The raw query string, or null if the request has no query string.
+     * @return The request target.
+     */
+    public static MinijaxRequestTarget parse(final String url, final String rawQuery) {
+        return parse(rawQuery == null || rawQuery.isEmpty() ? url : url + "?" + rawQuery);
+    }
+
+    /**
+     * Creates a request target from a URI.
+     *
+     * @param uri The request URI.
+     * @return The request target.
+     */
+    public static MinijaxRequestTarget of(final URI uri) {
+        final MinijaxRequestTarget result = parse(uri.toString());
+        result.uri = uri;
+        return result;
+    }
+
+    /**
+     * Returns a copy of this target with a different scheme, for example from <code>X-Forwarded-Proto</code>.
+     *
+     * @param newScheme The new scheme.
+     * @return The new request target.
+     */
+    public MinijaxRequestTarget withScheme(final String newScheme) {
+        return new MinijaxRequestTarget(source, newScheme, authorityStart, pathStart, queryStart, end);
+    }
+
+    public String getScheme() {
+        return scheme;
+    }
+
+    public String getAuthority() {
+        if (authority == null && authorityStart >= 0) {
+            authority = source.substring(authorityStart, pathStart);
+        }
+        return authority;
+    }
+
+    public String getRawPath() {
+        if (rawPath == null) {
+            rawPath = source.substring(pathStart, queryStart >= 0 ? queryStart - 1 : end);
+        }
+        return rawPath;
+    }
+
+    /**
+     * Returns the decoded path.
+     *
+     * If the raw path does not contain escapes, this is the raw path itself.
+     *
+     * @return The decoded path.
+     */
+    public String getPath() {
+        if (path == null) {
+            path = decodePath(getRawPath());
+        }
+        return path;
+    }
+
+    public String getRawQuery() {
+        if (rawQuery == null && queryStart >= 0) {
+            rawQuery = source.substring(queryStart, end);
+        }
+        return rawQuery;
+    }
+
+    /**
+     * Returns the request target as a URI.
+     *
+     * The URI is built on the first call.  Characters that clients send unescaped but that are
+     * not legal in a URI, such as spaces, <code>|</code> or non-ASCII characters, are
+     * percent-encoded first.
+     *
+     * @return The request URI.
+     */
+    public URI toURI() {
+        if (uri == null) {
+            final String pathAndQuery = encodeIllegal(source.substring(pathStart, end));
+            uri = URI.create(authorityStart < 0 ? pathAndQuery : scheme + "://" + getAuthority() + pathAndQuery);
+        }
+        return uri;
+    }
+
+    @Override
+    public String toString() {
+        if (authorityStart < 0) {
+            return source.substring(pathStart, end);
+        }
+        return scheme + "://" + source.substring(authorityStart, end);
+    }
+
+    private static int findSchemeEnd(final String target) {
+        // scheme = ALPHA *( ALPHA / DIGIT / "+" / "-" / "." ), followed by "://"
+        for (int i = 0; i < target.length(); i++) {
+            final char c = target.charAt(i);
+            if (c == ':') {
+                return i > 0 && target.startsWith("//", i + 1) ? i : -1;
+            }
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || i > 0 && (c >= '0' && c <= '9' || c == '+' || c == '-' || c == '.'))) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Percent-encodes the characters of a path and query that <code>java.net.URI</code> rejects.
+     *
+     * Existing escapes are kept.  A <code>%</code> that does not start an escape is encoded.
+     *
+     * @param str The raw path and query.
+     * @return The string with illegal characters encoded, or the same string if there are none.
+     */
+    static String encodeIllegal(final String str) {
+        int i = 0;
+        while (i < str.length() && isLegal(str, i)) {
+            i++;
+        }
+        if (i == str.length()) {
+            return str;
+        }
+
+        final StringBuilder b = new StringBuilder(str.length() + 16);
+        b.append(str, 0, i);
+        while (i < str.length()) {
+            if (isLegal(str, i)) {
+                b.append(str.charAt(i++));
+            } else {
+                final int codePoint = str.codePointAt(i);
+                final int count = Character.charCount(codePoint);
+                for (final byte c : str.substring(i, i + count).getBytes(StandardCharsets.UTF_8)) {
+                    b.append('%').append(HEX[(c >> 4) & 0xF]).append(HEX[c & 0xF]);
+                }
+                i += count;
+            }
+        }
+        return b.toString();
+    }
+
+    private static boolean isLegal(final String str, final int i) {
+        final char c = str.charAt(i);
+        if (c == '%') {
+            return i + 2 < str.length() && Character.digit(str.charAt(i + 1), 16) >= 0 && Character.digit(str.charAt(i + 2), 16) >= 0;
+        }
+        return c >= 'a' && c <= 'z'
+                || c >= 'A' && c <= 'Z'
+                || c >= '0' && c <= '9'
+                || URI_CHARS.indexOf(c) >= 0;
+    }
+
+    private static String decodePath(final String str) {
+        int i = str.indexOf('%');
+        if (i < 0) {
+            return str;
+        }
+
+        // Malformed escapes are kept as literal text
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(str.length());
+        int literalStart = 0;
+        while (i >= 0) {
+            final int hi = i + 2 < str.length() ? Character.digit(str.charAt(i + 1), 16) : -1;
+            final int lo = hi >= 0 ? Character.digit(str.charAt(i + 2), 16) : -1;
+            if (lo >= 0) {
+                writeLiteral(out, str, literalStart, i);
+                out.write((hi << 4) | lo);
+                literalStart = i + 3;
+                i = str.indexOf('%', literalStart);
+            } else {
+                i = str.indexOf('%', i + 1);
+            }
+        }
+        writeLiteral(out, str, literalStart, str.length());
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void writeLiteral(final ByteArrayOutputStream out, final String str, final int start, final int end) {
+        if (end > start) {
+            final byte[] bytes = str.substring(start, end).getBytes(StandardCharsets.UTF_8);
+            out.write(bytes, 0, bytes.length);
+        }
+    }
+}
@@ -5,6 +5,7 @@
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -13,9 +14,7 @@
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
-import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
-import jakarta.ws.rs.core.MultivaluedMap;
 
 import org.minijax.cdi.MinijaxProvider;
 import org.minijax.rs.util.MediaTypeUtils;
@@ -24,16 +23,35 @@
 class MinijaxResourceMethod implements jakarta.ws.rs.container.ResourceInfo {
     private final String httpMethod;
     private final Method method;
+    private final Class<?> resourceClass;
     private final MinijaxProvider<?>[] paramProviders;
     private final MinijaxPathPattern pathPattern;
     private final List<MediaType> produces;
+    private final MinijaxContentNegotiator negotiator;
+    private volatile MinijaxFilterChain filterChain;
+    private volatile MinijaxAuthorization authorization;
     private final Annotation securityAnnotation;
+    private final boolean autoETag;
+    private final MinijaxMethodInvoker invoker;
+    private final MinijaxDispatcher.Invoker generatedInvoker;
     final int literalLength;
 
     public MinijaxResourceMethod(final String httpMethod, final Method method, final MinijaxProvider<?>[] paramProviders) {
         this(httpMethod, method, paramProviders, findPath(method), findProduces(method), findSecurityAnnotation(method));
     }
 
+    /**
+     * Creates a resource method with an invoker generated by the annotation processor.
+     *
+     * @param httpMethod The HTTP method.
+     * @param method The Java method.
+     * @param generatedInvoker The generated invoker.
+     * @return The resource method.
+     */
+    static MinijaxResourceMethod withGeneratedInvoker(final String httpMethod, final Method method, final MinijaxDispatcher.Invoker generatedInvoker) {
+        return new MinijaxResourceMethod(httpMethod, method, null, findPath(method), findProduces(method), findSecurityAnnotation(method), generatedInvoker);
+    }
+
     MinijaxResourceMethod(
             final String httpMethod,
             final Method method,
@@ -41,15 +59,69 @@ public MinijaxResourceMethod(final String httpMethod, final Method method, final
             final String path,
             final List<MediaType> produces,
             final Annotation securityAnnotation) {
+        this(httpMethod, method, paramProviders, path, produces, securityAnnotation, null);
+    }
+
+    private MinijaxResourceMethod(
+            final String httpMethod,
+            final Method method,
+            final MinijaxProvider<?>[] paramProviders,
+            final String path,
+            final List<MediaType> produces,
+            final Annotation securityAnnotation,
+            final MinijaxDispatcher.Invoker generatedInvoker) {
         this.httpMethod = Objects.requireNonNull(httpMethod);
         this.method = method;
+        this.resourceClass = method == null ? null : method.getDeclaringClass();
         this.paramProviders = paramProviders;
         this.produces = Objects.requireNonNull(produces);
+        this.negotiator = new MinijaxContentNegotiator(produces);
         this.securityAnnotation = securityAnnotation;
+        this.autoETag = method != null
+                && (method.isAnnotationPresent(AutoETag.class) || method.getDeclaringClass().isAnnotationPresent(AutoETag.class));
+        this.generatedInvoker = generatedInvoker;
+        invoker = method == null || generatedInvoker != null ? null : MinijaxMethodInvoker.create(method);
         pathPattern = MinijaxPathPattern.parse(method, path);
         literalLength = calculateLiteralLength(path);
     }
 
+    /**
+     * Creates a synthetic resource method that shares the path of another resource method.
+     *
+     * The synthetic method has no Java method, but reports the resource class of the template,
+     * so that filters and features can use <code>ResourceInfo</code> as usual.
+     *
+     * @param httpMethod The HTTP method.
+     * @param template The resource method with the same path.
+     */
+    MinijaxResourceMethod(final String httpMethod, final MinijaxResourceMethod template) {
+        this.httpMethod = Objects.requireNonNull(httpMethod);
+        this.method = null;
+        this.resourceClass = template.resourceClass;
+        this.paramProviders = null;
+        this.produces = Collections.emptyList();
+        this.negotiator = new MinijaxContentNegotiator(produces);
+        this.securityAnnotation = null;
+        this.autoETag = false;
+        this.invoker = null;
+        this.generatedInvoker = null;
+        pathPattern = template.pathPattern;
+        literalLength = template.literalLength;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    MinijaxPathPattern getPathPattern() {
+        return pathPattern;
+    }
+
+    /**
+     * Returns the Java method.
+     *
+     * @return The Java method, or null for synthetic resource methods.
+     */
     @Override
     public Method getResourceMethod() {
         return method;
@@ -57,20 +129,60 @@ public Method getResourceMethod() {
 
     @Override
     public Class<?> getResourceClass() {
-        return method.getDeclaringClass();
+        return resourceClass;
     }
 
     public List<MediaType> getProduces() {
         return produces;
     }
 
+    MinijaxFilterChain getFilterChain() {
+        return filterChain;
+    }
+
+    void setFilterChain(final MinijaxFilterChain filterChain) {
+        this.filterChain = filterChain;
+    }
+
+    MinijaxAuthorization getAuthorization() {
+        return authorization;
+    }
+
+    void setAuthorization(final MinijaxAuthorization authorization) {
+        this.authorization = authorization;
+    }
+
+    /**
+     * Returns the produced media types acceptable for an <code>Accept</code> header.
+     *
+     * @param accept The <code>Accept</code> header value, or null.
+     * @return The acceptable media types in order of preference.
+     */
+    List<MediaType> negotiate(final String accept) {
+        return negotiator.negotiate(accept);
+    }
+
     public Annotation getSecurityAnnotation() {
         return securityAnnotation;
     }
 
+    /**
+     * Returns true if the resource method or its class has the <code>@AutoETag</code> annotation.
+     *
+     * @return True if automatic entity tags are enabled.
+     */
+    public boolean isAutoETag() {
+        return autoETag;
+    }
+
     Object invoke(final MinijaxRequestContext ctx)
             throws Exception { // NOSONAR
 
+        if (method == null) {
+            // Synthetic resource methods override invoke()
+            throw new IllegalStateException("Synthetic " + httpMethod + " resource method cannot be invoked");
+        }
+
         final Object instance;
         if (Modifier.isStatic(method.getModifiers())) {
             instance = null;
@@ -78,22 +190,16 @@ Object invoke(final MinijaxRequestContext ctx)
             instance = ctx.getResource(method.getDeclaringClass());
         }
 
-        final Object[] params = new Object[paramProviders.length];
-        for (int i = 0; i < paramProviders.length; ++i) {
-            params[i] = paramProviders[i].get(ctx);
-        }
-
         try {
-            return method.invoke(instance, params);
-        } catch (final InvocationTargetException ex) {
-            final Throwable cause = ex.getCause();
-            if (cause instanceof Exception) {
-                throw (Exception) cause;
-            } else {
-                throw ex;
+            if (generatedInvoker != null) {
+                return generatedInvoker.invoke(instance, ctx);
             }
-        } catch (IllegalAccessException | IllegalArgumentException ex) {
-            throw new WebApplicationException(ex.getMessage(), ex);
+            return invoker.invoke(instance, paramProviders, ctx);
+        } catch (final Exception ex) {
+            throw ex;
+        } catch (final Throwable ex) {
+            // Wrap errors as Method.invoke does, so that they become a 500 instead of escaping the server
+            throw new InvocationTargetException(ex);
         }
     }
 
@@ -147,20 +253,6 @@ private static int calculateLiteralLength(final String path) {
         return curlyIndex != -1 ? curlyIndex : path.length();
     }
 
-    public boolean tryMatch(final String httpMethod, final MinijaxUriInfo uriInfo) {
-        if (!this.httpMethod.equals(httpMethod)) {
-            return false;
-        }
-
-        final MultivaluedMap<String, String> pathParameters = pathPattern.tryMatch(uriInfo);
-        if (pathParameters == null) {
-            return false;
-        }
-
-        uriInfo.setPathParameters(pathParameters);
-        return true;
-    }
-
     /**
      * Sorts a list of resource methods.
      *
@@ -0,0 +1,102 @@
+package org.minijax.rs;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * The MinijaxRoleDictionary class assigns a bit index to each role name used in
+ * <code>@RolesAllowed</code> annotations of an application.
+ *
+ * Roles are numbered in registration order.  Only the first <code>MAX_ROLES</code> roles get a
+ * bit; authorization checks for any remaining roles fall back to
+ * <code>SecurityContext.isUserInRole()</code>.
+ */
+public final class MinijaxRoleDictionary {
+    public static final int MAX_ROLES = 64;
+    private final Map<String, Integer> indexes;
+    private volatile String[] roles;
+
+    public MinijaxRoleDictionary() {
+        indexes = new ConcurrentHashMap<>();
+        roles = new String[0];
+    }
+
+    /**
+     * Registers a role name.
+     *
+     * @param role The role name.
+     * @return The bit index of the role, or -1 if the dictionary is full.
+     */
+    public synchronized int register(final String role) {
+        final Integer existing = indexes.get(role);
+        if (existing != null) {
+            return existing;
+        }
+        if (roles.length >= MAX_ROLES) {
+            return -1;
+        }
+        final int index = roles.length;
+        final String[] copy = Arrays.copyOf(roles, index + 1);
+        copy[index] = role;
+        roles = copy;
+        indexes.put(role, index);
+        return index;
+    }
+
+    /**
+     * Returns the bit index of a role.
+     *
+     * @param role The role name.
+     * @return The bit index, or -1 if the role is not in the dictionary.
+     */
+    public int indexOf(final String role) {
+        final Integer index = indexes.get(role);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the number of roles in the dictionary.
+     *
+     * @return The number of roles.
+     */
+    public int size() {
+        return roles.length;
+    }
+
+    /**
+     * Returns the role bitset for a collection of role names.
+     * Role names that are not in the dictionary are ignored.
+     *
+     * @param names The role names.
+     * @return The role bitset.
+     */
+    public long getMask(final Iterable<String> names) {
+        long result = 0L;
+        for (final String name : names) {
+            final int index = indexOf(name);
+            if (index >= 0) {
+                result |= 1L << index;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the role bitset of all dictionary roles that match a predicate.
+     *
+     * @param hasRole The role predicate, usually <code>SecurityContext::isUserInRole</code>.
+     * @return The role bitset.
+     */
+    public long getMask(final Predicate<String> hasRole) {
+        final String[] current = roles;
+        long result = 0L;
+        for (int i = 0; i < current.length; i++) {
+            if (hasRole.test(current[i])) {
+                result |= 1L << i;
+            }
+        }
+        return result;
+    }
+}
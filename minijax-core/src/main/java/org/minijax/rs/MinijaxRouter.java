@@ -0,0 +1,379 @@
+package org.minijax.rs;
+
+import static jakarta.ws.rs.HttpMethod.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.minijax.rs.MinijaxPathPattern.Segment;
+import org.minijax.rs.MinijaxPathPattern.SegmentType;
+
+/**
+ * The MinijaxRouter class is a compiled route table for a list of resource methods.
+ *
+ * Routes are organized as one segment tree per HTTP method.  Literal segments are resolved
+ * with a hash lookup, and template segments are resolved with a segment matcher.  Routes that
+ * cannot be expressed as whole segments (i.e., "{id}.json" or custom regular expressions that
+ * may span slashes) fall back to matching the full path pattern.
+ *
+ * HEAD requests without an explicit HEAD method resolve to the GET method, and OPTIONS requests
+ * without an explicit OPTIONS method resolve to an automatic response with a precomputed Allow
+ * header.  Both fallbacks are part of the compiled tree, so they cost a single lookup.
+ *
+ * The router preserves the JAX-RS 3.7.2 precedence encoded by
+ * <code>MinijaxResourceMethod.sortByLiteralLength</code>.  The input list must already be sorted,
+ * and when several routes match a request, the route that appears first in the list wins.
+ *
+ * Instances are immutable and safe for concurrent use.
+ */
+class MinijaxRouter {
+    private static final int[] UUID_GROUPS = { 8, 4, 4, 4, 12 };
+    private final Map<String, Node> trees;
+    private final int maxParams;
+
+    MinijaxRouter(final List<MinijaxResourceMethod> resourceMethods) {
+        trees = new HashMap<>();
+        final int count = resourceMethods.size();
+        final Map<String, Set<String>> allowedMethods = new HashMap<>();
+        final Map<String, Integer> firstIndexes = new LinkedHashMap<>();
+        int max = 0;
+
+        for (int i = 0; i < count; i++) {
+            final MinijaxResourceMethod rm = resourceMethods.get(i);
+            final String pattern = rm.getPathPattern().getPatternString();
+            max = Math.max(max, add(rm.getHttpMethod(), rm, i));
+            allowedMethods.computeIfAbsent(pattern, k -> new TreeSet<>()).add(rm.getHttpMethod());
+            firstIndexes.putIfAbsent(pattern, i);
+        }
+
+        // HEAD falls back to GET.
+        // Fallback routes are offset by count so that explicit routes always win.
+        for (int i = 0; i < count; i++) {
+            final MinijaxResourceMethod rm = resourceMethods.get(i);
+            if (rm.getHttpMethod().equals(GET)) {
+                add(HEAD, rm, count + i);
+            }
+        }
+
+        // OPTIONS falls back to an automatic response with a precomputed Allow header.
+        for (final Map.Entry<String, Integer> entry : firstIndexes.entrySet()) {
+            final Set<String> methods = allowedMethods.get(entry.getKey());
+            if (methods.contains(GET)) {
+                methods.add(HEAD);
+            }
+            methods.add(OPTIONS);
+            final MinijaxResourceMethod template = resourceMethods.get(entry.getValue());
+            add(OPTIONS, new MinijaxOptionsResource(template, String.join(", ", methods)), count + entry.getValue());
+        }
+
+        maxParams = max;
+    }
+
+    private int add(final String httpMethod, final MinijaxResourceMethod rm, final int index) {
+        return trees.computeIfAbsent(httpMethod, k -> new Node()).add(new Route(rm, index));
+    }
+
+    /**
+     * Finds the best resource method for a request.
+     *
+     * On success, the path parameters are set on the <code>uriInfo</code>.  Parameters matched
+     * by the segment tree are recorded as offsets into the request path, and the parameter
+     * strings are only created when requested.
+     *
+     * @param httpMethod The HTTP method.
+     * @param uriInfo The request URI info.
+     * @return The matching resource method, or null if no route matches.
+     */
+    MinijaxResourceMethod findRoute(final String httpMethod, final MinijaxUriInfo uriInfo) {
+        final Node root = trees.get(httpMethod);
+        if (root == null) {
+            return null;
+        }
+
+        final Search search = new Search(uriInfo, maxParams);
+        if (search.path.startsWith("/")) {
+            search.visit(root, 0);
+        } else {
+            search.visitTails(root);
+        }
+
+        if (search.best == null) {
+            return null;
+        }
+
+        if (search.bestParams != null) {
+            uriInfo.setPathParameters(search.bestParams);
+        } else {
+            uriInfo.setPathParameters(search.path, search.best.paramNames, search.bestOffsets);
+        }
+        return search.best.resourceMethod;
+    }
+
+    /**
+     * A SegmentMatcher tests whether one path segment satisfies a template parameter.
+     */
+    interface SegmentMatcher {
+        boolean matches(String path, int start, int end);
+    }
+
+    /**
+     * Returns the segment matcher for a template parameter regular expression.
+     *
+     * The built-in default templates are matched without regular expressions.
+     *
+     * @param regex The template parameter regular expression.
+     * @return The segment matcher.
+     */
+    static SegmentMatcher getSegmentMatcher(final String regex) {
+        switch (regex) {
+        case MinijaxPathPattern.STRING_REGEX:
+            return MinijaxRouter::matchString;
+        case MinijaxPathPattern.INTEGER_REGEX:
+            return MinijaxRouter::matchInteger;
+        case MinijaxPathPattern.UUID_REGEX:
+            return MinijaxRouter::matchUuid;
+        default:
+            return new RegexSegmentMatcher(regex);
+        }
+    }
+
+    /**
+     * Matches the default string template, <code>[^/]+</code>.
+     */
+    static boolean matchString(final String path, final int start, final int end) {
+        return end > start;
+    }
+
+    /**
+     * Matches the default integer template, <code>-?[0-9]+</code>.
+     */
+    static boolean matchInteger(final String path, final int start, final int end) {
+        int i = start;
+        if (i < end && path.charAt(i) == '-') {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        for (; i < end; i++) {
+            final char c = path.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Matches the default UUID template, with optional dashes between groups.
+     */
+    static boolean matchUuid(final String path, final int start, final int end) {
+        int i = start;
+        for (int group = 0; group < UUID_GROUPS.length; group++) {
+            if (group > 0 && i < end && path.charAt(i) == '-') {
+                i++;
+            }
+            for (int j = 0; j < UUID_GROUPS[group]; j++, i++) {
+                if (i >= end) {
+                    return false;
+                }
+                final char c = path.charAt(i);
+                if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                    return false;
+                }
+            }
+        }
+        return i == end;
+    }
+
+    /**
+     * Segment matcher for template parameters backed by a regular expression.
+     */
+    static class RegexSegmentMatcher implements SegmentMatcher {
+        private final Pattern pattern;
+
+        RegexSegmentMatcher(final String regex) {
+            pattern = Pattern.compile(regex);
+        }
+
+        @Override
+        public boolean matches(final String path, final int start, final int end) {
+            return pattern.matcher(path).region(start, end).matches();
+        }
+    }
+
+    private static class Route {
+        final MinijaxResourceMethod resourceMethod;
+        final int index;
+        String[] paramNames;
+
+        Route(final MinijaxResourceMethod resourceMethod, final int index) {
+            this.resourceMethod = resourceMethod;
+            this.index = index;
+        }
+    }
+
+    private static class ParamEdge {
+        final String name;
+        final String regex;
+        final SegmentMatcher matcher;
+        final Node child;
+
+        ParamEdge(final String name, final String regex) {
+            this.name = name;
+            this.regex = regex;
+            matcher = getSegmentMatcher(regex);
+            child = new Node();
+        }
+    }
+
+    private static class Node {
+        final Map<String, Node> literals = new HashMap<>();
+        final List<ParamEdge> params = new ArrayList<>();
+        final List<Route> tails = new ArrayList<>();
+        Route route;
+        int minIndex = Integer.MAX_VALUE;
+
+        /**
+         * Adds a route to the tree rooted at this node.
+         *
+         * @param route The route.
+         * @return The number of template parameters matched by the tree.
+         */
+        int add(final Route route) {
+            final List<Segment> segments = route.resourceMethod.getPathPattern().getSegments();
+            if (segments == null) {
+                addTail(route);
+                return 0;
+            }
+
+            final List<String> names = new ArrayList<>();
+            Node node = this;
+            for (final Segment segment : segments) {
+                node.minIndex = Math.min(node.minIndex, route.index);
+                if (segment.getType() == SegmentType.LITERAL) {
+                    node = node.literals.computeIfAbsent(segment.getText(), k -> new Node());
+                } else if (segment.getType() == SegmentType.TEMPLATE && segment.isDefaultRegex()) {
+                    node = node.getParamChild(segment.getParamName(), segment.getParamRegex());
+                    names.add(segment.getParamName());
+                } else {
+                    node.addTail(route);
+                    return names.size();
+                }
+            }
+
+            node.minIndex = Math.min(node.minIndex, route.index);
+            if (node.route == null) {
+                route.paramNames = names.toArray(new String[names.size()]);
+                node.route = route;
+            }
+            return names.size();
+        }
+
+        void addTail(final Route route) {
+            minIndex = Math.min(minIndex, route.index);
+            tails.add(route);
+        }
+
+        Node getParamChild(final String name, final String regex) {
+            for (final ParamEdge edge : params) {
+                if (edge.name.equals(name) && edge.regex.equals(regex)) {
+                    return edge.child;
+                }
+            }
+            final ParamEdge edge = new ParamEdge(name, regex);
+            params.add(edge);
+            return edge.child;
+        }
+    }
+
+    /**
+     * The Search class holds the state of one route lookup.
+     *
+     * The tree is searched depth first.  Any subtree that only contains routes with lower
+     * precedence than the best match so far is skipped.
+     */
+    private static class Search {
+        final MinijaxUriInfo uriInfo;
+        final String path;
+        final int[] offsets;
+        int depth;
+        Route best;
+        int[] bestOffsets;
+        MultivaluedMap<String, String> bestParams;
+
+        Search(final MinijaxUriInfo uriInfo, final int maxParams) {
+            this.uriInfo = uriInfo;
+            this.path = uriInfo.getPath();
+            this.offsets = new int[maxParams * 2];
+        }
+
+        /**
+         * Visits a tree node.
+         *
+         * @param node The tree node.
+         * @param pos The index of the slash preceding the next segment, or the path length if consumed.
+         */
+        void visit(final Node node, final int pos) {
+            if (!canImprove(node.minIndex)) {
+                return;
+            }
+
+            visitTails(node);
+
+            if (pos == path.length()) {
+                if (node.route != null && canImprove(node.route.index)) {
+                    best = node.route;
+                    bestOffsets = Arrays.copyOf(offsets, depth * 2);
+                    bestParams = null;
+                }
+                return;
+            }
+
+            final int start = pos + 1;
+            final int slash = path.indexOf('/', start);
+            final int end = slash < 0 ? path.length() : slash;
+
+            final Node literal = node.literals.get(path.substring(start, end));
+            if (literal != null) {
+                visit(literal, end);
+            }
+
+            for (final ParamEdge edge : node.params) {
+                if (edge.matcher.matches(path, start, end)) {
+                    offsets[depth * 2] = start;
+                    offsets[depth * 2 + 1] = end;
+                    depth++;
+                    visit(edge.child, end);
+                    depth--;
+                }
+            }
+        }
+
+        void visitTails(final Node node) {
+            for (final Route tail : node.tails) {
+                if (canImprove(tail.index)) {
+                    final MultivaluedMap<String, String> params = tail.resourceMethod.getPathPattern().tryMatch(uriInfo);
+                    if (params != null) {
+                        best = tail;
+                        bestOffsets = null;
+                        bestParams = params;
+                    }
+                }
+            }
+        }
+
+        private boolean canImprove(final int index) {
+            return best == null || index < best.index;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.minijax.rs;
+
+import jakarta.ws.rs.core.SecurityContext;
+
+/**
+ * The MinijaxSecurityContext interface is an optional extension of <code>SecurityContext</code>
+ * that exposes the user's roles as a bitset.
+ *
+ * When the registered security context implements this interface, <code>@RolesAllowed</code>
+ * checks are a single bitwise AND against the precompiled mask of the resource method,
+ * instead of one <code>isUserInRole()</code> call per allowed role.
+ */
+public interface MinijaxSecurityContext extends SecurityContext {
+
+    /**
+     * Returns the bitset of the user's roles.
+     *
+     * Bit <code>i</code> is set if the user has the role at index <code>i</code> of the dictionary.
+     * Implementations should compute the mask once and cache it for the request.
+     *
+     * @param dictionary The role dictionary of the application.
+     * @return The role bitset, or zero if the user has no known roles.
+     */
+    long getRoleMask(MinijaxRoleDictionary dictionary);
+}
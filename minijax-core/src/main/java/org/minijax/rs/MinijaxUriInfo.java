@@ -5,25 +5,63 @@
 import java.util.List;
 import java.util.stream.Collectors;
 
+import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.PathSegment;
 import jakarta.ws.rs.core.UriBuilder;
 
-import org.minijax.rs.util.UrlUtils;
+import org.minijax.rs.util.QueryStringMap;
 
 public class MinijaxUriInfo implements jakarta.ws.rs.core.UriInfo {
-    private final URI requestUri;
+    private MinijaxRequestTarget target;
+    private URI baseUri;
     private List<PathSegment> pathSegments;
     private MultivaluedMap<String, String> pathParameters;
+    private String pathParamSource;
+    private String[] pathParamNames;
+    private int[] pathParamOffsets;
     private MultivaluedMap<String, String> queryParameters;
 
     public MinijaxUriInfo(final URI requestUri) {
-        this.requestUri = requestUri;
+        this(MinijaxRequestTarget.of(requestUri));
+    }
+
+    public MinijaxUriInfo(final MinijaxRequestTarget target) {
+        this.target = target;
+    }
+
+    /**
+     * Resets the URI info for a new request.
+     *
+     * @param requestUri The new request URI.
+     */
+    public void reset(final URI requestUri) {
+        reset(MinijaxRequestTarget.of(requestUri));
+    }
+
+    /**
+     * Resets the URI info for a new request.
+     *
+     * @param target The new request target.
+     */
+    public void reset(final MinijaxRequestTarget target) {
+        this.target = target;
+        baseUri = null;
+        pathSegments = null;
+        pathParameters = null;
+        pathParamSource = null;
+        pathParamNames = null;
+        pathParamOffsets = null;
+        queryParameters = null;
+    }
+
+    public MinijaxRequestTarget getRequestTarget() {
+        return target;
     }
 
     @Override
     public String getPath() {
-        return requestUri.getPath();
+        return target.getPath();
     }
 
     @Override
@@ -48,17 +86,17 @@ public List<PathSegment> getPathSegments(final boolean decode) {
 
     @Override
     public URI getRequestUri() {
-        return requestUri;
+        return target.toURI();
     }
 
     @Override
     public UriBuilder getRequestUriBuilder() {
-        return UriBuilder.fromUri(requestUri);
+        return UriBuilder.fromUri(getRequestUri());
     }
 
     @Override
     public URI getAbsolutePath() {
-        return getBaseUri().resolve(getPath());
+        return getBaseUri().resolve(target.toURI().getRawPath());
     }
 
     @Override
@@ -69,7 +107,10 @@ public UriBuilder getAbsolutePathBuilder() {
     @Override
     public URI getBaseUri() {
         //  See:  http://stackoverflow.com/a/23810111/2051724
-        return URI.create(requestUri.getScheme() + "://" + requestUri.getAuthority());
+        if (baseUri == null) {
+            baseUri = URI.create(target.getScheme() + "://" + target.getAuthority());
+        }
+        return baseUri;
     }
 
     @Override
@@ -79,9 +120,39 @@ public UriBuilder getBaseUriBuilder() {
 
     @Override
     public MultivaluedMap<String, String> getPathParameters() {
+        if (pathParameters == null && pathParamNames != null) {
+            pathParameters = new MultivaluedHashMap<>();
+            for (int i = 0; i < pathParamNames.length; i++) {
+                pathParameters.add(pathParamNames[i], getPathParameter(i));
+            }
+        }
         return pathParameters;
     }
 
+    /**
+     * Returns the first value of a path parameter.
+     *
+     * Unlike <code>getPathParameters().getFirst(name)</code>, this does not build the parameter map.
+     *
+     * @param name The path parameter name.
+     * @return The path parameter value, or null if not present.
+     */
+    public String getPathParameter(final String name) {
+        if (pathParamNames != null) {
+            for (int i = 0; i < pathParamNames.length; i++) {
+                if (pathParamNames[i].equals(name)) {
+                    return getPathParameter(i);
+                }
+            }
+            return null;
+        }
+        return pathParameters == null ? null : pathParameters.getFirst(name);
+    }
+
+    private String getPathParameter(final int index) {
+        return pathParamSource.substring(pathParamOffsets[index * 2], pathParamOffsets[index * 2 + 1]);
+    }
+
     @Override
     public MultivaluedMap<String, String> getPathParameters(final boolean decode) {
         return getPathParameters();
@@ -89,12 +160,31 @@ public MultivaluedMap<String, String> getPathParameters(final boolean decode) {
 
     public void setPathParameters(final MultivaluedMap<String, String> pathParameters) {
         this.pathParameters = pathParameters;
+        this.pathParamSource = null;
+        this.pathParamNames = null;
+        this.pathParamOffsets = null;
+    }
+
+    /**
+     * Sets the path parameters as offsets into a source string.
+     *
+     * The parameter strings are created on demand.
+     *
+     * @param source The source string, usually the request path.
+     * @param names The parameter names.
+     * @param offsets The start and end offset of each parameter value, two entries per name.
+     */
+    void setPathParameters(final String source, final String[] names, final int[] offsets) {
+        this.pathParameters = null;
+        this.pathParamSource = source;
+        this.pathParamNames = names;
+        this.pathParamOffsets = offsets;
     }
 
     @Override
     public MultivaluedMap<String, String> getQueryParameters() {
         if (queryParameters == null) {
-            queryParameters = UrlUtils.urlDecodeMultivaluedParams(requestUri.getQuery());
+            queryParameters = new QueryStringMap(target.getRawQuery());
         }
         return queryParameters;
     }
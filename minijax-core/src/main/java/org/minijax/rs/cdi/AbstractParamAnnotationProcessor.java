@@ -2,9 +2,22 @@
 
 import java.lang.annotation.Annotation;
 
+import jakarta.ws.rs.ext.ParamConverterProvider;
+
 import org.minijax.cdi.annotation.FieldAnnotationProcessor;
 
 abstract class AbstractParamAnnotationProcessor<T> implements FieldAnnotationProcessor<T> {
+    protected final ParamConverterProvider converters;
+
+    /**
+     * Creates a new param annotation processor.
+     *
+     * @param converters The converter lookup used to bind a <code>ParamConverter</code> to each
+     *                   provider when it is built.
+     */
+    protected AbstractParamAnnotationProcessor(final ParamConverterProvider converters) {
+        this.converters = converters;
+    }
 
     @SuppressWarnings("unchecked")
     protected static <T extends Annotation> T getAnnotationByType(final Annotation[] annotations, final Class<T> c) {
@@ -1,8 +1,13 @@
 package org.minijax.rs.cdi;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 
 import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.ext.ParamConverter;
 
 import org.minijax.cdi.MinijaxProvider;
 import org.minijax.rs.MinijaxRequestContext;
@@ -11,31 +16,82 @@
  * Base class for common ParamProvider classes.
  *
  * Implements common functionality for HeaderParamProvider, FormParamProvider, etc.
+ *
+ * The <code>ParamConverter</code> is bound when the provider is built.  If no converter is
+ * available at that time (for example, a <code>ParamConverterProvider</code> registered after
+ * the resource), the converter is resolved on first use and then cached.
  */
 abstract class AbstractParamProvider<T> implements MinijaxProvider<T> {
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            String.class, UUID.class, Boolean.class, Byte.class, Character.class,
+            Double.class, Float.class, Integer.class, Long.class, Short.class));
     protected final Class<T> type;
     protected final Annotation[] annotations;
     protected final String name;
     protected final DefaultValue defaultValue;
+    private volatile ParamConverter<T> converter;
+    private final boolean defaultConverted;
+    private final T convertedDefault;
+
+    protected AbstractParamProvider(
+            final Class<T> type,
+            final Annotation[] annotations,
+            final String name,
+            final DefaultValue defaultValue,
+            final ParamConverter<T> converter) {
 
-    public AbstractParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue) {
         this.type = type;
         this.annotations = annotations;
         this.name = name;
         this.defaultValue = defaultValue;
+        this.converter = converter;
+
+        // Default values of immutable types are converted once and shared between requests.
+        // If the conversion fails, the error is reported on each request as before.
+        T converted = null;
+        boolean success = false;
+        if (converter != null && defaultValue != null && isImmutable(type)) {
+            try {
+                converted = converter.fromString(defaultValue.value());
+                success = true;
+            } catch (final RuntimeException ex) {
+                // Leave it to the request
+            }
+        }
+        this.convertedDefault = converted;
+        this.defaultConverted = success;
     }
 
     @Override
     public T get(final Object obj) {
         final MinijaxRequestContext context = (MinijaxRequestContext) obj;
-        String value = getStringValue(context);
+        final String value = getStringValue(context);
 
         if (value == null && defaultValue != null) {
-            value = defaultValue.value();
+            if (defaultConverted) {
+                return convertedDefault;
+            }
+            return convert(context, defaultValue.value());
         }
 
-        return context.convertParamToType(value, type, annotations);
+        return convert(context, value);
     }
 
     public abstract String getStringValue(MinijaxRequestContext ctx);
+
+    private T convert(final MinijaxRequestContext context, final String value) {
+        ParamConverter<T> c = converter;
+        if (c == null) {
+            c = context.getProviders().getParamConverter(type, null, annotations);
+            if (c == null) {
+                return null;
+            }
+            converter = c;
+        }
+        return c.fromString(value);
+    }
+
+    private static boolean isImmutable(final Class<?> c) {
+        return c.isPrimitive() || c.isEnum() || IMMUTABLE_TYPES.contains(c);
+    }
 }
@@ -4,16 +4,21 @@
 
 import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.ext.ParamConverterProvider;
 
 import org.minijax.cdi.MinijaxInjectorState;
 import org.minijax.cdi.MinijaxProvider;
 
 public class CookieParamAnnotationProcessor<T> extends AbstractParamAnnotationProcessor<T> {
 
+    public CookieParamAnnotationProcessor(final ParamConverterProvider converters) {
+        super(converters);
+    }
+
     @Override
     public MinijaxProvider<T> buildProvider(final MinijaxInjectorState state, final Class<T> type, final Annotation[] annotations) {
         final CookieParam cookieParam = getAnnotationByType(annotations, CookieParam.class);
         final DefaultValue defaultValue = getAnnotationByType(annotations, DefaultValue.class);
-        return new CookieParamProvider<>(type, annotations, cookieParam.value(), defaultValue);
+        return new CookieParamProvider<>(type, annotations, cookieParam.value(), defaultValue, converters.getConverter(type, null, annotations));
     }
 }
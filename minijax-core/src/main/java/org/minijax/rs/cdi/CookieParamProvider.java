@@ -4,13 +4,15 @@
 
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.ext.ParamConverter;
 
 import org.minijax.rs.MinijaxRequestContext;
 
 class CookieParamProvider<T> extends AbstractParamProvider<T> {
 
-    public CookieParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue) {
-        super(type, annotations, name, defaultValue);
+    public CookieParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue,
+            final ParamConverter<T> converter) {
+        super(type, annotations, name, defaultValue, converter);
     }
 
     @Override
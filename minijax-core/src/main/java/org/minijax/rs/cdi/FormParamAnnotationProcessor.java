@@ -4,16 +4,21 @@
 
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.FormParam;
+import jakarta.ws.rs.ext.ParamConverterProvider;
 
 import org.minijax.cdi.MinijaxInjectorState;
 import org.minijax.cdi.MinijaxProvider;
 
 public class FormParamAnnotationProcessor<T> extends AbstractParamAnnotationProcessor<T> {
 
+    public FormParamAnnotationProcessor(final ParamConverterProvider converters) {
+        super(converters);
+    }
+
     @Override
     public MinijaxProvider<T> buildProvider(final MinijaxInjectorState state, final Class<T> type, final Annotation[] annotations) {
         final FormParam formParam = getAnnotationByType(annotations, FormParam.class);
         final DefaultValue defaultValue = getAnnotationByType(annotations, DefaultValue.class);
-        return new FormParamProvider<>(type, annotations, formParam.value(), defaultValue);
+        return new FormParamProvider<>(type, annotations, formParam.value(), defaultValue, converters.getConverter(type, null, annotations));
     }
 }
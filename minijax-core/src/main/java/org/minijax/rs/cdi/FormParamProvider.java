@@ -4,6 +4,7 @@
 import java.lang.annotation.Annotation;
 
 import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.ext.ParamConverter;
 
 import org.minijax.rs.MinijaxForm;
 import org.minijax.rs.MinijaxRequestContext;
@@ -11,8 +12,9 @@
 
 class FormParamProvider<T> extends AbstractParamProvider<T> {
 
-    public FormParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue) {
-        super(type, annotations, name, defaultValue);
+    public FormParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue,
+            final ParamConverter<T> converter) {
+        super(type, annotations, name, defaultValue, converter);
     }
 
     @Override
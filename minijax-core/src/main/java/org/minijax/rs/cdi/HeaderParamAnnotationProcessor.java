@@ -4,16 +4,21 @@
 
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.ext.ParamConverterProvider;
 
 import org.minijax.cdi.MinijaxInjectorState;
 import org.minijax.cdi.MinijaxProvider;
 
 public class HeaderParamAnnotationProcessor<T> extends AbstractParamAnnotationProcessor<T> {
 
+    public HeaderParamAnnotationProcessor(final ParamConverterProvider converters) {
+        super(converters);
+    }
+
     @Override
     public MinijaxProvider<T> buildProvider(final MinijaxInjectorState state, final Class<T> type, final Annotation[] annotations) {
         final HeaderParam headerParam = getAnnotationByType(annotations, HeaderParam.class);
         final DefaultValue defaultValue = getAnnotationByType(annotations, DefaultValue.class);
-        return new HeaderParamProvider<>(type, annotations, headerParam.value(), defaultValue);
+        return new HeaderParamProvider<>(type, annotations, headerParam.value(), defaultValue, converters.getConverter(type, null, annotations));
     }
 }
@@ -3,13 +3,15 @@
 import java.lang.annotation.Annotation;
 
 import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.ext.ParamConverter;
 
 import org.minijax.rs.MinijaxRequestContext;
 
 class HeaderParamProvider<T> extends AbstractParamProvider<T> {
 
-    public HeaderParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue) {
-        super(type, annotations, name, defaultValue);
+    public HeaderParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue,
+            final ParamConverter<T> converter) {
+        super(type, annotations, name, defaultValue, converter);
     }
 
     @Override
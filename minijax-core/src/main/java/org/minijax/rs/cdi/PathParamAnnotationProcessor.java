@@ -4,16 +4,21 @@
 
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.ext.ParamConverterProvider;
 
 import org.minijax.cdi.MinijaxInjectorState;
 import org.minijax.cdi.MinijaxProvider;
 
 public class PathParamAnnotationProcessor<T> extends AbstractParamAnnotationProcessor<T> {
 
+    public PathParamAnnotationProcessor(final ParamConverterProvider converters) {
+        super(converters);
+    }
+
     @Override
     public MinijaxProvider<T> buildProvider(final MinijaxInjectorState state, final Class<T> type, final Annotation[] annotations) {
         final PathParam pathParam = getAnnotationByType(annotations, PathParam.class);
         final DefaultValue defaultValue = getAnnotationByType(annotations, DefaultValue.class);
-        return new PathParamProvider<>(type, annotations, pathParam.value(), defaultValue);
+        return new PathParamProvider<>(type, annotations, pathParam.value(), defaultValue, converters.getConverter(type, null, annotations));
     }
 }
@@ -3,17 +3,25 @@
 import java.lang.annotation.Annotation;
 
 import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.ParamConverter;
 
 import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxUriInfo;
 
 class PathParamProvider<T> extends AbstractParamProvider<T> {
 
-    public PathParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue) {
-        super(type, annotations, name, defaultValue);
+    public PathParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue,
+            final ParamConverter<T> converter) {
+        super(type, annotations, name, defaultValue, converter);
     }
 
     @Override
     public String getStringValue(final MinijaxRequestContext context) {
-        return context.getUriInfo().getPathParameters().getFirst(name);
+        final UriInfo uriInfo = context.getUriInfo();
+        if (uriInfo instanceof MinijaxUriInfo) {
+            return ((MinijaxUriInfo) uriInfo).getPathParameter(name);
+        }
+        return uriInfo.getPathParameters().getFirst(name);
     }
 }
@@ -4,16 +4,21 @@
 
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.ext.ParamConverterProvider;
 
 import org.minijax.cdi.MinijaxInjectorState;
 import org.minijax.cdi.MinijaxProvider;
 
 public class QueryParamAnnotationProcessor<T> extends AbstractParamAnnotationProcessor<T> {
 
+    public QueryParamAnnotationProcessor(final ParamConverterProvider converters) {
+        super(converters);
+    }
+
     @Override
     public MinijaxProvider<T> buildProvider(final MinijaxInjectorState state, final Class<T> type, final Annotation[] annotations) {
         final QueryParam queryParam = getAnnotationByType(annotations, QueryParam.class);
         final DefaultValue defaultValue = getAnnotationByType(annotations, DefaultValue.class);
-        return new QueryParamProvider<>(type, annotations, queryParam.value(), defaultValue);
+        return new QueryParamProvider<>(type, annotations, queryParam.value(), defaultValue, converters.getConverter(type, null, annotations));
     }
 }
@@ -3,13 +3,15 @@
 import java.lang.annotation.Annotation;
 
 import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.ext.ParamConverter;
 
 import org.minijax.rs.MinijaxRequestContext;
 
 class QueryParamProvider<T> extends AbstractParamProvider<T> {
 
-    public QueryParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue) {
-        super(type, annotations, name, defaultValue);
+    public QueryParamProvider(final Class<T> type, final Annotation[] annotations, final String name, final DefaultValue defaultValue,
+            final ParamConverter<T> converter) {
+        super(type, annotations, name, defaultValue, converter);
     }
 
     @Override
@@ -1,14 +1,25 @@
 package org.minijax.rs.cdi;
 
 import java.lang.annotation.Annotation;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.minijax.cdi.MinijaxProvider;
 import org.minijax.cdi.annotation.TypeAnnotationProcessor;
 
 public class RequestScopedAnnotationProcessor<T> implements TypeAnnotationProcessor<T> {
+    private final AtomicInteger slotCount = new AtomicInteger();
 
     @Override
     public MinijaxProvider<T> buildProvider(final MinijaxProvider<T> sourceProvider, final Annotation[] annotations) {
-        return new RequestScopedProvider<>(sourceProvider);
+        return new RequestScopedProvider<>(sourceProvider, slotCount.getAndIncrement());
+    }
+
+    /**
+     * Returns the number of request-scoped providers built so far.
+     *
+     * @return The number of <code>ResourceCache</code> slots.
+     */
+    public int getSlotCount() {
+        return slotCount.get();
     }
 }
@@ -5,11 +5,11 @@
 
 class RequestScopedProvider<T> implements MinijaxProvider<T> {
     private final MinijaxProvider<T> sourceProvider;
-    private final Object key;
+    private final int slot;
 
-    public RequestScopedProvider(final MinijaxProvider<T> sourceProvider) {
+    public RequestScopedProvider(final MinijaxProvider<T> sourceProvider, final int slot) {
         this.sourceProvider = sourceProvider;
-        this.key = new Object();
+        this.slot = slot;
     }
 
     @Override
@@ -17,11 +17,11 @@ public T get(final Object obj) {
         final MinijaxRequestContext context = (MinijaxRequestContext) obj;
         final ResourceCache resourceCache = context.getResourceCache();
 
-        T instance = resourceCache.get(key);
+        T instance = resourceCache.get(slot);
 
         if (instance == null) {
             instance = sourceProvider.get(context);
-            resourceCache.put(key, instance);
+            resourceCache.put(slot, instance);
         }
 
         return instance;
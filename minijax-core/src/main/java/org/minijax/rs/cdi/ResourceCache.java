@@ -1,35 +1,63 @@
 package org.minijax.rs.cdi;
 
 import java.io.Closeable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 import org.minijax.commons.CloseUtils;
 
 /**
- * The ResourceCache maps a CDI <code>Key</code> to instances of the class.
+ * The ResourceCache holds the request-scoped instances of one request.
+ *
+ * Each <code>RequestScopedProvider</code> is assigned a dense slot number when it is built,
+ * so the cache is a plain array indexed by slot.  The array is allocated on first use, sized
+ * to the number of request-scoped providers known to the application, and grows if a new
+ * provider is built later.
  *
  * This class is not thread safe.  One instance should be used per request,
  * which should only be handled by one thread at a time.
  */
 public class ResourceCache implements Closeable {
-    private final Map<Object, Object> innerMap;
+    private static final Object[] EMPTY = new Object[0];
+    private final int capacity;
+    private Object[] slots;
 
     public ResourceCache() {
-        innerMap = new HashMap<>();
+        this(0);
+    }
+
+    /**
+     * Creates a new resource cache.
+     *
+     * @param capacity The expected number of slots.
+     */
+    public ResourceCache(final int capacity) {
+        this.capacity = capacity;
+        this.slots = EMPTY;
     }
 
-    public <T> void put(final Object key, final T instance) {
-        innerMap.put(key, instance);
+    public <T> void put(final int slot, final T instance) {
+        if (slot >= slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(capacity, slot + 1));
+        }
+        slots[slot] = instance;
     }
 
     @SuppressWarnings("unchecked")
-    public <T> T get(final Object key) {
-        return (T) innerMap.get(key);
+    public <T> T get(final int slot) {
+        return slot < slots.length ? (T) slots[slot] : null;
     }
 
+    /**
+     * Closes the request-scoped instances and clears the cache, so that it can be reused.
+     */
     @Override
     public void close() {
-        CloseUtils.closeQuietly(innerMap.values());
+        for (int i = 0; i < slots.length; i++) {
+            final Object instance = slots[i];
+            if (instance != null) {
+                slots[i] = null;
+                CloseUtils.closeQuietly(instance);
+            }
+        }
     }
 }
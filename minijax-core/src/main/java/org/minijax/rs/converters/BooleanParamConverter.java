@@ -0,0 +1,33 @@
+package org.minijax.rs.converters;
+
+import jakarta.ws.rs.ext.ParamConverter;
+
+/**
+ * The BooleanParamConverter converts <code>boolean</code> and <code>Boolean</code> params
+ * with <code>Boolean.valueOf</code>, which reuses cached boxes where possible.
+ *
+ * Missing values are null for <code>Boolean</code>.  For <code>boolean</code>, a missing value
+ * is passed to <code>Boolean.valueOf</code>, the same as <code>PrimitiveParamConverter</code>.
+ */
+public class BooleanParamConverter implements ParamConverter<Boolean> {
+    public static final BooleanParamConverter PRIMITIVE = new BooleanParamConverter(true);
+    public static final BooleanParamConverter BOXED = new BooleanParamConverter(false);
+    private final boolean primitive;
+
+    BooleanParamConverter(final boolean primitive) {
+        this.primitive = primitive;
+    }
+
+    @Override
+    public Boolean fromString(final String str) {
+        if (str == null && !primitive) {
+            return null;
+        }
+        return Boolean.valueOf(str);
+    }
+
+    @Override
+    public String toString(final Boolean value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package org.minijax.rs.converters;
+
+import jakarta.ws.rs.ext.ParamConverter;
+
+/**
+ * The IntegerParamConverter converts <code>int</code> and <code>Integer</code> params
+ * with <code>Integer.valueOf</code>, which reuses cached boxes where possible.
+ *
+ * Missing values are null for <code>Integer</code>.  For <code>int</code>, a missing value
+ * is passed to <code>Integer.valueOf</code>, the same as <code>PrimitiveParamConverter</code>.
+ */
+public class IntegerParamConverter implements ParamConverter<Integer> {
+    public static final IntegerParamConverter PRIMITIVE = new IntegerParamConverter(true);
+    public static final IntegerParamConverter BOXED = new IntegerParamConverter(false);
+    private final boolean primitive;
+
+    IntegerParamConverter(final boolean primitive) {
+        this.primitive = primitive;
+    }
+
+    @Override
+    public Integer fromString(final String str) {
+        if (str == null && !primitive) {
+            return null;
+        }
+        return Integer.valueOf(str);
+    }
+
+    @Override
+    public String toString(final Integer value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package org.minijax.rs.converters;
+
+import jakarta.ws.rs.ext.ParamConverter;
+
+/**
+ * The LongParamConverter converts <code>long</code> and <code>Long</code> params
+ * with <code>Long.valueOf</code>, which reuses cached boxes where possible.
+ *
+ * Missing values are null for <code>Long</code>.  For <code>long</code>, a missing value
+ * is passed to <code>Long.valueOf</code>, the same as <code>PrimitiveParamConverter</code>.
+ */
+public class LongParamConverter implements ParamConverter<Long> {
+    public static final LongParamConverter PRIMITIVE = new LongParamConverter(true);
+    public static final LongParamConverter BOXED = new LongParamConverter(false);
+    private final boolean primitive;
+
+    LongParamConverter(final boolean primitive) {
+        this.primitive = primitive;
+    }
+
+    @Override
+    public Long fromString(final String str) {
+        if (str == null && !primitive) {
+            return null;
+        }
+        return Long.valueOf(str);
+    }
+
+    @Override
+    public String toString(final Long value) {
+        return value == null ? null : value.toString();
+    }
+}
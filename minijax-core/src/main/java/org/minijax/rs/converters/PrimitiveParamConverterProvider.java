@@ -6,10 +6,35 @@
 import jakarta.ws.rs.ext.ParamConverter;
 import jakarta.ws.rs.ext.ParamConverterProvider;
 
+/**
+ * The PrimitiveParamConverterProvider handles primitive params.
+ *
+ * The common <code>int</code>, <code>long</code>, and <code>boolean</code> types, and their
+ * wrapper types, use shared specialized converters.
+ */
 public class PrimitiveParamConverterProvider implements ParamConverterProvider {
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> ParamConverter<T> getConverter(final Class<T> rawType, final Type genericType, final Annotation[] annotations) {
+        if (rawType == int.class) {
+            return (ParamConverter<T>) IntegerParamConverter.PRIMITIVE;
+        }
+        if (rawType == Integer.class) {
+            return (ParamConverter<T>) IntegerParamConverter.BOXED;
+        }
+        if (rawType == long.class) {
+            return (ParamConverter<T>) LongParamConverter.PRIMITIVE;
+        }
+        if (rawType == Long.class) {
+            return (ParamConverter<T>) LongParamConverter.BOXED;
+        }
+        if (rawType == boolean.class) {
+            return (ParamConverter<T>) BooleanParamConverter.PRIMITIVE;
+        }
+        if (rawType == Boolean.class) {
+            return (ParamConverter<T>) BooleanParamConverter.BOXED;
+        }
         return rawType.isPrimitive() ? new PrimitiveParamConverter<>(rawType) : null;
     }
 }
@@ -0,0 +1,17 @@
+package org.minijax.rs.converters;
+
+import jakarta.ws.rs.ext.ParamConverter;
+
+public class StringParamConverter implements ParamConverter<String> {
+    public static final StringParamConverter INSTANCE = new StringParamConverter();
+
+    @Override
+    public String fromString(final String str) {
+        return str;
+    }
+
+    @Override
+    public String toString(final String value) {
+        return value;
+    }
+}
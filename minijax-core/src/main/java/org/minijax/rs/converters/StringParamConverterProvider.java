@@ -0,0 +1,22 @@
+package org.minijax.rs.converters;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.ext.ParamConverter;
+import jakarta.ws.rs.ext.ParamConverterProvider;
+
+/**
+ * The StringParamConverterProvider handles <code>String</code> params without copying.
+ *
+ * Without it, <code>String</code> params would be created with the reflective
+ * <code>String(String)</code> constructor.
+ */
+public class StringParamConverterProvider implements ParamConverterProvider {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ParamConverter<T> getConverter(final Class<T> rawType, final Type genericType, final Annotation[] annotations) {
+        return rawType == String.class ? (ParamConverter<T>) StringParamConverter.INSTANCE : null;
+    }
+}
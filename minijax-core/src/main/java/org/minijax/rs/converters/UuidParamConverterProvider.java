@@ -8,10 +8,11 @@
 import jakarta.ws.rs.ext.ParamConverterProvider;
 
 public class UuidParamConverterProvider implements ParamConverterProvider {
+    private static final UuidParamConverter CONVERTER = new UuidParamConverter();
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> ParamConverter<T> getConverter(final Class<T> rawType, final Type genericType, final Annotation[] annotations) {
-        return rawType == UUID.class ? (ParamConverter<T>) new UuidParamConverter() : null;
+        return rawType == UUID.class ? (ParamConverter<T>) CONVERTER : null;
     }
 }
@@ -0,0 +1,25 @@
+package org.minijax.rs.delegates;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.ext.RuntimeDelegate.HeaderDelegate;
+
+import org.minijax.rs.util.EntityTagUtils;
+
+class MinijaxEntityTagDelegate implements HeaderDelegate<EntityTag> {
+
+    @Override
+    public EntityTag fromString(final String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Entity tag is null");
+        }
+        return EntityTagUtils.fromString(value);
+    }
+
+    @Override
+    public String toString(final EntityTag value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Entity tag is null");
+        }
+        return EntityTagUtils.toString(value);
+    }
+}
@@ -27,7 +27,10 @@
 import org.minijax.rs.MinijaxProviders;
 import org.minijax.rs.MinijaxRequestContext;
 import org.minijax.rs.util.CookieUtils;
+import org.minijax.rs.util.EntityTagUtils;
 import org.minijax.rs.util.EntityUtils;
+import org.minijax.rs.util.HttpDateUtils;
+import org.minijax.rs.util.MediaTypeUtils;
 
 class MinijaxResponse extends jakarta.ws.rs.core.Response implements ContainerResponseContext {
     private final MinijaxRequestContext context;
@@ -36,7 +39,6 @@ class MinijaxResponse extends jakarta.ws.rs.core.Response implements ContainerRe
     private Date date;
     private Object entity;
     private Locale language;
-    private Date lastModified;
     private int length;
     private Set<Link> links;
 
@@ -109,7 +111,11 @@ public OutputStream getEntityStream() {
 
     @Override
     public EntityTag getEntityTag() {
-        throw new UnsupportedOperationException();
+        final Object value = headers.getFirst(HttpHeaders.ETAG);
+        if (value == null || value instanceof EntityTag) {
+            return (EntityTag) value;
+        }
+        return EntityTagUtils.fromString(value.toString());
     }
 
     @Override
@@ -144,7 +150,11 @@ public Locale getLanguage() {
 
     @Override
     public Date getLastModified() {
-        return lastModified;
+        final Object value = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        if (value == null || value instanceof Date) {
+            return (Date) value;
+        }
+        return HttpDateUtils.parse(value.toString());
     }
 
     @Override
@@ -176,7 +186,7 @@ public URI getLocation() {
     @Override
     public MediaType getMediaType() {
         final String str = getHeaderString(HttpHeaders.CONTENT_TYPE);
-        return str == null ? null : MediaType.valueOf(str);
+        return MediaTypeUtils.parseMediaType(str);
     }
 
     @Override
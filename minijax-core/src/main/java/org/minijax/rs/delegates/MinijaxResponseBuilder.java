@@ -19,6 +19,8 @@
 import jakarta.ws.rs.core.Variant;
 
 import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.util.HttpDateUtils;
+import org.minijax.rs.util.MediaTypeUtils;
 
 public class MinijaxResponseBuilder extends jakarta.ws.rs.core.Response.ResponseBuilder {
     private final MinijaxRequestContext context;
@@ -65,7 +67,7 @@ public Object getEntity() {
 
     public MediaType getMediaType() {
         final Object obj = headers.getFirst(HttpHeaders.CONTENT_TYPE);
-        return obj == null ? null : MediaType.valueOf(obj.toString());
+        return obj == null ? null : MediaTypeUtils.parseMediaType(obj.toString());
     }
 
     @Override
@@ -190,7 +192,12 @@ public MinijaxResponseBuilder expires(final Date expires) {
 
     @Override
     public MinijaxResponseBuilder lastModified(final Date lastModified) {
-        throw new UnsupportedOperationException();
+        if (lastModified == null) {
+            headers.remove(HttpHeaders.LAST_MODIFIED);
+        } else {
+            headers.putSingle(HttpHeaders.LAST_MODIFIED, HttpDateUtils.format(lastModified));
+        }
+        return this;
     }
 
     @Override
@@ -201,12 +208,17 @@ public MinijaxResponseBuilder location(final URI location) {
 
     @Override
     public MinijaxResponseBuilder tag(final EntityTag tag) {
-        throw new UnsupportedOperationException();
+        if (tag == null) {
+            headers.remove(HttpHeaders.ETAG);
+        } else {
+            headers.putSingle(HttpHeaders.ETAG, tag);
+        }
+        return this;
     }
 
     @Override
     public MinijaxResponseBuilder tag(final String tag) {
-        throw new UnsupportedOperationException();
+        return tag(tag == null ? null : new EntityTag(tag));
     }
 
     @Override
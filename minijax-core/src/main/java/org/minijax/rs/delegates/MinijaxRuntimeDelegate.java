@@ -3,6 +3,7 @@
 import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.Link.Builder;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.NewCookie;
@@ -18,6 +19,7 @@ public class MinijaxRuntimeDelegate extends RuntimeDelegate {
     private static final MinijaxCookieDelegate COOKIE_DELEGATE = new MinijaxCookieDelegate();
     private static final MinijaxNewCookieDelegate NEW_COOKIE_DELEGATE = new MinijaxNewCookieDelegate();
     private static final MinijaxCacheControlDelegate CACHE_CONTROL_DELEGATE = new MinijaxCacheControlDelegate();
+    private static final MinijaxEntityTagDelegate ENTITY_TAG_DELEGATE = new MinijaxEntityTagDelegate();
 
     @Override
     public UriBuilder createUriBuilder() {
@@ -54,6 +56,9 @@ public <T> HeaderDelegate<T> createHeaderDelegate(final Class<T> type) {
         if (type == CacheControl.class) {
             return (HeaderDelegate<T>) CACHE_CONTROL_DELEGATE;
         }
+        if (type == EntityTag.class) {
+            return (HeaderDelegate<T>) ENTITY_TAG_DELEGATE;
+        }
         throw new IllegalArgumentException("Unrecognized header delegate: " + type);
     }
 
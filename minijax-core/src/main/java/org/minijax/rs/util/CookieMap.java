@@ -0,0 +1,189 @@
+package org.minijax.rs.util;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.ws.rs.core.Cookie;
+
+/**
+ * The CookieMap class is a read-only view of the cookies in <code>Cookie</code> request headers.
+ *
+ * The headers are scanned once, recording the offsets of each cookie name and value.
+ * <code>Cookie</code> objects are only created for the cookies that are looked up, so a request
+ * that carries many cookies but reads one of them only pays for one.  Iterating the map creates
+ * all of them.
+ *
+ * Whitespace around names and values is ignored, and a value in double quotes is unquoted.
+ * A cookie without a value has an empty value.  If a name occurs more than once, the last
+ * value wins.
+ */
+public class CookieMap extends AbstractMap<String, Cookie> {
+    private static final int FIELDS = 5;
+    private static final int LINE = 0;
+    private static final int NAME_START = 1;
+    private static final int NAME_END = 2;
+    private static final int VALUE_START = 3;
+    private static final int VALUE_END = 4;
+    private final String[] lines;
+    private int[] offsets;
+    private int count;
+    private Cookie[] cookies;
+    private Map<String, Cookie> all;
+
+    /**
+     * Creates a cookie map for <code>Cookie</code> header values.
+     *
+     * @param headers The header values, or null if the request has no cookies.
+     */
+    public CookieMap(final List<String> headers) {
+        lines = headers == null ? new String[0] : headers.toArray(new String[headers.size()]);
+        offsets = new int[FIELDS * 4];
+        for (int i = 0; i < lines.length; i++) {
+            scan(i);
+        }
+    }
+
+    @Override
+    public Cookie get(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        final int index = indexOf((String) key);
+        return index < 0 ? null : getCookie(index);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public int size() {
+        return getAll().size();
+    }
+
+    @Override
+    public Set<Entry<String, Cookie>> entrySet() {
+        return getAll().entrySet();
+    }
+
+    private void scan(final int line) {
+        final String str = lines[line];
+        final int length = str.length();
+        int i = 0;
+
+        while (i < length) {
+            // Skip separators and leading whitespace
+            char c = str.charAt(i);
+            if (c == ';' || c == ' ' || c == '\t') {
+                i++;
+                continue;
+            }
+
+            final int nameStart = i;
+            while (i < length && (c = str.charAt(i)) != '=' && c != ';') {
+                i++;
+            }
+            final int nameEnd = trimEnd(str, nameStart, i);
+
+            int valueStart = i;
+            int valueEnd = i;
+            if (i < length && c == '=') {
+                i++;
+                while (i < length && ((c = str.charAt(i)) == ' ' || c == '\t')) {
+                    i++;
+                }
+                valueStart = i;
+                while (i < length && str.charAt(i) != ';') {
+                    i++;
+                }
+                valueEnd = trimEnd(str, valueStart, i);
+                if (valueEnd - valueStart >= 2 && str.charAt(valueStart) == '"' && str.charAt(valueEnd - 1) == '"') {
+                    valueStart++;
+                    valueEnd--;
+                }
+            }
+
+            if (nameEnd > nameStart) {
+                add(line, nameStart, nameEnd, valueStart, valueEnd);
+            }
+        }
+    }
+
+    private static int trimEnd(final String str, final int start, final int end) {
+        int result = end;
+        while (result > start && (str.charAt(result - 1) == ' ' || str.charAt(result - 1) == '\t')) {
+            result--;
+        }
+        return result;
+    }
+
+    private void add(final int line, final int nameStart, final int nameEnd, final int valueStart, final int valueEnd) {
+        final int base = count * FIELDS;
+        if (base + FIELDS > offsets.length) {
+            final int[] grown = new int[offsets.length * 2];
+            System.arraycopy(offsets, 0, grown, 0, offsets.length);
+            offsets = grown;
+        }
+        offsets[base + LINE] = line;
+        offsets[base + NAME_START] = nameStart;
+        offsets[base + NAME_END] = nameEnd;
+        offsets[base + VALUE_START] = valueStart;
+        offsets[base + VALUE_END] = valueEnd;
+        count++;
+    }
+
+    private int indexOf(final String name) {
+        // Search backwards, so that the last cookie with a name wins
+        for (int index = count - 1; index >= 0; index--) {
+            final int base = index * FIELDS;
+            final int nameStart = offsets[base + NAME_START];
+            final int nameLength = offsets[base + NAME_END] - nameStart;
+            if (nameLength == name.length() && lines[offsets[base + LINE]].regionMatches(nameStart, name, 0, nameLength)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private Cookie getCookie(final int index) {
+        if (cookies == null) {
+            cookies = new Cookie[count];
+        }
+        Cookie cookie = cookies[index];
+        if (cookie == null) {
+            final int base = index * FIELDS;
+            final String line = lines[offsets[base + LINE]];
+            cookie = new Cookie(
+                    line.substring(offsets[base + NAME_START], offsets[base + NAME_END]),
+                    line.substring(offsets[base + VALUE_START], offsets[base + VALUE_END]));
+            cookies[index] = cookie;
+        }
+        return cookie;
+    }
+
+    private Map<String, Cookie> getAll() {
+        if (all == null) {
+            if (count == 0) {
+                all = Collections.emptyMap();
+            } else {
+                final Map<String, Cookie> result = new HashMap<>();
+                for (int index = 0; index < count; index++) {
+                    final Cookie cookie = getCookie(index);
+                    result.put(cookie.getName(), cookie);
+                }
+                all = Collections.unmodifiableMap(result);
+            }
+        }
+        return all;
+    }
+}
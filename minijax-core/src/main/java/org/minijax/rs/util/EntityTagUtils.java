@@ -0,0 +1,108 @@
+package org.minijax.rs.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.ws.rs.core.EntityTag;
+
+/**
+ * The EntityTagUtils class parses and formats entity tags, as used in <code>ETag</code>,
+ * <code>If-Match</code> and <code>If-None-Match</code> headers.
+ */
+public class EntityTagUtils {
+    private static final String WEAK_PREFIX = "W/";
+
+    EntityTagUtils() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Parses a single entity tag, such as <code>"abc"</code> or <code>W/"abc"</code>.
+     *
+     * Unquoted values are accepted for compatibility with lenient clients.
+     *
+     * @param value The entity tag string.
+     * @return The entity tag, or null if the value is null.
+     */
+    public static EntityTag fromString(final String value) {
+        if (value == null) {
+            return null;
+        }
+        final String str = value.trim();
+        final boolean weak = str.startsWith(WEAK_PREFIX);
+        final String opaque = weak ? str.substring(WEAK_PREFIX.length()) : str;
+        if (opaque.length() >= 2 && opaque.charAt(0) == '"' && opaque.charAt(opaque.length() - 1) == '"') {
+            return new EntityTag(opaque.substring(1, opaque.length() - 1), weak);
+        }
+        return new EntityTag(opaque, weak);
+    }
+
+    public static String toString(final EntityTag value) {
+        final StringBuilder b = new StringBuilder(value.getValue().length() + 4);
+        if (value.isWeak()) {
+            b.append(WEAK_PREFIX);
+        }
+        return b.append('"').append(value.getValue()).append('"').toString();
+    }
+
+    /**
+     * Parses a comma separated list of entity tags, such as an <code>If-None-Match</code> header.
+     *
+     * Commas inside quoted tags do not separate tags.  Empty list elements are ignored.
+     *
+     * @param value The entity tag list.
+     * @return The entity tags.
+     */
+    public static List<EntityTag> parseList(final String value) {
+        final List<EntityTag> result = new ArrayList<>();
+        if (value == null) {
+            return result;
+        }
+
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                addTag(result, value.substring(start, i));
+                start = i + 1;
+            }
+        }
+        addTag(result, value.substring(start));
+        return result;
+    }
+
+    /**
+     * Returns true if two entity tags match using the strong comparison function.
+     *
+     * Two tags match if neither is weak and their values are equal.
+     *
+     * @param a The first entity tag.
+     * @param b The second entity tag.
+     * @return True if the tags are strongly equal.
+     */
+    public static boolean strongMatch(final EntityTag a, final EntityTag b) {
+        return !a.isWeak() && !b.isWeak() && a.getValue().equals(b.getValue());
+    }
+
+    /**
+     * Returns true if two entity tags match using the weak comparison function.
+     *
+     * Two tags match if their values are equal, regardless of either tag being weak.
+     *
+     * @param a The first entity tag.
+     * @param b The second entity tag.
+     * @return True if the tags are weakly equal.
+     */
+    public static boolean weakMatch(final EntityTag a, final EntityTag b) {
+        return a.getValue().equals(b.getValue());
+    }
+
+    private static void addTag(final List<EntityTag> result, final String str) {
+        if (!str.isBlank()) {
+            result.add(fromString(str));
+        }
+    }
+}
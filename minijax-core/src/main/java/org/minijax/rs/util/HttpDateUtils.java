@@ -0,0 +1,104 @@
+package org.minijax.rs.util;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * The HttpDateUtils class parses and formats HTTP-date values, as used in
+ * <code>Last-Modified</code>, <code>If-Modified-Since</code> and similar headers.
+ *
+ * Dates are formatted as IMF-fixdate.  Parsing also accepts the obsolete RFC 850 and asctime
+ * formats, as required by RFC 9110.  The formatters are immutable and shared.  Parsed values
+ * are cached, because polling clients send the same <code>If-Modified-Since</code> value over
+ * and over, and the last formatted value is kept, because a server formats the same second
+ * many times.
+ */
+public class HttpDateUtils {
+    private static final ZoneId GMT = ZoneId.of("GMT");
+
+    private static final DateTimeFormatter IMF_FIXDATE = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+            .withZone(GMT);
+
+    private static final DateTimeFormatter RFC_850 = new DateTimeFormatterBuilder()
+            .appendPattern("EEEE, dd-MMM-")
+            .appendValueReduced(ChronoField.YEAR, 2, 2, 1970)
+            .appendPattern(" HH:mm:ss 'GMT'")
+            .toFormatter(Locale.US)
+            .withZone(GMT);
+
+    private static final DateTimeFormatter ASCTIME = DateTimeFormatter
+            .ofPattern("EEE MMM ppd HH:mm:ss yyyy", Locale.US)
+            .withZone(GMT);
+
+    private static final ParseCache<Instant> DATES = new ParseCache<>(HttpDateUtils::parseImpl);
+    private static volatile FormattedDate lastFormatted;
+
+    HttpDateUtils() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Parses an HTTP-date.
+     *
+     * @param str The date string.
+     * @return The date, or null if the string is null or not a valid HTTP-date.
+     */
+    public static Date parse(final String str) {
+        if (str == null) {
+            return null;
+        }
+        final Instant instant = DATES.get(str.trim());
+        return instant == null ? null : Date.from(instant);
+    }
+
+    /**
+     * Formats a date as an IMF-fixdate, such as <code>Sun, 06 Nov 1994 08:49:37 GMT</code>.
+     *
+     * Milliseconds are truncated.
+     *
+     * @param date The date.
+     * @return The formatted date.
+     */
+    public static String format(final Date date) {
+        final long seconds = Math.floorDiv(date.getTime(), 1000L);
+        final FormattedDate cached = lastFormatted;
+        if (cached != null && cached.seconds == seconds) {
+            return cached.value;
+        }
+        final String value = IMF_FIXDATE.format(Instant.ofEpochSecond(seconds));
+        lastFormatted = new FormattedDate(seconds, value);
+        return value;
+    }
+
+    public static ParseCache<Instant> getDateCache() {
+        return DATES;
+    }
+
+    private static Instant parseImpl(final String str) {
+        for (final DateTimeFormatter formatter : new DateTimeFormatter[] { IMF_FIXDATE, RFC_850, ASCTIME }) {
+            try {
+                return formatter.parse(str, Instant::from);
+            } catch (final DateTimeParseException ex) {
+                // Try the next format
+            }
+        }
+        return null;
+    }
+
+    private static class FormattedDate {
+        final long seconds;
+        final String value;
+
+        FormattedDate(final long seconds, final String value) {
+            this.seconds = seconds;
+            this.value = value;
+        }
+    }
+}
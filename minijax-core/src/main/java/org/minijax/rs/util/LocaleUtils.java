@@ -6,6 +6,7 @@
 import java.util.Locale;
 
 public class LocaleUtils {
+    private static final ParseCache<List<Locale>> ACCEPT_LANGUAGES = new ParseCache<>(LocaleUtils::parseAcceptLanguageImpl);
 
     LocaleUtils() {
         throw new UnsupportedOperationException();
@@ -16,6 +17,8 @@ public class LocaleUtils {
      *
      * Example: "en-ca,en;q=0.8,en-us;q=0.6,de-de;q=0.4,de;q=0.2";
      *
+     * Results are cached, so the returned list is read-only.
+     *
      * @param header The "Accepted-Languages" HTTP header.
      * @return The list of locales.
      */
@@ -23,7 +26,14 @@ public static List<Locale> parseAcceptLanguage(final String header) {
         if (header == null || header.isEmpty()) {
             return Collections.emptyList();
         }
+        return ACCEPT_LANGUAGES.get(header);
+    }
+
+    public static ParseCache<List<Locale>> getAcceptLanguageCache() {
+        return ACCEPT_LANGUAGES;
+    }
 
+    private static List<Locale> parseAcceptLanguageImpl(final String header) {
         final List<Locale> result = new ArrayList<>();
         for (final String str : header.split(",")) {
             final String[] arr = str.trim().replace("-", "_").split(";");
@@ -45,6 +55,6 @@ public static List<Locale> parseAcceptLanguage(final String header) {
             result.add(locale);
         }
 
-        return result;
+        return Collections.unmodifiableList(result);
     }
 }
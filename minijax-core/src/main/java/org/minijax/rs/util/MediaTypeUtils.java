@@ -9,6 +9,11 @@
 import jakarta.ws.rs.core.MediaType;
 
 public class MediaTypeUtils {
+    private static final String BOUNDARY = "boundary";
+    private static final ParseCache<MediaType> MEDIA_TYPES = new ParseCache<>(
+            MediaType::valueOf,
+            mediaType -> !mediaType.getParameters().containsKey(BOUNDARY));
+    private static final ParseCache<List<MediaType>> MEDIA_TYPE_LISTS = new ParseCache<>(MediaTypeUtils::parseMediaTypesImpl);
 
     MediaTypeUtils() {
         throw new UnsupportedOperationException();
@@ -32,15 +37,43 @@ private static List<MediaType> parseMediaTypes(final String[] values) {
         return result;
     }
 
+    /**
+     * Parses a comma separated list of media types, such as an <code>Accept</code> header.
+     *
+     * Results are cached, so the returned list is read-only.
+     *
+     * @param str The media type list.
+     * @return The media types.
+     */
     public static List<MediaType> parseMediaTypes(final String str) {
-        final List<MediaType> result = new ArrayList<>();
+        return str == null ? Collections.emptyList() : MEDIA_TYPE_LISTS.get(str);
+    }
 
-        if (str != null) {
-            for (final String acceptType : str.split(",\\s*")) {
-                result.add(MediaType.valueOf(acceptType));
-            }
-        }
+    /**
+     * Parses a media type, such as a <code>Content-Type</code> header.
+     *
+     * Results are cached, except for multipart types with a per-request <code>boundary</code>.
+     *
+     * @param str The media type string.
+     * @return The media type, or null if the string is null.
+     */
+    public static MediaType parseMediaType(final String str) {
+        return str == null ? null : MEDIA_TYPES.get(str);
+    }
 
-        return result;
+    public static ParseCache<MediaType> getMediaTypeCache() {
+        return MEDIA_TYPES;
+    }
+
+    public static ParseCache<List<MediaType>> getMediaTypeListCache() {
+        return MEDIA_TYPE_LISTS;
+    }
+
+    private static List<MediaType> parseMediaTypesImpl(final String str) {
+        final List<MediaType> result = new ArrayList<>();
+        for (final String acceptType : str.split(",\\s*")) {
+            result.add(MEDIA_TYPES.get(acceptType));
+        }
+        return Collections.unmodifiableList(result);
     }
 }
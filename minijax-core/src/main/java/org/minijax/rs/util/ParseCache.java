@@ -0,0 +1,95 @@
+package org.minijax.rs.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The ParseCache class memoizes the parsed value of header strings.
+ *
+ * Real traffic uses a small number of distinct <code>Content-Type</code>, <code>Accept</code>
+ * and <code>Accept-Language</code> values, so each distinct string is parsed once.  The cache
+ * is bounded: when it is full it is cleared, so that values that become hot later are still
+ * cached, and unusually long strings are never cached.  Values that are unique per request,
+ * such as multipart boundaries, can be excluded with a predicate.  Parsed values must be
+ * immutable, because they are shared between requests.
+ *
+ * Hit and miss counts are kept so that the effectiveness of the cache can be checked.
+ *
+ * @param <V> The parsed value type.
+ */
+public class ParseCache<V> {
+    static final int MAX_SIZE = 256;
+    static final int MAX_KEY_LENGTH = 512;
+    private final Function<String, V> parser;
+    private final Predicate<V> cacheable;
+    private final Map<String, V> values;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public ParseCache(final Function<String, V> parser) {
+        this(parser, value -> true);
+    }
+
+    /**
+     * Creates a parse cache that only caches some values.
+     *
+     * @param parser The parser.
+     * @param cacheable Returns true if a parsed value should be cached.
+     */
+    public ParseCache(final Function<String, V> parser, final Predicate<V> cacheable) {
+        this.parser = parser;
+        this.cacheable = cacheable;
+        this.values = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Returns the parsed value of a string.
+     *
+     * @param str The string.  Must not be null.
+     * @return The parsed value.
+     */
+    public V get(final String str) {
+        final V cached = values.get(str);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        final V result = parser.apply(str);
+        if (result != null && str.length() <= MAX_KEY_LENGTH && cacheable.test(result)) {
+            if (values.size() >= MAX_SIZE) {
+                // Clearing is cheaper than LRU bookkeeping, and hot values are re-added right away
+                values.clear();
+            }
+            values.put(str, result);
+        }
+        return result;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Clears the cache and the counters.
+     */
+    public void clear() {
+        values.clear();
+        hits.reset();
+        misses.reset();
+    }
+}
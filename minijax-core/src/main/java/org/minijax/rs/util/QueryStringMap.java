@@ -0,0 +1,240 @@
+package org.minijax.rs.util;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * The QueryStringMap class is a view of the parameters in a raw query string.
+ *
+ * The query string is scanned once, recording the offsets of each key and value.
+ * <code>getFirst()</code> and <code>containsKey()</code> work directly on the index, and a value
+ * is only decoded the first time it is returned.  Keys and values without escapes are not
+ * decoded at all.
+ *
+ * Any other operation, including iteration and modification, copies the parameters into a
+ * <code>MultivaluedHashMap</code>, and the map behaves like that copy from then on.
+ */
+public class QueryStringMap extends AbstractMap<String, List<String>> implements MultivaluedMap<String, String> {
+    private static final int FIELDS = 4;
+    private static final int KEY_START = 0;
+    private static final int KEY_END = 1;
+    private static final int VALUE_START = 2;
+    private static final int VALUE_END = 3;
+    private final String query;
+    private int[] offsets;
+    private int count;
+    private String[] keys;
+    private String[] values;
+    private MultivaluedMap<String, String> all;
+
+    /**
+     * Creates a parameter map for a raw query string.
+     *
+     * @param query The raw (still encoded) query string, or null if there is no query.
+     */
+    public QueryStringMap(final String query) {
+        this.query = query == null ? "" : query;
+        this.offsets = new int[FIELDS * 4];
+        scan();
+    }
+
+    @Override
+    public String getFirst(final String key) {
+        if (all != null) {
+            return all.getFirst(key);
+        }
+        final int index = indexOf(key);
+        return index < 0 ? null : getValue(index);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        if (all != null) {
+            return all.containsKey(key);
+        }
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return all == null ? count == 0 : all.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return getAll().size();
+    }
+
+    @Override
+    public List<String> get(final Object key) {
+        return getAll().get(key);
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return getAll().entrySet();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return getAll().keySet();
+    }
+
+    @Override
+    public Collection<List<String>> values() {
+        return getAll().values();
+    }
+
+    @Override
+    public List<String> put(final String key, final List<String> value) {
+        return getAll().put(key, value);
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends List<String>> m) {
+        getAll().putAll(m);
+    }
+
+    @Override
+    public List<String> remove(final Object key) {
+        return getAll().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        getAll().clear();
+    }
+
+    @Override
+    public void putSingle(final String key, final String value) {
+        getAll().putSingle(key, value);
+    }
+
+    @Override
+    public void add(final String key, final String value) {
+        getAll().add(key, value);
+    }
+
+    @Override
+    public void addAll(final String key, final String... newValues) {
+        getAll().addAll(key, newValues);
+    }
+
+    @Override
+    public void addAll(final String key, final List<String> valueList) {
+        getAll().addAll(key, valueList);
+    }
+
+    @Override
+    public void addFirst(final String key, final String value) {
+        getAll().addFirst(key, value);
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(final MultivaluedMap<String, String> otherMap) {
+        return getAll().equalsIgnoreValueOrder(otherMap);
+    }
+
+    private void scan() {
+        final int length = query.length();
+        int start = 0;
+
+        while (start < length) {
+            int end = query.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+
+            if (end > start) {
+                final int equals = query.indexOf('=', start);
+                if (equals >= 0 && equals < end) {
+                    add(start, equals, equals + 1, end);
+                } else {
+                    add(start, end, end, end);
+                }
+            }
+
+            start = end + 1;
+        }
+    }
+
+    private void add(final int keyStart, final int keyEnd, final int valueStart, final int valueEnd) {
+        final int base = count * FIELDS;
+        if (base + FIELDS > offsets.length) {
+            final int[] grown = new int[offsets.length * 2];
+            System.arraycopy(offsets, 0, grown, 0, offsets.length);
+            offsets = grown;
+        }
+        offsets[base + KEY_START] = keyStart;
+        offsets[base + KEY_END] = keyEnd;
+        offsets[base + VALUE_START] = valueStart;
+        offsets[base + VALUE_END] = valueEnd;
+        count++;
+    }
+
+    private int indexOf(final String key) {
+        for (int index = 0; index < count; index++) {
+            if (keyEquals(index, key)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private boolean keyEquals(final int index, final String key) {
+        if (keys != null && keys[index] != null) {
+            return keys[index].equals(key);
+        }
+
+        final int start = offsets[index * FIELDS + KEY_START];
+        final int end = offsets[index * FIELDS + KEY_END];
+        for (int i = start; i < end; i++) {
+            final char c = query.charAt(i);
+            if (c == '%' || c == '+') {
+                return getKey(index).equals(key);
+            }
+        }
+        return end - start == key.length() && query.regionMatches(start, key, 0, end - start);
+    }
+
+    private String getKey(final int index) {
+        if (keys == null) {
+            keys = new String[count];
+        }
+        String key = keys[index];
+        if (key == null) {
+            key = UrlUtils.urlDecode(query, offsets[index * FIELDS + KEY_START], offsets[index * FIELDS + KEY_END]);
+            keys[index] = key;
+        }
+        return key;
+    }
+
+    private String getValue(final int index) {
+        if (values == null) {
+            values = new String[count];
+        }
+        String value = values[index];
+        if (value == null) {
+            value = UrlUtils.urlDecode(query, offsets[index * FIELDS + VALUE_START], offsets[index * FIELDS + VALUE_END]);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    private MultivaluedMap<String, String> getAll() {
+        if (all == null) {
+            final MultivaluedMap<String, String> result = new MultivaluedHashMap<>();
+            for (int index = 0; index < count; index++) {
+                result.add(getKey(index), getValue(index));
+            }
+            all = result;
+        }
+        return all;
+    }
+}
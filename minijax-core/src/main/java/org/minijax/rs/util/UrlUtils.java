@@ -178,6 +178,26 @@ public static String urlDecode(final String str) {
         return URLDecoder.decode(str, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Decodes a range of a URL encoded string.
+     *
+     * If the range does not contain any escapes, this returns the substring without decoding.
+     *
+     * @param str The encoded input string.
+     * @param start The start index, inclusive.
+     * @param end The end index, exclusive.
+     * @return The decoded output string.
+     */
+    public static String urlDecode(final String str, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = str.charAt(i);
+            if (c == '%' || c == '+') {
+                return URLDecoder.decode(str.substring(start, end), StandardCharsets.UTF_8);
+            }
+        }
+        return str.substring(start, end);
+    }
+
     /**
      * Encodes a URL but preserves curly brace template syntax.
      *
@@ -0,0 +1,153 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.Principal;
+import java.util.Arrays;
+
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.ws.rs.ForbiddenException;
+import jakarta.ws.rs.NotAuthorizedException;
+
+import org.junit.jupiter.api.Test;
+
+class AuthorizationTest {
+
+    static class BitsetSecurity implements MinijaxSecurityContext {
+        private final String[] roles;
+        int roleChecks;
+
+        BitsetSecurity(final String... roles) {
+            this.roles = roles;
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            return () -> "user";
+        }
+
+        @Override
+        public boolean isUserInRole(final String role) {
+            roleChecks++;
+            return Arrays.asList(roles).contains(role);
+        }
+
+        @Override
+        public long getRoleMask(final MinijaxRoleDictionary dictionary) {
+            return dictionary.getMask(Arrays.asList(roles));
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return null;
+        }
+    }
+
+    public static class Resource {
+        @PermitAll
+        public void permitAll() {
+        }
+
+        @DenyAll
+        public void denyAll() {
+        }
+
+        @RolesAllowed({ "user", "admin" })
+        public void user() {
+        }
+
+        @RolesAllowed("admin")
+        public void admin() {
+        }
+    }
+
+    private static MinijaxAuthorization compile(final String name, final MinijaxRoleDictionary dictionary) throws NoSuchMethodException {
+        final RolesAllowed rolesAllowed = Resource.class.getMethod(name).getAnnotation(RolesAllowed.class);
+        if (rolesAllowed != null) {
+            return MinijaxAuthorization.compile(rolesAllowed, dictionary);
+        }
+        final DenyAll denyAll = Resource.class.getMethod(name).getAnnotation(DenyAll.class);
+        if (denyAll != null) {
+            return MinijaxAuthorization.compile(denyAll, dictionary);
+        }
+        return MinijaxAuthorization.compile(Resource.class.getMethod(name).getAnnotation(PermitAll.class), dictionary);
+    }
+
+    @Test
+    void testDictionary() {
+        final MinijaxRoleDictionary dictionary = new MinijaxRoleDictionary();
+        assertEquals(0, dictionary.register("user"));
+        assertEquals(1, dictionary.register("admin"));
+        assertEquals(0, dictionary.register("user"));
+        assertEquals(2, dictionary.size());
+        assertEquals(1, dictionary.indexOf("admin"));
+        assertEquals(-1, dictionary.indexOf("foo"));
+        assertEquals(3L, dictionary.getMask(Arrays.asList("user", "admin", "foo")));
+        assertEquals(2L, dictionary.getMask("admin"::equals));
+    }
+
+    @Test
+    void testDictionaryFull() {
+        final MinijaxRoleDictionary dictionary = new MinijaxRoleDictionary();
+        for (int i = 0; i < MinijaxRoleDictionary.MAX_ROLES; i++) {
+            assertEquals(i, dictionary.register("role" + i));
+        }
+        assertEquals(-1, dictionary.register("overflow"));
+        assertEquals(MinijaxRoleDictionary.MAX_ROLES, dictionary.size());
+    }
+
+    @Test
+    void testCompile() throws NoSuchMethodException {
+        final MinijaxRoleDictionary dictionary = new MinijaxRoleDictionary();
+        assertNull(MinijaxAuthorization.compile(null, dictionary));
+        assertNull(compile("permitAll", dictionary));
+        assertEquals(3L, compile("user", dictionary).getMask());
+        assertEquals(2L, compile("admin", dictionary).getMask());
+    }
+
+    @Test
+    void testDenyAll() throws NoSuchMethodException {
+        final MinijaxAuthorization authorization = compile("denyAll", new MinijaxRoleDictionary());
+        final BitsetSecurity security = new BitsetSecurity("admin");
+        assertThrows(ForbiddenException.class, () -> authorization.check(security));
+    }
+
+    @Test
+    void testNotLoggedIn() throws NoSuchMethodException {
+        final MinijaxAuthorization authorization = compile("user", new MinijaxRoleDictionary());
+        assertThrows(NotAuthorizedException.class, () -> authorization.check(null));
+    }
+
+    @Test
+    void testBitset() throws NoSuchMethodException {
+        final MinijaxRoleDictionary dictionary = new MinijaxRoleDictionary();
+        final MinijaxAuthorization user = compile("user", dictionary);
+        final MinijaxAuthorization admin = compile("admin", dictionary);
+        final BitsetSecurity security = new BitsetSecurity("user");
+
+        user.check(security);
+        assertThrows(ForbiddenException.class, () -> admin.check(security));
+        assertEquals(0, security.roleChecks);
+    }
+
+    @Test
+    void testOverflowFallback() throws NoSuchMethodException {
+        final MinijaxRoleDictionary dictionary = new MinijaxRoleDictionary();
+        for (int i = 0; i < MinijaxRoleDictionary.MAX_ROLES; i++) {
+            dictionary.register("role" + i);
+        }
+        final MinijaxAuthorization admin = compile("admin", dictionary);
+        assertEquals(0L, admin.getMask());
+
+        final BitsetSecurity security = new BitsetSecurity("admin");
+        admin.check(security);
+        assertEquals(1, security.roleChecks);
+    }
+}
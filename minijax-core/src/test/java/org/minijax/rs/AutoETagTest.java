@@ -0,0 +1,150 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+import org.minijax.Minijax;
+import org.minijax.rs.test.MinijaxTestHttpHeaders;
+import org.minijax.rs.test.MinijaxTestRequestContext;
+
+class AutoETagTest {
+
+    @AutoETag
+    public static class TaggedResource {
+        @GET
+        public static String get() {
+            return "hello";
+        }
+    }
+
+    public static class PlainResource {
+        @GET
+        public static String get() {
+            return "hello";
+        }
+
+        @GET
+        @AutoETag
+        public static String tagged() {
+            return "hello";
+        }
+    }
+
+    @Test
+    void testCtor() {
+        assertThrows(UnsupportedOperationException.class, MinijaxAutoETag::new);
+    }
+
+    @Test
+    void testHash() {
+        // FNV-1a test vectors
+        assertEquals("cbf29ce484222325", MinijaxAutoETag.hash(body("")));
+        assertEquals("af63dc4c8601ec8c", MinijaxAutoETag.hash(body("a")));
+        assertEquals("85944171f73967e8", MinijaxAutoETag.hash(body("foobar")));
+    }
+
+    @Test
+    void testAnnotation() throws NoSuchMethodException {
+        assertTrue(resourceMethod(TaggedResource.class, "get").isAutoETag());
+        assertFalse(resourceMethod(PlainResource.class, "get").isAutoETag());
+        assertTrue(resourceMethod(PlainResource.class, "tagged").isAutoETag());
+    }
+
+    @Test
+    void testTagged() throws Exception {
+        try (final MinijaxRequestContext ctx = createContext("GET", null)) {
+            final Response response = Response.ok("hello").build();
+            assertTrue(MinijaxAutoETag.apply(ctx, response, body("hello")));
+            assertEquals(200, response.getStatus());
+            assertEquals(new EntityTag(MinijaxAutoETag.hash(body("hello"))), response.getEntityTag());
+        }
+    }
+
+    @Test
+    void testNotModified() throws Exception {
+        final String tag = "\"" + MinijaxAutoETag.hash(body("hello")) + "\"";
+        final long tagged = MinijaxAutoETag.getTaggedCount();
+        final long notModified = MinijaxAutoETag.getNotModifiedCount();
+
+        try (final MinijaxRequestContext ctx = createContext("GET", tag)) {
+            final Response response = Response.ok("hello", "text/plain").build();
+            assertFalse(MinijaxAutoETag.apply(ctx, response, body("hello")));
+            assertEquals(304, response.getStatus());
+            assertNull(response.getEntity());
+            assertNull(response.getMediaType());
+            assertEquals(tag, response.getHeaderString("ETag"));
+        }
+
+        assertEquals(tagged + 1, MinijaxAutoETag.getTaggedCount());
+        assertEquals(notModified + 1, MinijaxAutoETag.getNotModifiedCount());
+        assertTrue(MinijaxAutoETag.getNotModifiedRate() > 0.0);
+    }
+
+    @Test
+    void testNotEnabled() throws Exception {
+        try (final MinijaxRequestContext ctx = createContext("GET", "*")) {
+            ctx.setResourceMethod(resourceMethod(PlainResource.class, "get"));
+            final Response response = Response.ok("hello").build();
+            assertTrue(MinijaxAutoETag.apply(ctx, response, body("hello")));
+            assertNull(response.getHeaderString("ETag"));
+        }
+    }
+
+    @Test
+    void testNotGet() throws Exception {
+        try (final MinijaxRequestContext ctx = createContext("POST", "*")) {
+            assertFalse(MinijaxAutoETag.isEnabled(ctx, Response.ok("hello").build()));
+        }
+    }
+
+    @Test
+    void testNotOk() throws Exception {
+        try (final MinijaxRequestContext ctx = createContext("GET", "*")) {
+            assertFalse(MinijaxAutoETag.isEnabled(ctx, Response.status(404).build()));
+        }
+    }
+
+    @Test
+    void testExistingTag() throws Exception {
+        try (final MinijaxRequestContext ctx = createContext("GET", "*")) {
+            assertFalse(MinijaxAutoETag.isEnabled(ctx, Response.ok("hello").tag("manual").build()));
+        }
+    }
+
+    private static MinijaxRequestContext createContext(final String method, final String ifNoneMatch) throws NoSuchMethodException {
+        final MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        if (ifNoneMatch != null) {
+            headers.add("If-None-Match", ifNoneMatch);
+        }
+        final MinijaxApplication application = new Minijax().getDefaultApplication();
+        final MinijaxRequestContext ctx = new MinijaxTestRequestContext(
+                application, method, new MinijaxUriInfo(URI.create("/")), new MinijaxTestHttpHeaders(headers), null);
+        ctx.setResourceMethod(resourceMethod(TaggedResource.class, "get"));
+        return ctx;
+    }
+
+    private static MinijaxResourceMethod resourceMethod(final Class<?> c, final String name) throws NoSuchMethodException {
+        return new MinijaxResourceMethod("GET", c.getMethod(name), null);
+    }
+
+    private static ByteArrayOutputStream body(final String str) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            out.write(str.getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException ex) {
+            throw new AssertionError(ex);
+        }
+        return out;
+    }
+}
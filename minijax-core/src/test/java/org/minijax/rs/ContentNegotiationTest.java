@@ -0,0 +1,116 @@
+package org.minijax.rs;
+
+import static jakarta.ws.rs.core.MediaType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.minijax.rs.test.MinijaxTest;
+
+class ContentNegotiationTest extends MinijaxTest {
+
+    @GET
+    @Path("/negotiate")
+    @Produces({ APPLICATION_JSON, TEXT_PLAIN })
+    public static String negotiate() {
+        return "hello";
+    }
+
+    @GET
+    @Path("/negotiate/any")
+    public static String any() {
+        return "hello";
+    }
+
+    @BeforeAll
+    public static void setUpContentNegotiationTest() {
+        resetServer();
+        register(ContentNegotiationTest.class);
+    }
+
+    private static Response get(final String path, final String accept) {
+        return target(path).request().header(HttpHeaders.ACCEPT, accept).get();
+    }
+
+    @Test
+    void testNoAccept() {
+        final Response response = target("/negotiate").request().get();
+        assertEquals(200, response.getStatus());
+        assertEquals(APPLICATION_JSON_TYPE, response.getMediaType());
+    }
+
+    @Test
+    void testExactMatch() {
+        assertEquals(TEXT_PLAIN_TYPE, get("/negotiate", TEXT_PLAIN).getMediaType());
+    }
+
+    @Test
+    void testQualityValues() {
+        assertEquals(TEXT_PLAIN_TYPE, get("/negotiate", "application/json;q=0.5, text/plain").getMediaType());
+        assertEquals(APPLICATION_JSON_TYPE, get("/negotiate", "application/json;q=0.9, text/plain;q=0.8").getMediaType());
+    }
+
+    @Test
+    void testWildcards() {
+        assertEquals(TEXT_PLAIN_TYPE, get("/negotiate", "text/*").getMediaType());
+        assertEquals(APPLICATION_JSON_TYPE, get("/negotiate", "*/*").getMediaType());
+    }
+
+    @Test
+    void testMostSpecificRangeWins() {
+        assertEquals(TEXT_PLAIN_TYPE, get("/negotiate", "application/json;q=0, */*").getMediaType());
+        assertEquals(TEXT_PLAIN_TYPE, get("/negotiate", "*/*;q=0.1, text/plain").getMediaType());
+    }
+
+    @Test
+    void testNotAcceptable() {
+        assertEquals(406, get("/negotiate", "image/png").getStatus());
+        assertEquals(406, get("/negotiate", "application/json;q=0, text/plain;q=0").getStatus());
+    }
+
+    @Test
+    void testNoProduces() {
+        final Response response = get("/negotiate/any", "image/png");
+        assertEquals(200, response.getStatus());
+        assertEquals(TEXT_PLAIN_TYPE, response.getMediaType());
+    }
+
+    @Test
+    void testMalformedAccept() {
+        assertEquals(TEXT_PLAIN_TYPE, get("/negotiate", "not a media type, text/plain").getMediaType());
+    }
+
+    @Test
+    void testDecisionTable() {
+        final MinijaxContentNegotiator negotiator = new MinijaxContentNegotiator(Arrays.asList(APPLICATION_JSON_TYPE, TEXT_HTML_TYPE));
+        final int precomputed = negotiator.size();
+        assertEquals(Arrays.asList(TEXT_HTML_TYPE, APPLICATION_JSON_TYPE),
+                negotiator.negotiate("text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"));
+        assertEquals(precomputed, negotiator.size());
+
+        assertEquals(Collections.singletonList(TEXT_HTML_TYPE), negotiator.negotiate("text/html"));
+        assertEquals(precomputed + 1, negotiator.size());
+
+        for (int i = 0; i < MinijaxContentNegotiator.MAX_DECISIONS * 2; i++) {
+            negotiator.negotiate("application/x-" + i);
+        }
+        assertEquals(MinijaxContentNegotiator.MAX_DECISIONS, negotiator.size());
+    }
+
+    @Test
+    void testEmptyProduces() {
+        final MinijaxContentNegotiator negotiator = new MinijaxContentNegotiator(Collections.<MediaType>emptyList());
+        assertTrue(negotiator.negotiate("image/png").isEmpty());
+        assertEquals(0, negotiator.size());
+    }
+}
@@ -0,0 +1,50 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+
+import org.junit.jupiter.api.Test;
+import org.minijax.Minijax;
+
+class DispatcherTest {
+
+    @Path("/dispatchertest")
+    public static class DispatcherResource {
+        @GET
+        @Path("/{id}")
+        public static String get(@PathParam("id") final String id, @QueryParam("n") final int n) {
+            return id + ":" + n;
+        }
+    }
+
+    @Test
+    void testMethodKey() throws NoSuchMethodException {
+        final Method method = DispatcherResource.class.getMethod("get", String.class, int.class);
+        assertEquals("get(java.lang.String,int)", MinijaxDispatcher.getMethodKey(method));
+    }
+
+    @Test
+    void testNoRegistry() {
+        assertNull(MinijaxRegistries.getDispatcher(DispatcherResource.class));
+    }
+
+    @Test
+    void testGeneratedInvoker() throws Exception {
+        final Minijax minijax = new Minijax();
+        final Method method = DispatcherResource.class.getMethod("get", String.class, int.class);
+        final MinijaxResourceMethod rm = MinijaxResourceMethod.withGeneratedInvoker("GET", method,
+                (instance, ctx) -> DispatcherResource.get(
+                        MinijaxDispatcher.getPathParam(ctx, "id", null),
+                        Integer.parseInt(MinijaxDispatcher.getQueryParam(ctx, "n", "0"))));
+
+        minijax.getDefaultApplication().addResourceMethod(rm);
+        assertEquals("abc:3", minijax.target("/dispatchertest/abc?n=3").request().get(String.class));
+        assertEquals("abc:0", minijax.target("/dispatchertest/abc").request().get(String.class));
+    }
+}
@@ -30,6 +30,14 @@ public static String hello() {
         }
     }
 
+    @Path("/dynamicfeaturetest/late")
+    public static class LateResource {
+        @GET
+        public static String hello() {
+            return "Late";
+        }
+    }
+
     @Test
     void testFeature() {
         final Minijax minijax = new Minijax();
@@ -38,6 +46,29 @@ void testFeature() {
         assertNull(MyFeature.lastInstance);
 
         minijax.register(MyResource.class);
+        assertNull(MyFeature.lastInstance);
+
+        minijax.getDefaultApplication().freeze();
         assertNotNull(MyFeature.lastInstance);
     }
+
+    @Test
+    void testFreezeOnFirstRequest() {
+        final Minijax minijax = new Minijax();
+        minijax.register(MyResource.class);
+        assertFalse(minijax.getDefaultApplication().isFrozen());
+
+        assertEquals("Hello", minijax.target("/dynamicfeaturetest").request().get(String.class));
+        assertTrue(minijax.getDefaultApplication().isFrozen());
+    }
+
+    @Test
+    void testLateRegistration() {
+        final Minijax minijax = new Minijax();
+        minijax.register(MyResource.class);
+        minijax.getDefaultApplication().freeze();
+
+        minijax.register(LateResource.class);
+        assertEquals("Late", minijax.target("/dynamicfeaturetest/late").request().get(String.class));
+    }
 }
@@ -0,0 +1,74 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.junit.jupiter.api.Test;
+import org.minijax.Minijax;
+import org.minijax.rs.MinijaxEntityProviderCache.Selection;
+import org.minijax.rs.writers.StringBodyWriter;
+
+class EntityProviderCacheTest {
+
+    @Test
+    void testWriterSelectionCached() throws IOException {
+        final Minijax minijax = new Minijax().register(WidgetWriter.class);
+        final MinijaxEntityProviderCache cache = minijax.getDefaultApplication().getWriterCache();
+
+        try (final MinijaxRequestContext ctx = minijax.createRequestContext()) {
+            final MessageBodyWriter<Widget> writer = ctx.getProviders().getMessageBodyWriter(Widget.class, null, null, MediaType.TEXT_PLAIN_TYPE);
+            assertTrue(writer instanceof WidgetWriter);
+            assertNotNull(cache.get(Widget.class, MediaType.TEXT_PLAIN_TYPE));
+
+            // Media type parameters are not part of the key
+            assertNotNull(cache.get(Widget.class, MediaType.TEXT_PLAIN_TYPE.withCharset("UTF-8")));
+
+            assertTrue(ctx.getProviders().getMessageBodyWriter(String.class, null, null, MediaType.TEXT_PLAIN_TYPE) instanceof StringBodyWriter);
+            assertNull(ctx.getProviders().getMessageBodyWriter(Object.class, null, null, MediaType.TEXT_PLAIN_TYPE));
+            assertSame(Selection.NONE, cache.get(Object.class, MediaType.TEXT_PLAIN_TYPE));
+        }
+    }
+
+    @Test
+    void testReaderSelectionCached() throws IOException {
+        final Minijax minijax = new Minijax();
+        final MinijaxEntityProviderCache cache = minijax.getDefaultApplication().getReaderCache();
+
+        try (final MinijaxRequestContext ctx = minijax.createRequestContext()) {
+            assertNull(ctx.getProviders().getMessageBodyReader(InputStream.class, null, null, MediaType.TEXT_PLAIN_TYPE));
+            assertSame(Selection.NONE, cache.get(InputStream.class, MediaType.TEXT_PLAIN_TYPE));
+        }
+    }
+
+    @Test
+    void testRegistrationClearsCache() throws IOException {
+        final Minijax minijax = new Minijax();
+        final MinijaxEntityProviderCache cache = minijax.getDefaultApplication().getWriterCache();
+
+        try (final MinijaxRequestContext ctx = minijax.createRequestContext()) {
+            assertNull(ctx.getProviders().getMessageBodyWriter(Widget.class, null, null, MediaType.TEXT_PLAIN_TYPE));
+            assertEquals(1, cache.size());
+        }
+
+        minijax.register(WidgetWriter.class);
+        assertEquals(0, cache.size());
+
+        try (final MinijaxRequestContext ctx = minijax.createRequestContext()) {
+            assertTrue(ctx.getProviders().getMessageBodyWriter(Widget.class, null, null, MediaType.TEXT_PLAIN_TYPE) instanceof WidgetWriter);
+        }
+    }
+
+    @Test
+    void testMaxSize() {
+        final MinijaxEntityProviderCache cache = new MinijaxEntityProviderCache();
+        for (int i = 0; i < MinijaxEntityProviderCache.MAX_SIZE + 10; i++) {
+            cache.put(Widget.class, new MediaType("application", "x-" + i), Selection.NONE);
+        }
+        assertEquals(MinijaxEntityProviderCache.MAX_SIZE, cache.size());
+    }
+}
@@ -24,6 +24,10 @@ public static class ExceptionB extends ExceptionA {
         private static final long serialVersionUID = 1L;
     }
 
+    public static class ExceptionC extends ExceptionB {
+        private static final long serialVersionUID = 1L;
+    }
+
     @Produces(TEXT_PLAIN)
     public static class NotFoundMapper implements ExceptionMapper<NotFoundException> {
         @Override
@@ -40,6 +44,31 @@ public Response toResponse(final ExceptionA exception) {
         }
     }
 
+    public abstract static class BaseMapper<T extends Throwable> implements ExceptionMapper<T> {
+        @Override
+        public Response toResponse(final T exception) {
+            return Response.status(200).entity(exception.getClass().getSimpleName()).build();
+        }
+    }
+
+    @Produces(TEXT_PLAIN)
+    public static class MapperB implements ExceptionMapper<ExceptionB> {
+        @Override
+        public Response toResponse(final ExceptionB exception) {
+            return Response.status(200).entity("B").build();
+        }
+    }
+
+    public static class BaseMapperA extends BaseMapper<ExceptionA> {
+    }
+
+    public static class MapperC extends BaseMapper<ExceptionC> implements Comparable<MapperC> {
+        @Override
+        public int compareTo(final MapperC o) {
+            return 0;
+        }
+    }
+
     @GET
     @Path("/notfound")
     @Produces(TEXT_PLAIN)
@@ -75,6 +104,36 @@ public static void setUpExceptionMapperTest() {
         register(MapperA.class);
     }
 
+    @Test
+    void testExceptionType() {
+        assertEquals(NotFoundException.class, MinijaxExceptionMappers.getExceptionType(NotFoundMapper.class));
+        assertEquals(ExceptionA.class, MinijaxExceptionMappers.getExceptionType(MapperA.class));
+        assertEquals(Throwable.class, MinijaxExceptionMappers.getExceptionType(BaseMapper.class));
+    }
+
+    @Test
+    void testNearestType() {
+        final MinijaxExceptionMappers mappers = new MinijaxExceptionMappers();
+        mappers.add(MapperA.class);
+        mappers.add(MapperB.class);
+        assertEquals(MapperA.class, mappers.get(ExceptionA.class));
+        assertEquals(MapperB.class, mappers.get(ExceptionB.class));
+        assertEquals(MapperB.class, mappers.get(ExceptionC.class));
+        assertNull(mappers.get(RuntimeException.class));
+
+        // Registering a mapper replaces cached lookups
+        mappers.add(MapperC.class);
+        assertEquals(MapperC.class, mappers.get(ExceptionC.class));
+    }
+
+    @Test
+    void testFirstRegisteredWinsForSameType() {
+        final MinijaxExceptionMappers mappers = new MinijaxExceptionMappers();
+        mappers.add(MapperA.class);
+        mappers.add(BaseMapperA.class);
+        assertEquals(MapperA.class, mappers.get(ExceptionB.class));
+    }
+
     @Test
     void testNotFound() {
         assertEquals("Sorry, not found", target("/notfound").request().get().getEntity());
@@ -0,0 +1,169 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.minijax.Minijax;
+
+class FilterChainTest {
+    static final List<String> CALLS = new ArrayList<>();
+
+    @NameBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    public @interface Logged {
+    }
+
+    @Priority(200)
+    public static class SecondFilter implements ContainerRequestFilter, ContainerResponseFilter {
+        @Override
+        public void filter(final ContainerRequestContext requestContext) throws IOException {
+            CALLS.add("request2");
+        }
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) throws IOException {
+            CALLS.add("response2");
+        }
+    }
+
+    @Singleton
+    @Priority(100)
+    public static class FirstFilter implements ContainerRequestFilter, ContainerResponseFilter {
+        static int instances;
+
+        public FirstFilter() {
+            instances++;
+        }
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext) throws IOException {
+            CALLS.add("request1");
+        }
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) throws IOException {
+            CALLS.add("response1");
+        }
+    }
+
+    @Logged
+    public static class LoggedFilter implements ContainerRequestFilter {
+        @Override
+        public void filter(final ContainerRequestContext requestContext) throws IOException {
+            CALLS.add("logged");
+        }
+    }
+
+    @Path("/filterchaintest")
+    public static class FilterChainResource {
+        @GET
+        public static String plain() {
+            return "plain";
+        }
+
+        @GET
+        @Logged
+        @Path("/logged")
+        public static String logged() {
+            return "logged";
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        CALLS.clear();
+        FirstFilter.instances = 0;
+    }
+
+    @Test
+    void testPriorityOrder() {
+        final Minijax minijax = new Minijax()
+                .register(FilterChainResource.class)
+                .register(SecondFilter.class)
+                .register(FirstFilter.class);
+
+        assertEquals("plain", minijax.target("/filterchaintest").request().get(String.class));
+        assertEquals(List.of("request1", "request2", "response2", "response1"), CALLS);
+    }
+
+    @Test
+    void testNameBinding() {
+        final Minijax minijax = new Minijax()
+                .register(FilterChainResource.class)
+                .register(LoggedFilter.class);
+
+        assertEquals("plain", minijax.target("/filterchaintest").request().get(String.class));
+        assertTrue(CALLS.isEmpty());
+
+        assertEquals("logged", minijax.target("/filterchaintest/logged").request().get(String.class));
+        assertEquals(List.of("logged"), CALLS);
+    }
+
+    @Test
+    void testEmptyChain() throws NoSuchMethodException {
+        final MinijaxApplication app = new Minijax().getDefaultApplication();
+        final List<MinijaxFilterChain.Entry> request = MinijaxFilterChain.buildEntries(List.of(LoggedFilter.class), new HashMap<>(), app);
+        final List<MinijaxFilterChain.Entry> response = List.of();
+
+        final MinijaxFilterChain plain = MinijaxFilterChain.build(request, response, FilterChainResource.class.getMethod("plain"));
+        assertTrue(plain.isEmpty());
+
+        final MinijaxFilterChain logged = MinijaxFilterChain.build(request, response, FilterChainResource.class.getMethod("logged"));
+        assertFalse(logged.isEmpty());
+        assertEquals(1, logged.getRequestFilterCount());
+        assertEquals(0, logged.getResponseFilterCount());
+    }
+
+    @Test
+    void testSingletonCached() {
+        final Minijax minijax = new Minijax()
+                .register(FilterChainResource.class)
+                .register(FirstFilter.class);
+
+        minijax.target("/filterchaintest").request().get(String.class);
+        minijax.target("/filterchaintest").request().get(String.class);
+        assertEquals(1, FirstFilter.instances);
+    }
+
+    @Test
+    void testFilterRegisteredAfterFreeze() {
+        final Minijax minijax = new Minijax().register(FilterChainResource.class);
+        minijax.getDefaultApplication().freeze();
+
+        minijax.register(SecondFilter.class);
+        minijax.target("/filterchaintest").request().get(String.class);
+        assertEquals(List.of("request2", "response2"), CALLS);
+    }
+
+    @Test
+    void testSyntheticMethodsUseGlobalFilters() {
+        final Minijax minijax = new Minijax()
+                .register(FilterChainResource.class)
+                .register(SecondFilter.class)
+                .register(LoggedFilter.class);
+
+        assertEquals(200, minijax.target("/filterchaintest/logged").request().options().getStatus());
+        assertEquals(List.of("request2", "response2"), CALLS);
+    }
+}
@@ -8,6 +8,8 @@
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Response;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,17 @@ public void filter(final ContainerRequestContext requestContext) throws IOExcept
         }
     }
 
+    public static class ResourceInfoFilter implements ContainerRequestFilter {
+        static ResourceInfo lastResourceInfo;
+        static Class<?> lastResourceClass;
+
+        @Override
+        public void filter(final ContainerRequestContext requestContext) throws IOException {
+            lastResourceInfo = ((MinijaxRequestContext) requestContext).getResourceMethod();
+            lastResourceClass = lastResourceInfo.getResourceClass();
+        }
+    }
+
     @GET
     @Path("/")
     public static String get() {
@@ -35,6 +48,7 @@ public static void setUpFilterTest() {
         resetServer();
         register(FilterTest.class);
         register(MyFilter.class);
+        register(ResourceInfoFilter.class);
     }
 
     @Test
@@ -42,4 +56,20 @@ void testFeature() {
         target("/").request().get();
         assertNotNull(MyFilter.lastInstance);
     }
+
+    @Test
+    void testResourceInfoOnAutomaticOptions() {
+        final Response response = target("/").request().options();
+        assertEquals(200, response.getStatus());
+        assertEquals(FilterTest.class, ResourceInfoFilter.lastResourceClass);
+        assertNull(ResourceInfoFilter.lastResourceInfo.getResourceMethod());
+    }
+
+    @Test
+    void testSyntheticInvoke() throws NoSuchMethodException {
+        final MinijaxResourceMethod get = new MinijaxResourceMethod("GET", FilterTest.class.getMethod("get"), null);
+        final MinijaxResourceMethod head = new MinijaxResourceMethod("HEAD", get);
+        assertEquals(FilterTest.class, head.getResourceClass());
+        assertThrows(IllegalStateException.class, () -> head.invoke(null));
+    }
 }
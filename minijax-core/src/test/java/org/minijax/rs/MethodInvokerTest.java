@@ -0,0 +1,105 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+import org.minijax.cdi.MinijaxProvider;
+import org.minijax.rs.test.MinijaxTest;
+
+class MethodInvokerTest extends MinijaxTest {
+
+    @Path("/error")
+    public static class ErrorResource {
+        @GET
+        public static String error() {
+            throw new AssertionError("error");
+        }
+    }
+
+    public static String static0() {
+        return "s0";
+    }
+
+    public static String static2(final String a, final String b) {
+        return a + b;
+    }
+
+    public static int static5(final int a, final int b, final int c, final int d, final int e) {
+        return a + b + c + d + e;
+    }
+
+    public String instance1(final String a) {
+        return "i" + a;
+    }
+
+    public String instance5(final String a, final String b, final String c, final String d, final String e) {
+        return a + b + c + d + e;
+    }
+
+    public static void throwsChecked() throws IOException {
+        throw new IOException("checked");
+    }
+
+    @Test
+    void testStatic() throws Throwable {
+        assertEquals("s0", invoker("static0").invoke(null, providers(), null));
+        assertEquals("ab", invoker("static2", String.class, String.class).invoke(null, providers("a", "b"), null));
+    }
+
+    @Test
+    void testStaticSpread() throws Throwable {
+        final Class<?>[] types = { int.class, int.class, int.class, int.class, int.class };
+        assertEquals(15, invoker("static5", types).invoke(null, providers(1, 2, 3, 4, 5), null));
+    }
+
+    @Test
+    void testInstance() throws Throwable {
+        assertEquals("ix", invoker("instance1", String.class).invoke(new MethodInvokerTest(), providers("x"), null));
+    }
+
+    @Test
+    void testInstanceSpread() throws Throwable {
+        final Class<?>[] types = { String.class, String.class, String.class, String.class, String.class };
+        assertEquals("abcde", invoker("instance5", types).invoke(new MethodInvokerTest(), providers("a", "b", "c", "d", "e"), null));
+    }
+
+    @Test
+    void testException() throws Exception {
+        final MinijaxMethodInvoker invoker = invoker("throwsChecked");
+        assertThrows(IOException.class, () -> invoker.invoke(null, providers(), null));
+    }
+
+    @Test
+    void testError() {
+        register(ErrorResource.class);
+        final Response response = target("/error").request().get();
+        assertEquals(500, response.getStatus());
+    }
+
+    @Test
+    void testReflectionFallback() throws Throwable {
+        final Method method = MethodInvokerTest.class.getMethod("static2", String.class, String.class);
+        final MinijaxMethodInvoker invoker = new MinijaxMethodInvoker.ReflectionInvoker(method);
+        assertEquals("ab", invoker.invoke(null, providers("a", "b"), null));
+    }
+
+    private static MinijaxMethodInvoker invoker(final String name, final Class<?>... types) throws NoSuchMethodException {
+        return MinijaxMethodInvoker.create(MethodInvokerTest.class.getMethod(name, types));
+    }
+
+    private static MinijaxProvider<?>[] providers(final Object... values) {
+        final MinijaxProvider<?>[] result = new MinijaxProvider<?>[values.length];
+        for (int i = 0; i < values.length; i++) {
+            final Object value = values[i];
+            result[i] = context -> value;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.ext.ParamConverter;
+import jakarta.ws.rs.ext.ParamConverterProvider;
+
+import org.junit.jupiter.api.Test;
+import org.minijax.Minijax;
+import org.minijax.rs.converters.BooleanParamConverter;
+import org.minijax.rs.converters.IntegerParamConverter;
+import org.minijax.rs.converters.LongParamConverter;
+import org.minijax.rs.converters.StringParamConverter;
+
+class ParamConverterTest {
+
+    public static class Point {
+        final int x;
+        final int y;
+
+        Point(final int x, final int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    public static class PointConverterProvider implements ParamConverterProvider {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ParamConverter<T> getConverter(final Class<T> rawType, final Type genericType, final Annotation[] annotations) {
+            if (rawType != Point.class) {
+                return null;
+            }
+            return (ParamConverter<T>) new ParamConverter<Point>() {
+                @Override
+                public Point fromString(final String value) {
+                    final String[] parts = value.split(",");
+                    return new Point(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+                }
+
+                @Override
+                public String toString(final Point value) {
+                    return value.x + "," + value.y;
+                }
+            };
+        }
+    }
+
+    @Path("/paramconvertertest")
+    public static class ParamConverterResource {
+
+        @GET
+        @Path("/boxed")
+        public static String getBoxed(
+                @QueryParam("i") final Integer i,
+                @QueryParam("l") final Long l,
+                @QueryParam("b") final Boolean b) {
+            return i + " " + l + " " + b;
+        }
+
+        @GET
+        @Path("/default")
+        public static String getDefault(@QueryParam("x") @DefaultValue("42") final int x) {
+            return "x=" + x;
+        }
+
+        @GET
+        @Path("/point")
+        public static String getPoint(@QueryParam("p") final Point p) {
+            return p.x + "/" + p.y;
+        }
+    }
+
+    @Test
+    void testBoxed() {
+        final Minijax minijax = new Minijax().register(ParamConverterResource.class);
+        assertEquals("1 2 true", minijax.target("/paramconvertertest/boxed?i=1&l=2&b=true").request().get(String.class));
+        assertEquals("null null null", minijax.target("/paramconvertertest/boxed").request().get(String.class));
+    }
+
+    @Test
+    void testDefaultValue() {
+        final Minijax minijax = new Minijax().register(ParamConverterResource.class);
+        assertEquals("x=42", minijax.target("/paramconvertertest/default").request().get(String.class));
+        assertEquals("x=42", minijax.target("/paramconvertertest/default").request().get(String.class));
+        assertEquals("x=7", minijax.target("/paramconvertertest/default?x=7").request().get(String.class));
+    }
+
+    @Test
+    void testConverterRegisteredAfterResource() {
+        final Minijax minijax = new Minijax()
+                .register(ParamConverterResource.class)
+                .register(PointConverterProvider.class);
+        assertEquals("3/4", minijax.target("/paramconvertertest/point?p=3,4").request().get(String.class));
+    }
+
+    @Test
+    void testBuiltInConverters() {
+        final MinijaxApplication app = new MinijaxApplication();
+        assertSame(IntegerParamConverter.PRIMITIVE, app.getParamConverter(int.class, null, null));
+        assertSame(IntegerParamConverter.BOXED, app.getParamConverter(Integer.class, null, null));
+        assertSame(LongParamConverter.PRIMITIVE, app.getParamConverter(long.class, null, null));
+        assertSame(LongParamConverter.BOXED, app.getParamConverter(Long.class, null, null));
+        assertSame(BooleanParamConverter.PRIMITIVE, app.getParamConverter(boolean.class, null, null));
+        assertSame(BooleanParamConverter.BOXED, app.getParamConverter(Boolean.class, null, null));
+        assertSame(StringParamConverter.INSTANCE, app.getParamConverter(String.class, null, null));
+    }
+
+    @Test
+    void testFastConverters() {
+        assertEquals(123, IntegerParamConverter.PRIMITIVE.fromString("123"));
+        assertNull(IntegerParamConverter.BOXED.fromString(null));
+        assertThrows(NumberFormatException.class, () -> IntegerParamConverter.PRIMITIVE.fromString(null));
+        assertEquals(123L, LongParamConverter.PRIMITIVE.fromString("123"));
+        assertNull(LongParamConverter.BOXED.fromString(null));
+        assertEquals(Boolean.TRUE, BooleanParamConverter.PRIMITIVE.fromString("true"));
+        assertEquals(Boolean.FALSE, BooleanParamConverter.PRIMITIVE.fromString(null));
+        assertNull(BooleanParamConverter.BOXED.fromString(null));
+        assertEquals("7", IntegerParamConverter.BOXED.toString(7));
+        assertNull(LongParamConverter.BOXED.toString(null));
+        assertEquals("x", StringParamConverter.INSTANCE.toString("x"));
+    }
+}
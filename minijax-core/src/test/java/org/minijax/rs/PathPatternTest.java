@@ -3,6 +3,7 @@
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
@@ -115,6 +116,27 @@ void testUuidRegex() {
         assertFalse(p.matcher("/00000000-0000-0000-0000-00000000000x").matches());
     }
 
+    @Test
+    void testSegments() {
+        final List<MinijaxPathPattern.Segment> segments = MinijaxPathPattern.parse(getMethod("get3"), "/foo/{x}/{y:[a-z]/[0-9]}.json").getSegments();
+        assertEquals(3, segments.size());
+        assertEquals(MinijaxPathPattern.SegmentType.LITERAL, segments.get(0).getType());
+        assertEquals("foo", segments.get(0).getText());
+        assertEquals(MinijaxPathPattern.SegmentType.TEMPLATE, segments.get(1).getType());
+        assertEquals("x", segments.get(1).getParamName());
+        assertEquals("[^/]+", segments.get(1).getParamRegex());
+        assertTrue(segments.get(1).isDefaultRegex());
+        assertEquals(MinijaxPathPattern.SegmentType.COMPLEX, segments.get(2).getType());
+    }
+
+    @Test
+    void testRootSegments() {
+        final List<MinijaxPathPattern.Segment> segments = MinijaxPathPattern.parse(getMethod("get1"), "/").getSegments();
+        assertEquals(1, segments.size());
+        assertEquals("", segments.get(0).getText());
+        assertNull(MinijaxPathPattern.parse(getMethod("get1"), "foo").getSegments());
+    }
+
     @Test
     void testUnexpectedCurly() {
         assertThrows(IllegalArgumentException.class, () -> MinijaxPathPattern.parse(getMethod("get1"), "}"));
@@ -0,0 +1,157 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.minijax.rs.test.MinijaxTest;
+
+class PreconditionsTest extends MinijaxTest {
+    private static final EntityTag TAG = new EntityTag("v1");
+    private static final Date LAST_MODIFIED = new Date(784111777000L);
+    private static final String LAST_MODIFIED_STR = "Sun, 06 Nov 1994 08:49:37 GMT";
+    private static final String EARLIER = "Sun, 06 Nov 1994 08:49:36 GMT";
+
+    @GET
+    @Path("/both")
+    public static Response getBoth(@Context final Request request) {
+        final ResponseBuilder builder = request.evaluatePreconditions(LAST_MODIFIED, TAG);
+        if (builder != null) {
+            return builder.build();
+        }
+        return Response.ok("hello").tag(TAG).lastModified(LAST_MODIFIED).build();
+    }
+
+    @GET
+    @Path("/date")
+    public static Response getDate(@Context final Request request) {
+        final ResponseBuilder builder = request.evaluatePreconditions(new Date(LAST_MODIFIED.getTime() + 500));
+        return builder != null ? builder.build() : Response.ok("hello").build();
+    }
+
+    @PUT
+    @Path("/both")
+    public static Response putBoth(@Context final Request request) {
+        final ResponseBuilder builder = request.evaluatePreconditions(TAG);
+        return builder != null ? builder.build() : Response.ok("updated").build();
+    }
+
+    @POST
+    @Path("/missing")
+    public static Response createMissing(@Context final Request request) {
+        final ResponseBuilder builder = request.evaluatePreconditions();
+        return builder != null ? builder.build() : Response.ok("created").build();
+    }
+
+    @BeforeAll
+    public static void setUpPreconditionsTest() {
+        resetServer();
+        register(PreconditionsTest.class);
+    }
+
+    @Test
+    void testNoConditions() {
+        final Response r = target("/both").request().get();
+        assertEquals(200, r.getStatus());
+        assertEquals(TAG, r.getEntityTag());
+        assertEquals("\"v1\"", r.getHeaderString("ETag"));
+        assertEquals(LAST_MODIFIED_STR, r.getHeaderString("Last-Modified"));
+        assertEquals(LAST_MODIFIED, r.getLastModified());
+    }
+
+    @Test
+    void testIfNoneMatch() {
+        final Response r = target("/both").request().header("If-None-Match", "\"v0\", \"v1\"").get();
+        assertEquals(304, r.getStatus());
+        assertEquals(TAG, r.getEntityTag());
+        assertNull(r.getEntity());
+    }
+
+    @Test
+    void testIfNoneMatchWeak() {
+        assertEquals(304, target("/both").request().header("If-None-Match", "W/\"v1\"").get().getStatus());
+    }
+
+    @Test
+    void testIfNoneMatchStar() {
+        assertEquals(304, target("/both").request().header("If-None-Match", "*").get().getStatus());
+    }
+
+    @Test
+    void testIfNoneMatchMiss() {
+        final Response r = target("/both").request()
+                .header("If-None-Match", "\"v0\"")
+                .header("If-Modified-Since", LAST_MODIFIED_STR)
+                .get();
+
+        // If-Modified-Since is ignored when If-None-Match is present
+        assertEquals(200, r.getStatus());
+    }
+
+    @Test
+    void testIfModifiedSince() {
+        assertEquals(304, target("/both").request().header("If-Modified-Since", LAST_MODIFIED_STR).get().getStatus());
+        assertEquals(200, target("/both").request().header("If-Modified-Since", EARLIER).get().getStatus());
+        assertEquals(200, target("/both").request().header("If-Modified-Since", "yesterday").get().getStatus());
+    }
+
+    @Test
+    void testIfModifiedSinceObsoleteFormats() {
+        assertEquals(304, target("/both").request().header("If-Modified-Since", "Sunday, 06-Nov-94 08:49:37 GMT").get().getStatus());
+        assertEquals(304, target("/both").request().header("If-Modified-Since", "Sun Nov  6 08:49:37 1994").get().getStatus());
+    }
+
+    @Test
+    void testIfModifiedSinceSecondPrecision() {
+        assertEquals(304, target("/date").request().header("If-Modified-Since", LAST_MODIFIED_STR).get().getStatus());
+    }
+
+    @Test
+    void testIfUnmodifiedSince() {
+        assertEquals(200, target("/both").request().header("If-Unmodified-Since", LAST_MODIFIED_STR).get().getStatus());
+        assertEquals(412, target("/both").request().header("If-Unmodified-Since", EARLIER).get().getStatus());
+    }
+
+    @Test
+    void testIfMatch() {
+        assertEquals(200, target("/both").request().header("If-Match", "\"v1\"").put(Entity.text("x")).getStatus());
+        assertEquals(200, target("/both").request().header("If-Match", "*").put(Entity.text("x")).getStatus());
+        assertEquals(412, target("/both").request().header("If-Match", "\"v0\"").put(Entity.text("x")).getStatus());
+
+        // If-Match uses strong comparison
+        assertEquals(412, target("/both").request().header("If-Match", "W/\"v1\"").put(Entity.text("x")).getStatus());
+    }
+
+    @Test
+    void testIfNoneMatchUnsafeMethod() {
+        assertEquals(412, target("/both").request().header("If-None-Match", "\"v1\"").put(Entity.text("x")).getStatus());
+    }
+
+    @Test
+    void testMissingResource() {
+        assertEquals(200, target("/missing").request().post(Entity.text("x")).getStatus());
+        assertEquals(200, target("/missing").request().header("If-None-Match", "*").post(Entity.text("x")).getStatus());
+        assertEquals(412, target("/missing").request().header("If-Match", "*").post(Entity.text("x")).getStatus());
+    }
+
+    @Test
+    void testNullArguments() {
+        final MinijaxRequest request = new MinijaxRequest("GET");
+        assertThrows(IllegalArgumentException.class, () -> request.evaluatePreconditions((EntityTag) null));
+        assertThrows(IllegalArgumentException.class, () -> request.evaluatePreconditions((Date) null));
+        assertNull(request.evaluatePreconditions(TAG));
+    }
+}
@@ -0,0 +1,77 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.minijax.rs.registries.covered.CoveredResource;
+import org.minijax.rs.registries.covered.UnprocessedResource;
+import org.minijax.rs.registries.sibling.SiblingResource;
+
+class RegistriesTest {
+    private static final String ROOT = "org.minijax.rs.registries";
+    private static final String COVERED = "org.minijax.rs.registries.covered";
+
+    @Test
+    void testCtor() {
+        assertThrows(UnsupportedOperationException.class, MinijaxRegistries::new);
+    }
+
+    @Test
+    void testUncoveredSibling() {
+        final Set<Class<?>> classes = MinijaxRegistries.getClasses(registries(), ROOT);
+        assertTrue(classes.contains(CoveredResource.class));
+        assertTrue(classes.contains(UnprocessedResource.class));
+        assertTrue(classes.contains(SiblingResource.class));
+    }
+
+    @Test
+    void testIncompletePackage() {
+        final Set<Class<?>> classes = MinijaxRegistries.getClasses(registries(), COVERED);
+        assertTrue(classes.contains(CoveredResource.class));
+        assertTrue(classes.contains(UnprocessedResource.class));
+        assertFalse(classes.contains(SiblingResource.class));
+    }
+
+    @Test
+    void testCompletePackage() {
+        final Set<Class<?>> classes = MinijaxRegistries.getClasses(registries(COVERED), COVERED);
+        assertEquals(Collections.singleton(CoveredResource.class), classes);
+    }
+
+    @Test
+    void testCompleteSubpackageStillScansParent() {
+        final Set<Class<?>> classes = MinijaxRegistries.getClasses(registries(COVERED), ROOT);
+        assertTrue(classes.contains(CoveredResource.class));
+        assertTrue(classes.contains(UnprocessedResource.class));
+        assertTrue(classes.contains(SiblingResource.class));
+    }
+
+    private static List<MinijaxRegistry> registries(final String... completePackages) {
+        return Collections.singletonList(new MinijaxRegistry() {
+            @Override
+            public List<String> getPackages() {
+                return Collections.singletonList(COVERED);
+            }
+
+            @Override
+            public List<String> getCompletePackages() {
+                return Arrays.asList(completePackages);
+            }
+
+            @Override
+            public List<Class<?>> getClasses() {
+                return Collections.singletonList(CoveredResource.class);
+            }
+
+            @Override
+            public List<MinijaxDispatcher> getDispatchers() {
+                return Collections.emptyList();
+            }
+        });
+    }
+}
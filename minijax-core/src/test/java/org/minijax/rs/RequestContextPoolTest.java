@@ -0,0 +1,99 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.minijax.Minijax;
+import org.minijax.rs.test.MinijaxTestRequestContext;
+
+class RequestContextPoolTest {
+
+    @Path("/pooltest")
+    public static class PoolTestResource {
+        @GET
+        public static String get() {
+            return "ok";
+        }
+    }
+
+    private static MinijaxRequestContextPool<MinijaxTestRequestContext> createPool(final Minijax minijax) {
+        return new MinijaxRequestContextPool<>(minijax.getDefaultApplication(), app -> new MinijaxTestRequestContext(app, "GET", "/"));
+    }
+
+    @Test
+    void testDefault() throws IOException {
+        final MinijaxRequestContextPool<MinijaxTestRequestContext> pool = createPool(new Minijax());
+        assertFalse(pool.isRecycling());
+
+        final MinijaxTestRequestContext ctx = pool.acquire();
+        pool.release(ctx);
+        assertNotSame(ctx, pool.acquire());
+    }
+
+    @Test
+    void testRecycle() throws IOException {
+        final MinijaxRequestContextPool<MinijaxTestRequestContext> pool = createPool(new Minijax().recycleContexts());
+        assertTrue(pool.isRecycling());
+
+        final MinijaxTestRequestContext ctx = pool.acquire();
+        ctx.setProperty("a", "b");
+        final MinijaxRequest request = ctx.getRequest();
+        pool.release(ctx);
+
+        final MinijaxTestRequestContext ctx2 = pool.acquire();
+        assertSame(ctx, ctx2);
+        assertNull(ctx2.getProperty("a"));
+        assertNotSame(request, ctx2.getRequest());
+        assertNull(ctx2.getResourceMethod());
+    }
+
+    @Test
+    void testRecycleProviders() throws IOException {
+        final Minijax minijax = new Minijax().recycleContexts();
+        final MinijaxApplication application = minijax.getDefaultApplication();
+        final MinijaxRequestContextPool<MinijaxTestRequestContext> pool = createPool(minijax);
+        application.freeze();
+
+        final MinijaxTestRequestContext ctx = pool.acquire();
+        final MinijaxProviders providers = ctx.getProviders();
+        assertSame(application.getSharedProviders(), providers);
+        pool.release(ctx);
+
+        // Registering after freeze rebuilds the shared providers
+        minijax.register(PoolTestResource.class);
+        assertNotSame(providers, application.getSharedProviders());
+
+        final MinijaxTestRequestContext ctx2 = pool.acquire();
+        assertSame(ctx, ctx2);
+        assertSame(application.getSharedProviders(), ctx2.getProviders());
+        pool.release(ctx2);
+    }
+
+    @Test
+    void testNestedAcquire() throws IOException {
+        final MinijaxRequestContextPool<MinijaxTestRequestContext> pool = createPool(new Minijax().recycleContexts());
+        final MinijaxTestRequestContext outer = pool.acquire();
+        final MinijaxTestRequestContext inner = pool.acquire();
+        assertNotSame(outer, inner);
+        pool.release(inner);
+        pool.release(outer);
+    }
+
+    @Test
+    void testDetectLeaks() throws IOException {
+        final MinijaxRequestContextPool<MinijaxTestRequestContext> pool = createPool(new Minijax().recycleContexts().detectContextLeaks());
+
+        final MinijaxTestRequestContext ctx = pool.acquire();
+        pool.release(ctx);
+        assertNotSame(ctx, pool.acquire());
+
+        // Use after release is logged, not thrown
+        ctx.setProperty("a", "b");
+        assertEquals("b", ctx.getProperty("a"));
+    }
+}
@@ -4,11 +4,62 @@
 
 import java.io.IOException;
 
+import jakarta.inject.Singleton;
+
 import org.junit.jupiter.api.Test;
+import org.minijax.Minijax;
 import org.minijax.rs.test.MinijaxTest;
+import org.minijax.rs.test.MinijaxTestRequestContext;
 
 class RequestContextTest extends MinijaxTest {
 
+    @Singleton
+    public static class SingletonWidgetWriter extends WidgetWriter {
+    }
+
+    @Test
+    void testLazyMembers() throws IOException {
+        try (final MinijaxRequestContext ctx = createRequestContext()) {
+            assertNull(ctx.getProperty("a"));
+            assertTrue(ctx.getPropertyNames().isEmpty());
+            ctx.removeProperty("a");
+            assertEquals("GET", ctx.getRequest().getMethod());
+            assertSame(ctx.getRequest(), ctx.getRequest());
+            assertSame(ctx.getResourceCache(), ctx.getResourceCache());
+        }
+    }
+
+    @Test
+    void testSharedProviders() throws IOException {
+        final MinijaxApplication app = new Minijax().register(SingletonWidgetWriter.class).getDefaultApplication();
+        app.freeze();
+        assertNotNull(app.getSharedProviders());
+
+        try (final MinijaxRequestContext ctx1 = new MinijaxTestRequestContext(app, "GET", "/");
+                final MinijaxRequestContext ctx2 = new MinijaxTestRequestContext(app, "GET", "/")) {
+            assertSame(app.getSharedProviders(), ctx1.getProviders());
+            assertSame(ctx1.getProviders(), ctx2.getProviders());
+            assertTrue(ctx1.getProviders().getMessageBodyWriter(Widget.class, null, null, null) instanceof SingletonWidgetWriter);
+        }
+
+        // A per-request writer registered late disables sharing
+        app.register(WidgetWriter.class);
+        assertNull(app.getSharedProviders());
+    }
+
+    @Test
+    void testPerRequestProviders() throws IOException {
+        final MinijaxApplication app = new Minijax().register(WidgetWriter.class).getDefaultApplication();
+        app.freeze();
+        assertNull(app.getSharedProviders());
+
+        try (final MinijaxRequestContext ctx1 = new MinijaxTestRequestContext(app, "GET", "/");
+                final MinijaxRequestContext ctx2 = new MinijaxTestRequestContext(app, "GET", "/")) {
+            assertNotSame(ctx1.getProviders(), ctx2.getProviders());
+            assertSame(ctx1.getProviders(), ctx1.getProviders());
+        }
+    }
+
     @Test
     void testProperties() throws IOException {
         try (final MinijaxRequestContext ctx = createRequestContext()) {
@@ -0,0 +1,109 @@
+package org.minijax.rs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+class RequestTargetTest {
+
+    @Test
+    void testOriginForm() {
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse("/users/123?a=1&b=2");
+        assertNull(target.getScheme());
+        assertNull(target.getAuthority());
+        assertEquals("/users/123", target.getRawPath());
+        assertEquals("/users/123", target.getPath());
+        assertEquals("a=1&b=2", target.getRawQuery());
+        assertEquals(URI.create("/users/123?a=1&b=2"), target.toURI());
+    }
+
+    @Test
+    void testAbsoluteForm() {
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse("https://www.example.com:8443/path?q=x#frag");
+        assertEquals("https", target.getScheme());
+        assertEquals("www.example.com:8443", target.getAuthority());
+        assertEquals("/path", target.getRawPath());
+        assertEquals("q=x", target.getRawQuery());
+        assertEquals("https://www.example.com:8443/path?q=x", target.toString());
+    }
+
+    @Test
+    void testNoPathOrQuery() {
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse("http://localhost");
+        assertEquals("localhost", target.getAuthority());
+        assertEquals("", target.getRawPath());
+        assertNull(target.getRawQuery());
+    }
+
+    @Test
+    void testEmptyQuery() {
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse("/a?");
+        assertEquals("/a", target.getRawPath());
+        assertEquals("", target.getRawQuery());
+    }
+
+    @Test
+    void testSeparateQuery() {
+        assertEquals("x=1", MinijaxRequestTarget.parse("http://localhost/a", "x=1").getRawQuery());
+        assertNull(MinijaxRequestTarget.parse("http://localhost/a", null).getRawQuery());
+        assertNull(MinijaxRequestTarget.parse("http://localhost/a", "").getRawQuery());
+    }
+
+    @Test
+    void testIllegalUriCharacters() {
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse("http://localhost/a b|c?q=x y|z^{}");
+        assertEquals("/a b|c", target.getRawPath());
+        assertEquals("q=x y|z^{}", target.getRawQuery());
+        assertEquals(URI.create("http://localhost/a%20b%7Cc?q=x%20y%7Cz%5E%7B%7D"), target.toURI());
+    }
+
+    @Test
+    void testEncodeIllegal() {
+        final String legal = "/a/b%20c?x=1&y=(2)";
+        assertSame(legal, MinijaxRequestTarget.encodeIllegal(legal));
+        assertEquals("/caf%C3%A9", MinijaxRequestTarget.encodeIllegal("/caf\u00e9"));
+        assertEquals("/%F0%9F%98%80", MinijaxRequestTarget.encodeIllegal("/\ud83d\ude00"));
+        assertEquals("/100%25", MinijaxRequestTarget.encodeIllegal("/100%"));
+        assertEquals("/%25zz", MinijaxRequestTarget.encodeIllegal("/%zz"));
+        assertEquals("/%5B1%5D", MinijaxRequestTarget.encodeIllegal("/[1]"));
+    }
+
+    @Test
+    void testColonInPath() {
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse("/redirect?to=http://example.com/");
+        assertNull(target.getScheme());
+        assertEquals("/redirect", target.getRawPath());
+        assertEquals("to=http://example.com/", target.getRawQuery());
+    }
+
+    @Test
+    void testDecodePath() {
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse("/a%20b/%E2%82%AC/c+d/100%");
+        assertEquals("/a%20b/%E2%82%AC/c+d/100%", target.getRawPath());
+        assertEquals("/a b/€/c+d/100%", target.getPath());
+    }
+
+    @Test
+    void testPlainPathNotCopied() {
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse("/plain");
+        assertSame(target.getRawPath(), target.getPath());
+    }
+
+    @Test
+    void testWithScheme() {
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse("http://example.com/x").withScheme("https");
+        assertEquals("https", target.getScheme());
+        assertEquals(URI.create("https://example.com/x"), target.toURI());
+    }
+
+    @Test
+    void testOfUri() {
+        final URI uri = URI.create("http://example.com/x?y=z");
+        final MinijaxRequestTarget target = MinijaxRequestTarget.of(uri);
+        assertSame(uri, target.toURI());
+        assertEquals("/x", target.getPath());
+        assertEquals("y=z", target.getRawQuery());
+    }
+}
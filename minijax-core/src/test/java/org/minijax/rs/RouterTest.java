@@ -0,0 +1,260 @@
+package org.minijax.rs;
+
+import static jakarta.ws.rs.HttpMethod.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import jakarta.ws.rs.PathParam;
+
+import org.junit.jupiter.api.Test;
+
+class RouterTest {
+
+    public static void handler(
+            @PathParam("id") final String id,
+            @PathParam("n") final int n,
+            @PathParam("u") final UUID u,
+            @PathParam("file") final String file) {
+    }
+
+    @Test
+    void testLiteral() {
+        final MinijaxResourceMethod a = route(GET, "/a");
+        final MinijaxResourceMethod b = route(GET, "/a/b");
+        final MinijaxRouter router = router(a, b);
+        assertSame(a, find(router, GET, "/a"));
+        assertSame(b, find(router, GET, "/a/b"));
+        assertNull(find(router, GET, "/a/"));
+        assertNull(find(router, GET, "/a/b/c"));
+        assertNull(find(router, GET, "/b"));
+    }
+
+    @Test
+    void testRoot() {
+        final MinijaxResourceMethod root = route(GET, "/");
+        final MinijaxRouter router = router(root);
+        assertSame(root, find(router, GET, "/"));
+        assertNull(find(router, GET, "/x"));
+    }
+
+    @Test
+    void testHttpMethod() {
+        final MinijaxResourceMethod get = route(GET, "/a");
+        final MinijaxResourceMethod post = route(POST, "/a");
+        final MinijaxRouter router = router(get, post);
+        assertSame(get, find(router, GET, "/a"));
+        assertSame(post, find(router, POST, "/a"));
+        assertNull(find(router, PUT, "/a"));
+    }
+
+    @Test
+    void testHeadFallback() {
+        final MinijaxResourceMethod get = route(GET, "/a");
+        final MinijaxResourceMethod head = route(HEAD, "/b");
+        final MinijaxResourceMethod getB = route(GET, "/b");
+        final MinijaxRouter router = router(get, head, getB);
+        assertSame(get, find(router, HEAD, "/a"));
+        assertSame(head, find(router, HEAD, "/b"));
+        assertNull(find(router, HEAD, "/c"));
+    }
+
+    @Test
+    void testHeadFallbackPrecedence() {
+        final MinijaxResourceMethod head = route(HEAD, "/{id}");
+        final MinijaxResourceMethod get = route(GET, "/a");
+        assertSame(head, find(router(head, get), HEAD, "/a"));
+    }
+
+    @Test
+    void testOptionsFallback() {
+        final MinijaxRouter router = router(route(GET, "/a"), route(POST, "/a"), route(PUT, "/b/{id}"));
+        final MinijaxResourceMethod a = find(router, OPTIONS, "/a");
+        assertTrue(a instanceof MinijaxOptionsResource);
+        assertEquals("GET, HEAD, OPTIONS, POST", ((MinijaxOptionsResource) a).getAllow());
+
+        final MinijaxResourceMethod b = find(router, OPTIONS, "/b/123");
+        assertEquals("OPTIONS, PUT", ((MinijaxOptionsResource) b).getAllow());
+
+        assertNull(find(router, OPTIONS, "/c"));
+    }
+
+    @Test
+    void testExplicitOptions() {
+        final MinijaxResourceMethod options = route(OPTIONS, "/a");
+        assertSame(options, find(router(route(GET, "/a"), options), OPTIONS, "/a"));
+    }
+
+    @Test
+    void testPathParams() {
+        final MinijaxRouter router = router(route(GET, "/users/{id}/items/{n}"));
+        final MinijaxUriInfo uriInfo = new MinijaxUriInfo(URI.create("/users/alice/items/42"));
+        assertNotNull(router.findRoute(GET, uriInfo));
+        assertEquals("alice", uriInfo.getPathParameters().getFirst("id"));
+        assertEquals("42", uriInfo.getPathParameters().getFirst("n"));
+    }
+
+    @Test
+    void testTypedParams() {
+        final MinijaxResourceMethod n = route(GET, "/x/{n}");
+        final MinijaxResourceMethod u = route(GET, "/x/{u}");
+        final MinijaxRouter router = router(n, u);
+        assertSame(n, find(router, GET, "/x/-123"));
+        assertSame(u, find(router, GET, "/x/" + UUID.randomUUID()));
+        assertNull(find(router, GET, "/x/abc"));
+        assertNull(find(router, GET, "/x/"));
+    }
+
+    @Test
+    void testLiteralPrecedence() {
+        final MinijaxResourceMethod template = route(GET, "/users/{id}");
+        final MinijaxResourceMethod literal = route(GET, "/users/me");
+        final MinijaxRouter router = router(template, literal);
+        assertSame(literal, find(router, GET, "/users/me"));
+        assertSame(template, find(router, GET, "/users/you"));
+    }
+
+    @Test
+    void testRegistrationOrderPrecedence() {
+        final MinijaxResourceMethod first = route(GET, "/a/{id}");
+        final MinijaxResourceMethod second = route(GET, "/a/{file}");
+        assertSame(first, find(router(first, second), GET, "/a/b"));
+        assertSame(second, find(router(second, first), GET, "/a/b"));
+    }
+
+    @Test
+    void testCustomRegex() {
+        final MinijaxResourceMethod files = route(GET, "/static/{file:.*}");
+        final MinijaxResourceMethod json = route(GET, "/data/{id}.json");
+        final MinijaxRouter router = router(files, json);
+
+        final MinijaxUriInfo uriInfo = new MinijaxUriInfo(URI.create("/static/css/main.css"));
+        assertSame(files, router.findRoute(GET, uriInfo));
+        assertEquals("css/main.css", uriInfo.getPathParameters().getFirst("file"));
+
+        assertSame(json, find(router, GET, "/data/123.json"));
+        assertNull(find(router, GET, "/data/123.xml"));
+        assertNull(find(router, GET, "/static"));
+    }
+
+    @Test
+    void testCustomRegexPrecedence() {
+        final MinijaxResourceMethod files = route(GET, "/{file:.*}");
+        final MinijaxResourceMethod users = route(GET, "/users/{id}");
+        final MinijaxRouter router = router(files, users);
+        assertSame(users, find(router, GET, "/users/123"));
+        assertSame(files, find(router, GET, "/users/123/456"));
+        assertSame(files, find(router, GET, "/other"));
+    }
+
+    @Test
+    void testLazyPathParams() {
+        final MinijaxRouter router = router(route(GET, "/users/{id}/items/{n}"));
+        final MinijaxUriInfo uriInfo = new MinijaxUriInfo(URI.create("/users/alice/items/42"));
+        assertNotNull(router.findRoute(GET, uriInfo));
+        assertEquals("alice", uriInfo.getPathParameter("id"));
+        assertEquals("42", uriInfo.getPathParameter("n"));
+        assertNull(uriInfo.getPathParameter("missing"));
+        assertEquals(2, uriInfo.getPathParameters().size());
+    }
+
+    @Test
+    void testIntegerMatcher() {
+        final MinijaxRouter.SegmentMatcher m = MinijaxRouter.getSegmentMatcher(MinijaxPathPattern.INTEGER_REGEX);
+        assertTrue(m.matches("/123", 1, 4));
+        assertTrue(m.matches("/-1", 1, 3));
+        assertFalse(m.matches("/-", 1, 2));
+        assertFalse(m.matches("/", 1, 1));
+        assertFalse(m.matches("/1a", 1, 3));
+    }
+
+    @Test
+    void testUuidMatcher() {
+        final MinijaxRouter.SegmentMatcher m = MinijaxRouter.getSegmentMatcher(MinijaxPathPattern.UUID_REGEX);
+        final String[] valid = {
+                "00000000-0000-0000-0000-000000000000",
+                "00000000000000000000000000000000",
+                "0123456789abcdef0123-456789abcdef",
+                UUID.randomUUID().toString() };
+        final String[] invalid = {
+                "",
+                "00000000-0000-0000-0000-00000000000",
+                "00000000-0000-0000-0000-0000000000000",
+                "00000000-0000-0000-0000-00000000000x",
+                "0000000--0000-0000-0000-000000000000",
+                "00000000-0000-0000-0000-00000000000A" };
+        final Pattern p = Pattern.compile(MinijaxPathPattern.UUID_REGEX);
+        for (final String str : valid) {
+            assertTrue(m.matches(str, 0, str.length()), str);
+            assertTrue(p.matcher(str).matches(), str);
+        }
+        for (final String str : invalid) {
+            assertFalse(m.matches(str, 0, str.length()), str);
+            assertFalse(p.matcher(str).matches(), str);
+        }
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        final List<MinijaxResourceMethod> routes = Arrays.asList(
+                route(GET, "/"),
+                route(GET, "/a"),
+                route(GET, "/a/{id}"),
+                route(GET, "/a/b"),
+                route(GET, "/a/{id}/c"),
+                route(GET, "/a/b/{n}"),
+                route(GET, "/{id}/b"),
+                route(GET, "/a/{file:.*}"));
+
+        final MinijaxRouter router = router(routes.toArray(new MinijaxResourceMethod[0]));
+        final List<MinijaxResourceMethod> sorted = sorted(routes);
+
+        for (final String path : Arrays.asList("/", "/a", "/a/b", "/a/x", "/a/x/c", "/a/b/1", "/a/b/c", "/x/b", "/a/b/c/d", "/z")) {
+            assertSame(linearScan(sorted, path), find(router, GET, path), path);
+        }
+    }
+
+    private static MinijaxResourceMethod route(final String httpMethod, final String path) {
+        return new MinijaxResourceMethod(httpMethod, getHandler(), null, path, Collections.emptyList(), null);
+    }
+
+    private static MinijaxRouter router(final MinijaxResourceMethod... routes) {
+        return new MinijaxRouter(sorted(Arrays.asList(routes)));
+    }
+
+    private static List<MinijaxResourceMethod> sorted(final List<MinijaxResourceMethod> routes) {
+        final List<MinijaxResourceMethod> result = new ArrayList<>(routes);
+        MinijaxResourceMethod.sortByLiteralLength(result);
+        return result;
+    }
+
+    private static MinijaxResourceMethod find(final MinijaxRouter router, final String httpMethod, final String path) {
+        return router.findRoute(httpMethod, new MinijaxUriInfo(URI.create(path)));
+    }
+
+    private static MinijaxResourceMethod linearScan(final List<MinijaxResourceMethod> sorted, final String path) {
+        final MinijaxUriInfo uriInfo = new MinijaxUriInfo(URI.create(path));
+        for (final MinijaxResourceMethod rm : sorted) {
+            if (rm.getPathPattern().tryMatch(uriInfo) != null) {
+                return rm;
+            }
+        }
+        return null;
+    }
+
+    private static Method getHandler() {
+        for (final Method m : RouterTest.class.getMethods()) {
+            if (m.getName().equals("handler")) {
+                return m;
+            }
+        }
+        return null;
+    }
+}
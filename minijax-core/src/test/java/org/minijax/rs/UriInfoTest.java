@@ -24,4 +24,21 @@ void testBasic() {
         assertEquals(1, uriInfo.getQueryParameters().size());
         assertEquals("value", uriInfo.getQueryParameters().getFirst("key"));
     }
+
+    @Test
+    void testUnescapedCharacters() {
+        final MinijaxUriInfo uriInfo = new MinijaxUriInfo(MinijaxRequestTarget.parse("http://localhost/a b|c?q=x y|z"));
+        assertEquals("/a b|c", uriInfo.getPath());
+        assertEquals("x y|z", uriInfo.getQueryParameters().getFirst("q"));
+        assertEquals(URI.create("http://localhost/a%20b%7Cc?q=x%20y%7Cz"), uriInfo.getRequestUri());
+        assertEquals(URI.create("http://localhost/a%20b%7Cc"), uriInfo.getAbsolutePath());
+    }
+
+    @Test
+    void testEncodedQuery() {
+        final MinijaxUriInfo uriInfo = new MinijaxUriInfo(URI.create("/search?q=a%26b%2Bc&x=1+2"));
+        assertEquals("a&b+c", uriInfo.getQueryParameters().getFirst("q"));
+        assertEquals("1 2", uriInfo.getQueryParameters().getFirst("x"));
+        assertNull(uriInfo.getQueryParameters().getFirst("b"));
+    }
 }
@@ -2,6 +2,8 @@
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.Closeable;
+
 import org.junit.jupiter.api.Test;
 import org.minijax.cdi.MinijaxInjector;
 
@@ -11,11 +13,41 @@ class ResourceCacheTest {
     void testSimple() {
         try (MinijaxInjector injector = new MinijaxInjector()) {
             final ResourceCache cm = new ResourceCache();
-            final Object key = new Object();
             final Object obj = new Object();
-            cm.put(key, obj);
-            assertEquals(obj, cm.get(key));
+            cm.put(0, obj);
+            assertEquals(obj, cm.get(0));
             cm.close();
         }
     }
+
+    @Test
+    void testEmpty() {
+        final ResourceCache cm = new ResourceCache(4);
+        assertNull(cm.get(0));
+        assertNull(cm.get(10));
+        cm.close();
+    }
+
+    @Test
+    void testGrow() {
+        final ResourceCache cm = new ResourceCache(2);
+        final Object a = new Object();
+        final Object b = new Object();
+        cm.put(1, a);
+        cm.put(5, b);
+        assertNull(cm.get(0));
+        assertSame(a, cm.get(1));
+        assertSame(b, cm.get(5));
+    }
+
+    @Test
+    void testClose() {
+        final boolean[] closed = new boolean[1];
+        final Closeable closeable = () -> closed[0] = true;
+        final ResourceCache cm = new ResourceCache(3);
+        cm.put(0, new Object());
+        cm.put(2, closeable);
+        cm.close();
+        assertTrue(closed[0]);
+    }
 }
@@ -3,6 +3,7 @@
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.net.URI;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 
@@ -106,17 +107,25 @@ void testExpires() {
 
     @Test
     void testLastModified() {
-        assertThrows(UnsupportedOperationException.class, () -> Response.ok().lastModified(null));
+        final Response response = Response.ok().lastModified(new Date(784111777000L)).build();
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", response.getHeaderString("Last-Modified"));
+        assertEquals(new Date(784111777000L), response.getLastModified());
+        assertNull(Response.ok().lastModified(new Date()).lastModified(null).build().getLastModified());
     }
 
     @Test
     void testEntityTag() {
-        assertThrows(UnsupportedOperationException.class, () -> Response.ok().tag((EntityTag) null));
+        final Response response = Response.ok().tag(new EntityTag("abc", true)).build();
+        assertEquals("W/\"abc\"", response.getHeaderString("ETag"));
+        assertEquals(new EntityTag("abc", true), response.getEntityTag());
+        assertNull(Response.ok().tag(new EntityTag("abc")).tag((EntityTag) null).build().getEntityTag());
     }
 
     @Test
     void testTag() {
-        assertThrows(UnsupportedOperationException.class, () -> Response.ok().tag((String) null));
+        final Response response = Response.ok().tag("abc").build();
+        assertEquals("\"abc\"", response.getHeaderString("ETag"));
+        assertNull(Response.ok().tag("abc").tag((String) null).build().getEntityTag());
     }
 
     @Test
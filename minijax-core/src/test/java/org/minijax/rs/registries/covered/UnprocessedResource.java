@@ -0,0 +1,13 @@
+package org.minijax.rs.registries.covered;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+@Path("/registries/unprocessed")
+public class UnprocessedResource {
+
+    @GET
+    public static String get() {
+        return "unprocessed";
+    }
+}
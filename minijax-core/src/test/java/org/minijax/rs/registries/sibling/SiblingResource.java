@@ -0,0 +1,13 @@
+package org.minijax.rs.registries.sibling;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+@Path("/registries/sibling")
+public class SiblingResource {
+
+    @GET
+    public static String get() {
+        return "sibling";
+    }
+}
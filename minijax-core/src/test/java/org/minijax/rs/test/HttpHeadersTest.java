@@ -89,4 +89,14 @@ void testSemicolonCookie() {
         assertEquals("b", headers.getCookies().get("a").getValue());
         assertEquals("d", headers.getCookies().get("c").getValue());
     }
+
+    @Test
+    void testValuelessCookie() {
+        final MultivaluedMap<String, String> map = new MultivaluedHashMap<>();
+        map.add("Cookie", "a; c=d");
+
+        final MinijaxTestHttpHeaders headers = new MinijaxTestHttpHeaders(map);
+        assertEquals("", headers.getCookies().get("a").getValue());
+        assertEquals("d", headers.getCookies().get("c").getValue());
+    }
 }
@@ -0,0 +1,87 @@
+package org.minijax.rs.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.ws.rs.core.Cookie;
+
+import org.junit.jupiter.api.Test;
+
+class CookieMapTest {
+
+    @Test
+    void testNull() {
+        final CookieMap cookies = new CookieMap(null);
+        assertTrue(cookies.isEmpty());
+        assertEquals(0, cookies.size());
+        assertNull(cookies.get("a"));
+        assertEquals(Collections.emptyMap(), cookies);
+    }
+
+    @Test
+    void testSimple() {
+        final CookieMap cookies = new CookieMap(Collections.singletonList("a=b"));
+        assertEquals(new Cookie("a", "b"), cookies.get("a"));
+        assertTrue(cookies.containsKey("a"));
+        assertFalse(cookies.containsKey("b"));
+        assertFalse(cookies.containsKey(1));
+        assertNull(cookies.get(1));
+    }
+
+    @Test
+    void testWhitespaceAndQuotes() {
+        final CookieMap cookies = new CookieMap(Collections.singletonList("  a = b ;c=\"d e\";;  f=\"\" "));
+        assertEquals("b", cookies.get("a").getValue());
+        assertEquals("d e", cookies.get("c").getValue());
+        assertEquals("", cookies.get("f").getValue());
+        assertEquals(3, cookies.size());
+    }
+
+    @Test
+    void testValueless() {
+        final CookieMap cookies = new CookieMap(Collections.singletonList("a; b=c; d="));
+        assertEquals("", cookies.get("a").getValue());
+        assertEquals("c", cookies.get("b").getValue());
+        assertEquals("", cookies.get("d").getValue());
+    }
+
+    @Test
+    void testValueContainsEquals() {
+        final CookieMap cookies = new CookieMap(Collections.singletonList("a=b=c"));
+        assertEquals("b=c", cookies.get("a").getValue());
+    }
+
+    @Test
+    void testMultipleHeadersLastWins() {
+        final CookieMap cookies = new CookieMap(Arrays.asList("a=1; b=2", "a=3"));
+        assertEquals("3", cookies.get("a").getValue());
+        assertEquals(2, cookies.size());
+        assertEquals("3", cookies.entrySet().stream().filter(e -> e.getKey().equals("a")).findFirst().get().getValue().getValue());
+    }
+
+    @Test
+    void testSameInstance() {
+        final CookieMap cookies = new CookieMap(Collections.singletonList("a=b"));
+        assertSame(cookies.get("a"), cookies.get("a"));
+        assertSame(cookies.get("a"), cookies.values().iterator().next());
+    }
+
+    @Test
+    void testEqualsHashMap() {
+        final Map<String, Cookie> expected = new HashMap<>();
+        expected.put("a", new Cookie("a", "b"));
+        expected.put("c", new Cookie("c", "d"));
+        assertEquals(expected, new CookieMap(Collections.singletonList("a=b; c=d")));
+    }
+
+    @Test
+    void testReadOnly() {
+        final CookieMap cookies = new CookieMap(Collections.singletonList("a=b"));
+        final Cookie cookie = new Cookie("c", "d");
+        assertThrows(UnsupportedOperationException.class, () -> cookies.put("c", cookie));
+    }
+}
@@ -0,0 +1,50 @@
+package org.minijax.rs.util;
+
+import static java.util.Arrays.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.ws.rs.core.EntityTag;
+
+import org.junit.jupiter.api.Test;
+
+class EntityTagUtilsTest {
+
+    @Test
+    void testCtor() {
+        assertThrows(UnsupportedOperationException.class, EntityTagUtils::new);
+    }
+
+    @Test
+    void testFromString() {
+        assertNull(EntityTagUtils.fromString(null));
+        assertEquals(new EntityTag("abc"), EntityTagUtils.fromString("\"abc\""));
+        assertEquals(new EntityTag("abc", true), EntityTagUtils.fromString("W/\"abc\""));
+        assertEquals(new EntityTag("abc"), EntityTagUtils.fromString(" abc "));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("\"abc\"", EntityTagUtils.toString(new EntityTag("abc")));
+        assertEquals("W/\"abc\"", EntityTagUtils.toString(new EntityTag("abc", true)));
+        assertEquals("W/\"abc\"", new EntityTag("abc", true).toString());
+        assertEquals(new EntityTag("abc", true), EntityTag.valueOf("W/\"abc\""));
+    }
+
+    @Test
+    void testParseList() {
+        assertEquals(asList(), EntityTagUtils.parseList(null));
+        assertEquals(asList(new EntityTag("a"), new EntityTag("b,c", true)), EntityTagUtils.parseList("\"a\", W/\"b,c\", "));
+    }
+
+    @Test
+    void testComparison() {
+        final EntityTag strong = new EntityTag("a");
+        final EntityTag weak = new EntityTag("a", true);
+        assertTrue(EntityTagUtils.strongMatch(strong, new EntityTag("a")));
+        assertFalse(EntityTagUtils.strongMatch(strong, weak));
+        assertFalse(EntityTagUtils.strongMatch(weak, weak));
+        assertTrue(EntityTagUtils.weakMatch(strong, weak));
+        assertTrue(EntityTagUtils.weakMatch(weak, weak));
+        assertFalse(EntityTagUtils.weakMatch(strong, new EntityTag("b")));
+    }
+}
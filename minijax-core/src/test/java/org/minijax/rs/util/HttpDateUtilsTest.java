@@ -0,0 +1,51 @@
+package org.minijax.rs.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+class HttpDateUtilsTest {
+    private static final Date DATE = new Date(784111777000L);
+
+    @Test
+    void testCtor() {
+        assertThrows(UnsupportedOperationException.class, HttpDateUtils::new);
+    }
+
+    @Test
+    void testFormat() {
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", HttpDateUtils.format(DATE));
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", HttpDateUtils.format(new Date(DATE.getTime() + 999)));
+        assertEquals("Thu, 01 Jan 1970 00:00:00 GMT", HttpDateUtils.format(new Date(0)));
+    }
+
+    @Test
+    void testParse() {
+        assertEquals(DATE, HttpDateUtils.parse("Sun, 06 Nov 1994 08:49:37 GMT"));
+        assertEquals(DATE, HttpDateUtils.parse(" Sun, 06 Nov 1994 08:49:37 GMT "));
+        assertEquals(DATE, HttpDateUtils.parse("Sunday, 06-Nov-94 08:49:37 GMT"));
+        assertEquals(DATE, HttpDateUtils.parse("Sun Nov  6 08:49:37 1994"));
+    }
+
+    @Test
+    void testParseInvalid() {
+        assertNull(HttpDateUtils.parse(null));
+        assertNull(HttpDateUtils.parse(""));
+        assertNull(HttpDateUtils.parse("yesterday"));
+        assertNull(HttpDateUtils.parse("Sun, 32 Nov 1994 08:49:37 GMT"));
+    }
+
+    @Test
+    void testParseCached() {
+        final String str = "Mon, 07 Nov 1994 08:49:37 GMT";
+        HttpDateUtils.parse(str);
+        final long hits = HttpDateUtils.getDateCache().getHits();
+        final Date first = HttpDateUtils.parse(str);
+        assertEquals(hits + 1, HttpDateUtils.getDateCache().getHits());
+
+        // Dates are mutable, so each call returns a new instance
+        assertNotSame(first, HttpDateUtils.parse(str));
+    }
+}
@@ -0,0 +1,104 @@
+package org.minijax.rs.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+
+class ParseCacheTest {
+
+    @Test
+    void testHitsAndMisses() {
+        final ParseCache<Integer> cache = new ParseCache<>(Integer::valueOf);
+        assertEquals(1, cache.get("1"));
+        assertEquals(1, cache.get("1"));
+        assertEquals(2, cache.get("2"));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    void testBounded() {
+        final ParseCache<String> cache = new ParseCache<>(String::trim);
+        for (int i = 0; i < ParseCache.MAX_SIZE + 10; i++) {
+            cache.get(Integer.toString(i));
+        }
+        assertTrue(cache.size() <= ParseCache.MAX_SIZE);
+
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i <= ParseCache.MAX_KEY_LENGTH; i++) {
+            b.append('x');
+        }
+        cache.clear();
+        cache.get(b.toString());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testCachedAfterFull() {
+        final ParseCache<String> cache = new ParseCache<>(String::trim);
+        for (int i = 0; i < ParseCache.MAX_SIZE; i++) {
+            cache.get(Integer.toString(i));
+        }
+        assertEquals(ParseCache.MAX_SIZE, cache.size());
+
+        cache.get("hot");
+        final long hits = cache.getHits();
+        cache.get("hot");
+        assertEquals(hits + 1, cache.getHits());
+    }
+
+    @Test
+    void testNotCacheable() {
+        final ParseCache<String> cache = new ParseCache<>(String::trim, value -> !value.isEmpty());
+        assertEquals("", cache.get(" "));
+        assertEquals("x", cache.get("x"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testMultipartBoundaryNotCached() {
+        final int size = MediaTypeUtils.getMediaTypeCache().size();
+        final MediaType mediaType = MediaTypeUtils.parseMediaType("multipart/form-data; boundary=parsecachetest");
+        assertEquals("parsecachetest", mediaType.getParameters().get("boundary"));
+        assertEquals(size, MediaTypeUtils.getMediaTypeCache().size());
+    }
+
+    @Test
+    void testParseErrorNotCached() {
+        final ParseCache<Integer> cache = new ParseCache<>(Integer::valueOf);
+        assertThrows(NumberFormatException.class, () -> cache.get("x"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testSharedMediaTypes() {
+        final String accept = "text/html, application/json;q=0.9, */*;q=0.1";
+        final List<MediaType> first = MediaTypeUtils.parseMediaTypes(accept);
+        final long hits = MediaTypeUtils.getMediaTypeListCache().getHits();
+        assertSame(first, MediaTypeUtils.parseMediaTypes(accept));
+        assertEquals(hits + 1, MediaTypeUtils.getMediaTypeListCache().getHits());
+        assertThrows(UnsupportedOperationException.class, () -> first.add(MediaType.WILDCARD_TYPE));
+
+        assertSame(MediaTypeUtils.parseMediaType("text/plain"), MediaTypeUtils.parseMediaType("text/plain"));
+        assertNull(MediaTypeUtils.parseMediaType(null));
+    }
+
+    @Test
+    void testSharedLocales() {
+        final List<Locale> first = LocaleUtils.parseAcceptLanguage("en-US,en;q=0.9");
+        assertSame(first, LocaleUtils.parseAcceptLanguage("en-US,en;q=0.9"));
+        assertTrue(LocaleUtils.getAcceptLanguageCache().getHits() > 0);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(Locale.ENGLISH));
+    }
+}
@@ -0,0 +1,83 @@
+package org.minijax.rs.util;
+
+import static java.util.Arrays.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.junit.jupiter.api.Test;
+
+class QueryStringMapTest {
+
+    @Test
+    void testNull() {
+        final QueryStringMap params = new QueryStringMap(null);
+        assertTrue(params.isEmpty());
+        assertEquals(0, params.size());
+        assertNull(params.getFirst("a"));
+    }
+
+    @Test
+    void testGetFirst() {
+        final QueryStringMap params = new QueryStringMap("a=1&b=2&a=3");
+        assertEquals("1", params.getFirst("a"));
+        assertEquals("2", params.getFirst("b"));
+        assertNull(params.getFirst("c"));
+        assertTrue(params.containsKey("b"));
+        assertFalse(params.containsKey("c"));
+        assertFalse(params.containsKey(1));
+        assertFalse(params.isEmpty());
+    }
+
+    @Test
+    void testDecode() {
+        final QueryStringMap params = new QueryStringMap("q=hello+world&amp%26=%3D%26&x%20y=%E2%82%AC");
+        assertEquals("hello world", params.getFirst("q"));
+        assertEquals("=&", params.getFirst("amp&"));
+        assertEquals("€", params.getFirst("x y"));
+    }
+
+    @Test
+    void testMissingValues() {
+        final QueryStringMap params = new QueryStringMap("a&b=&&c=d=e");
+        assertEquals("", params.getFirst("a"));
+        assertEquals("", params.getFirst("b"));
+        assertEquals("d=e", params.getFirst("c"));
+        assertEquals(3, params.size());
+    }
+
+    @Test
+    void testSameInstance() {
+        final QueryStringMap params = new QueryStringMap("a=%41");
+        assertSame(params.getFirst("a"), params.getFirst("a"));
+    }
+
+    @Test
+    void testMaterialize() {
+        final MultivaluedMap<String, String> expected = new MultivaluedHashMap<>();
+        expected.addAll("a", "1", "3");
+        expected.add("b", "2");
+
+        final QueryStringMap params = new QueryStringMap("a=1&b=2&a=3");
+        assertEquals(expected, params);
+        assertEquals(asList("1", "3"), params.get("a"));
+        assertTrue(params.equalsIgnoreValueOrder(expected));
+    }
+
+    @Test
+    void testModify() {
+        final QueryStringMap params = new QueryStringMap("a=1");
+        params.putSingle("a", "2");
+        params.add("b", "3");
+        assertEquals("2", params.getFirst("a"));
+        assertEquals("3", params.getFirst("b"));
+        assertTrue(params.containsKey("b"));
+
+        params.remove("a");
+        assertFalse(params.containsKey("a"));
+
+        params.clear();
+        assertTrue(params.isEmpty());
+    }
+}
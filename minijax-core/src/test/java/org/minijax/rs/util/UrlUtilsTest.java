@@ -45,4 +45,14 @@ void testUrlDecodeParams() {
         assertEquals(emptyMap(), UrlUtils.urlDecodeParams(""));
         assertEquals(singletonMap("a", ""), UrlUtils.urlDecodeParams("a"));
     }
+
+    @Test
+    void testUrlDecodeRange() {
+        final String str = "xa+b%21y";
+        assertEquals("a b!", UrlUtils.urlDecode(str, 1, 7));
+        assertEquals("xa", UrlUtils.urlDecode(str, 0, 2));
+
+        final String plain = "abc";
+        assertSame(plain, UrlUtils.urlDecode(plain, 0, plain.length()));
+    }
 }
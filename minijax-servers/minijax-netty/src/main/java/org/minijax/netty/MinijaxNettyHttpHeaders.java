@@ -10,13 +10,19 @@
 import io.netty.handler.codec.http.HttpRequest;
 
 class MinijaxNettyHttpHeaders extends MinijaxHttpHeaders {
-    private final HttpRequest request;
+    private HttpRequest request;
     private MultivaluedMap<String, String> requestHeaders;
 
     MinijaxNettyHttpHeaders(final HttpRequest request) {
         this.request = request;
     }
 
+    void reset(final HttpRequest request) {
+        reset();
+        this.request = request;
+        requestHeaders = null;
+    }
+
     @Override
     public List<String> getRequestHeader(final String name) {
         return request.headers().getAll(name);
@@ -2,37 +2,57 @@
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
-import java.util.Collections;
 
 import jakarta.ws.rs.core.UriInfo;
 
 import org.minijax.rs.MinijaxApplication;
 import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxRequestTarget;
 import org.minijax.rs.MinijaxUriInfo;
-import org.minijax.rs.uri.MinijaxUriBuilder;
 
 import io.netty.handler.codec.http.FullHttpRequest;
 
 class MinijaxNettyRequestContext extends MinijaxRequestContext {
-    private final FullHttpRequest request;
-    private final MinijaxUriInfo uriInfo;
+    private FullHttpRequest request;
+    private MinijaxUriInfo uriInfo;
     private MinijaxNettyHttpHeaders httpHeaders;
     private InputStream entityStream;
 
+    MinijaxNettyRequestContext(final MinijaxApplication application) {
+        super(application);
+    }
+
     MinijaxNettyRequestContext(
             final MinijaxApplication application,
             final FullHttpRequest request) {
 
         super(application);
+        reset(request);
+    }
+
+    /**
+     * Sets the request.
+     *
+     * The URI info and headers objects are reused if the context is recycled.
+     */
+    void reset(final FullHttpRequest request) {
         this.request = request;
 
-        final MinijaxUriBuilder uriBuilder = new MinijaxUriBuilder();
-        uriBuilder.uri(request.uri());
-        uriInfo = new MinijaxUriInfo(uriBuilder.buildFromMap(Collections.emptyMap()));
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse(request.uri());
+        if (uriInfo == null) {
+            uriInfo = new MinijaxUriInfo(target);
+        } else {
+            uriInfo.reset(target);
+        }
+
+        if (httpHeaders != null) {
+            httpHeaders.reset(request);
+        }
     }
 
     @Override
     public UriInfo getUriInfo() {
+        checkReleased();
         return uriInfo;
     }
 
@@ -43,6 +63,7 @@ public String getMethod() {
 
     @Override
     public MinijaxNettyHttpHeaders getHttpHeaders() {
+        checkReleased();
         if (httpHeaders == null) {
             httpHeaders = new MinijaxNettyHttpHeaders(request);
         }
@@ -51,9 +72,17 @@ public MinijaxNettyHttpHeaders getHttpHeaders() {
 
     @Override
     public InputStream getEntityStream() {
+        checkReleased();
         if (entityStream == null) {
             entityStream = new ByteArrayInputStream(request.content().array());
         }
         return entityStream;
     }
+
+    @Override
+    protected void recycle() {
+        super.recycle();
+        request = null;
+        entityStream = null;
+    }
 }
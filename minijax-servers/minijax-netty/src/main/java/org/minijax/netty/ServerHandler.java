@@ -17,7 +17,8 @@
 
 import org.minijax.Minijax;
 import org.minijax.rs.MinijaxApplication;
-import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxAutoETag;
+import org.minijax.rs.MinijaxRequestContextPool;
 import org.minijax.rs.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +38,7 @@
 class ServerHandler extends ChannelInboundHandlerAdapter {
     private static final Logger LOG = LoggerFactory.getLogger(ServerHandler.class);
     private final Minijax minijax;
+    private final MinijaxRequestContextPool<MinijaxNettyRequestContext> contexts;
 
     private static final FastThreadLocal<DateFormat> FORMAT = new FastThreadLocal<>() {
         @Override
@@ -50,7 +52,16 @@ protected DateFormat initialValue() {
     private CharSequence date = new AsciiString(FORMAT.get().format(new Date()));
 
     ServerHandler(final Minijax minijax, final ScheduledExecutorService service) {
+        this(minijax, service, createContextPool(minijax));
+    }
+
+    ServerHandler(
+            final Minijax minijax,
+            final ScheduledExecutorService service,
+            final MinijaxRequestContextPool<MinijaxNettyRequestContext> contexts) {
+
         this.minijax = minijax;
+        this.contexts = contexts;
 
         service.scheduleWithFixedDelay(new Runnable() {
             private final DateFormat format = FORMAT.get();
@@ -62,6 +73,15 @@ public void run() {
         }, 1000, 1000, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Creates the context pool shared by the handlers of a server.
+     *
+     * If recycling is enabled, each event loop thread reuses one context.
+     */
+    static MinijaxRequestContextPool<MinijaxNettyRequestContext> createContextPool(final Minijax minijax) {
+        return new MinijaxRequestContextPool<>(minijax.getDefaultApplication(), MinijaxNettyRequestContext::new);
+    }
+
     @Override
     public void channelRead(final ChannelHandlerContext ctx, final Object msg)
             throws Exception { // NOSONAR
@@ -80,25 +100,29 @@ private void process(final ChannelHandlerContext nettyCtx, final FullHttpRequest
             throws Exception { // NOSONAR
 
         final MinijaxApplication application = minijax.getDefaultApplication();
+        final MinijaxNettyRequestContext minijaxCtx = contexts.acquire();
 
-        try (final MinijaxRequestContext minijaxCtx = new MinijaxNettyRequestContext(application, request)) {
+        try {
+            minijaxCtx.reset(request);
             final Response minijaxResponse = application.handle(minijaxCtx);
 
             final MediaType mediaType = minijaxResponse.getMediaType();
             final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             EntityUtils.writeEntity(minijaxResponse.getEntity(), mediaType, minijaxCtx.getProviders(), outputStream);
 
-            final int contentLength = outputStream.size();
-            final ByteBuf buf = Unpooled.wrappedBuffer(outputStream.toByteArray());
+            final boolean sendBody = MinijaxAutoETag.apply(minijaxCtx, minijaxResponse, outputStream);
+            final ByteBuf buf = sendBody ? Unpooled.wrappedBuffer(outputStream.toByteArray()) : Unpooled.EMPTY_BUFFER;
             final HttpResponseStatus status = HttpResponseStatus.valueOf(minijaxResponse.getStatus());
             final DefaultFullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, status, buf, false);
             response.headers()
                     .set(SERVER, SERVER_NAME)
-                    .set(DATE, date)
-                    .set(CONTENT_LENGTH, contentLength);
+                    .set(DATE, date);
 
-            if (mediaType != null) {
-                response.headers().set(CONTENT_TYPE, mediaType);
+            if (sendBody) {
+                response.headers().set(CONTENT_LENGTH, outputStream.size());
+                if (mediaType != null) {
+                    response.headers().set(CONTENT_TYPE, mediaType);
+                }
             }
 
             for (final Entry<String, List<Object>> entry : minijaxResponse.getHeaders().entrySet()) {
@@ -113,6 +137,8 @@ private void process(final ChannelHandlerContext nettyCtx, final FullHttpRequest
         } catch (final Exception ex) { // NOSONAR
             LOG.error("Unhandled exception: {}", ex.getMessage(), ex);
             throw ex; // NOSONAR
+        } finally {
+            contexts.release(minijaxCtx);
         }
     }
 
@@ -3,6 +3,7 @@
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.minijax.Minijax;
+import org.minijax.rs.MinijaxRequestContextPool;
 
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.SocketChannel;
@@ -13,10 +14,12 @@
 class ServerInitializer extends ChannelInitializer<SocketChannel> {
     private final Minijax minijax;
     private final ScheduledExecutorService service;
+    private final MinijaxRequestContextPool<MinijaxNettyRequestContext> contexts;
 
     ServerInitializer(final Minijax minijax, final ScheduledExecutorService service) {
         this.minijax = minijax;
         this.service = service;
+        this.contexts = ServerHandler.createContextPool(minijax);
     }
 
     @Override
@@ -25,6 +28,6 @@ public void initChannel(final SocketChannel ch) {
                 .addLast("encoder", new HttpResponseEncoder())
                 .addLast("decoder", new HttpRequestDecoder(4096, 8192, 8192, false))
                 .addLast("aggregator", new HttpObjectAggregator(1048576))
-                .addLast("handler", new ServerHandler(minijax, service));
+                .addLast("handler", new ServerHandler(minijax, service, contexts));
     }
 }
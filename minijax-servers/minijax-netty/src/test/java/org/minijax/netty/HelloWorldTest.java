@@ -17,12 +17,14 @@
 
 import org.junit.jupiter.api.Test;
 import org.minijax.Minijax;
+import org.minijax.rs.AutoETag;
 import org.mockito.ArgumentCaptor;
 
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -50,6 +52,13 @@ public static Response echo(final String content) {
         public static Response redirect() {
             return Response.temporaryRedirect(URI.create("https://www.example.com/")).build();
         }
+
+        @GET
+        @Path("/tagged")
+        @AutoETag
+        public static Response tagged() {
+            return Response.ok("Hello world!", MediaType.TEXT_PLAIN).build();
+        }
     }
 
     @Test
@@ -132,4 +141,47 @@ void testRedirect() throws Exception {
         verify(nettyCtx).write(argument.capture());
         assertEquals(HttpResponseStatus.TEMPORARY_REDIRECT, argument.getValue().status());
     }
+
+    @Test
+    void testAutoETag() throws Exception {
+        final Minijax minijax = new Minijax().register(HelloResource.class);
+
+        final ScheduledExecutorService executorService = mock(ScheduledExecutorService.class);
+
+        final ServerHandler server = new ServerHandler(minijax, executorService);
+
+        final ChannelFuture channelFuture = mock(ChannelFuture.class);
+
+        final ChannelHandlerContext nettyCtx = mock(ChannelHandlerContext.class);
+        when(nettyCtx.write(any())).thenReturn(channelFuture);
+
+        final FullHttpRequest request1 = mock(FullHttpRequest.class);
+        when(request1.uri()).thenReturn("/tagged");
+        when(request1.method()).thenReturn(HttpMethod.GET);
+        when(request1.headers()).thenReturn(new DefaultHttpHeaders());
+        server.channelRead(nettyCtx, request1);
+
+        final ArgumentCaptor<DefaultFullHttpResponse> argument1 = ArgumentCaptor.forClass(DefaultFullHttpResponse.class);
+        verify(nettyCtx).write(argument1.capture());
+        final DefaultFullHttpResponse response1 = argument1.getValue();
+        assertEquals(HttpResponseStatus.OK, response1.status());
+        assertEquals("Hello world!", response1.content().toString(StandardCharsets.UTF_8));
+
+        final String tag = response1.headers().get("ETag");
+        assertNotNull(tag);
+
+        final FullHttpRequest request2 = mock(FullHttpRequest.class);
+        when(request2.uri()).thenReturn("/tagged");
+        when(request2.method()).thenReturn(HttpMethod.GET);
+        when(request2.headers()).thenReturn(new DefaultHttpHeaders().add("If-None-Match", tag));
+        server.channelRead(nettyCtx, request2);
+
+        final ArgumentCaptor<DefaultFullHttpResponse> argument2 = ArgumentCaptor.forClass(DefaultFullHttpResponse.class);
+        verify(nettyCtx, times(2)).write(argument2.capture());
+        final DefaultFullHttpResponse response2 = argument2.getValue();
+        assertEquals(HttpResponseStatus.NOT_MODIFIED, response2.status());
+        assertEquals(tag, response2.headers().get("ETag"));
+        assertEquals(0, response2.content().readableBytes());
+        assertFalse(response2.headers().contains("Content-Length"));
+    }
 }
@@ -4,7 +4,6 @@
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
 import java.util.List;
@@ -16,8 +15,9 @@
 
 import org.minijax.Minijax;
 import org.minijax.commons.MinijaxException;
-import org.minijax.rs.MinijaxApplication;
-import org.minijax.rs.MinijaxUriInfo;
+import org.minijax.rs.MinijaxAutoETag;
+import org.minijax.rs.MinijaxRequestContextPool;
+import org.minijax.rs.MinijaxRequestTarget;
 import org.minijax.rs.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,10 +28,10 @@ class Connection {
     private static final byte[] DATE_HEADER = "Date: ".getBytes();
     private static final byte[] CONTENT_LENGTH_HEADER = "Content-Length: ".getBytes();
     private static final byte[] CRLF = "\r\n".getBytes();
-    private final Minijax minijax;
+    private final MinijaxRequestContextPool<MinijaxNioRequestContext> contexts;
     private final ByteChannel channel;
     private final ByteBuffer buffer;
-    private URI uri;
+    private MinijaxRequestTarget target;
     private String method;
     private String protocol;
     private String version;
@@ -42,14 +42,18 @@ class Connection {
     private Response response;
     private ByteArrayOutputStream bufferedOutputStream;
 
-    public Connection(final Minijax minijax, final ByteChannel channel, final ByteBuffer buffer) {
-        this.minijax = minijax;
+    public Connection(final MinijaxRequestContextPool<MinijaxNioRequestContext> contexts, final ByteChannel channel, final ByteBuffer buffer) {
+        this.contexts = contexts;
         this.channel = channel;
         this.buffer = buffer;
     }
 
     Connection(final Minijax minijax, final ByteChannel channel) {
-        this(minijax, channel, ByteBuffer.allocate(1000));
+        this(createContextPool(minijax), channel, ByteBuffer.allocate(1000));
+    }
+
+    static MinijaxRequestContextPool<MinijaxNioRequestContext> createContextPool(final Minijax minijax) {
+        return new MinijaxRequestContextPool<>(minijax.getDefaultApplication(), MinijaxNioRequestContext::new);
     }
 
     public ByteBuffer getBuffer() {
@@ -102,10 +106,10 @@ private boolean read() {
         }
 
         method = requestLine.substring(0, index1);
-        uri = URI.create(requestLine.substring(index1 + 1, index2));
+        target = MinijaxRequestTarget.parse(requestLine.substring(index1 + 1, index2));
         protocol = requestLine.substring(index2 + 1, index3);
         version = requestLine.substring(index3 + 1);
-        LOG.debug("{} {} {} {}", method, uri, protocol, version);
+        LOG.debug("{} {} {} {}", method, target, protocol, version);
 
         if (!version.equals("1.0") && !version.equals("1.1")) {
             return false;
@@ -120,22 +124,22 @@ private boolean read() {
 
 
     private void process() throws IOException {
-        final MinijaxApplication application = minijax.getDefaultApplication();
-        try (final MinijaxNioRequestContext ctx = new MinijaxNioRequestContext(
-                application,
-                method,
-                new MinijaxUriInfo(uri),
-                new MinijaxNioHttpHeaders(requestHeaders),
-                requestEntityStream)) {
-
-            response = application.handle(ctx);
+        final MinijaxNioRequestContext ctx = contexts.acquire();
+        try {
+            ctx.reset(method, target, requestHeaders, requestEntityStream);
+            response = ctx.getApplication().handle(ctx);
 
             if (onlyHeader) {
                 bufferedOutputStream = null;
             } else {
                 bufferedOutputStream = new ByteArrayOutputStream();
                 EntityUtils.writeEntity(response.getEntity(), response.getMediaType(), ctx.getProviders(), bufferedOutputStream);
+                if (!MinijaxAutoETag.apply(ctx, response, bufferedOutputStream)) {
+                    bufferedOutputStream = null;
+                }
             }
+        } finally {
+            contexts.release(ctx);
         }
     }
 
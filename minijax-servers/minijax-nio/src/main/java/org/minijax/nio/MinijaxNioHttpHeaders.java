@@ -7,12 +7,17 @@
 import org.minijax.rs.MinijaxHttpHeaders;
 
 class MinijaxNioHttpHeaders extends MinijaxHttpHeaders {
-    private final MultivaluedMap<String, String> requestHeaders;
+    private MultivaluedMap<String, String> requestHeaders;
 
     public MinijaxNioHttpHeaders(final MultivaluedMap<String, String> requestHeaders) {
         this.requestHeaders = requestHeaders;
     }
 
+    void reset(final MultivaluedMap<String, String> requestHeaders) {
+        reset();
+        this.requestHeaders = requestHeaders;
+    }
+
     @Override
     public MultivaluedMap<String, String> getRequestHeaders() {
         return requestHeaders;
@@ -2,34 +2,54 @@
 
 import java.io.InputStream;
 
+import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.UriInfo;
 
 import org.minijax.rs.MinijaxApplication;
 import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxRequestTarget;
 import org.minijax.rs.MinijaxUriInfo;
 
 class MinijaxNioRequestContext extends MinijaxRequestContext {
-    private final String method;
-    private final MinijaxUriInfo uriInfo;
-    private final MinijaxNioHttpHeaders httpHeaders;
-    private final InputStream entityStream;
+    private String method;
+    private MinijaxUriInfo uriInfo;
+    private MinijaxNioHttpHeaders httpHeaders;
+    private InputStream entityStream;
 
-    public MinijaxNioRequestContext(
-            final MinijaxApplication application,
+    MinijaxNioRequestContext(final MinijaxApplication application) {
+        super(application);
+    }
+
+    /**
+     * Sets the request state.
+     *
+     * The URI info and headers objects are reused if the context is recycled.
+     */
+    void reset(
             final String method,
-            final MinijaxUriInfo uriInfo,
-            final MinijaxNioHttpHeaders httpHeaders,
+            final MinijaxRequestTarget target,
+            final MultivaluedMap<String, String> requestHeaders,
             final InputStream entityStream) {
 
-        super(application);
         this.method = method;
-        this.uriInfo = uriInfo;
-        this.httpHeaders = httpHeaders;
         this.entityStream = entityStream;
+
+        if (uriInfo == null) {
+            uriInfo = new MinijaxUriInfo(target);
+        } else {
+            uriInfo.reset(target);
+        }
+
+        if (httpHeaders == null) {
+            httpHeaders = new MinijaxNioHttpHeaders(requestHeaders);
+        } else {
+            httpHeaders.reset(requestHeaders);
+        }
     }
 
     @Override
     public UriInfo getUriInfo() {
+        checkReleased();
         return uriInfo;
     }
 
@@ -40,11 +60,20 @@ public String getMethod() {
 
     @Override
     public MinijaxNioHttpHeaders getHttpHeaders() {
+        checkReleased();
         return httpHeaders;
     }
 
     @Override
     public InputStream getEntityStream() {
+        checkReleased();
         return entityStream;
     }
+
+    @Override
+    protected void recycle() {
+        super.recycle();
+        method = null;
+        entityStream = null;
+    }
 }
@@ -14,6 +14,7 @@
 import java.util.concurrent.ArrayBlockingQueue;
 
 import org.minijax.Minijax;
+import org.minijax.rs.MinijaxRequestContextPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +65,9 @@ public void run() {
         LOG.debug("Starting worker...");
         running = true;
 
+        // Contexts are recycled per worker thread if enabled
+        final MinijaxRequestContextPool<MinijaxNioRequestContext> contexts = Connection.createContextPool(minijax);
+
         try {
             while (running) {
                 // For any incoming connections
@@ -81,7 +85,7 @@ public void run() {
                     socket.setSendBufferSize(8 * 1024);
                     socket.setReuseAddress(true);
 
-                    final Connection conn = new Connection(minijax, incomingChannel, bufferPool.take());
+                    final Connection conn = new Connection(contexts, incomingChannel, bufferPool.take());
                     connections.add(conn);
                     incomingChannel.register(selector, SelectionKey.OP_READ, conn);
                 }
@@ -2,15 +2,23 @@
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 
 import org.junit.jupiter.api.Test;
 import org.minijax.Minijax;
+import org.minijax.rs.AutoETag;
+import org.minijax.rs.MinijaxAutoETag;
+import org.minijax.rs.MinijaxRequestContextPool;
 
 class HelloWorldTest {
 
@@ -30,6 +38,19 @@ public static Response echo(final String contentBody) {
             return Response.ok("You said: " + contentBody, MediaType.TEXT_PLAIN)
                     .build();
         }
+
+        @GET
+        @Path("/uri/{name}")
+        public static Response uri(@PathParam("name") final String name, @Context final UriInfo uriInfo) {
+            return Response.ok(name + " " + uriInfo.getRequestUri(), MediaType.TEXT_PLAIN).build();
+        }
+
+        @GET
+        @Path("/tagged")
+        @AutoETag
+        public static Response tagged() {
+            return Response.ok("Hello world!", MediaType.TEXT_PLAIN).build();
+        }
     }
 
     @Test
@@ -50,6 +71,29 @@ void testHello() throws Exception {
         assertEquals(expected, channel.getOutputAsString());
     }
 
+    @Test
+    void testRecycledContext() throws Exception {
+        final Minijax minijax = new Minijax().register(HelloResource.class).recycleContexts();
+        final MinijaxRequestContextPool<MinijaxNioRequestContext> contexts = Connection.createContextPool(minijax);
+
+        final MockSocketChannel channel1 = new MockSocketChannel(null, "GET / HTTP/1.1\r\n");
+        new Connection(contexts, channel1, ByteBuffer.allocate(1000)).handle();
+        assertTrue(channel1.getOutputAsString().endsWith("Hello world!"));
+
+        final String request = "POST / HTTP/1.1\r\n" +
+                "Content-Type: text/plain\r\n" +
+                "Content-Length: 5\r\n" +
+                "\r\n" +
+                "hello";
+        final MockSocketChannel channel2 = new MockSocketChannel(null, request);
+        new Connection(contexts, channel2, ByteBuffer.allocate(1000)).handle();
+        assertTrue(channel2.getOutputAsString().endsWith("You said: hello"));
+
+        final MockSocketChannel channel3 = new MockSocketChannel(null, "GET / HTTP/1.1\r\n");
+        new Connection(contexts, channel3, ByteBuffer.allocate(1000)).handle();
+        assertTrue(channel3.getOutputAsString().endsWith("Hello world!"));
+    }
+
     @Test
     void testHead() throws Exception {
         final Minijax minijax = new Minijax().register(HelloResource.class);
@@ -122,4 +166,42 @@ void testEcho() throws Exception {
                 "You said: xyz";
         assertEquals(expected, channel.getOutputAsString());
     }
+
+    @Test
+    void testAutoETag() throws Exception {
+        final Minijax minijax = new Minijax().register(HelloResource.class);
+
+        final MockSocketChannel channel1 = new MockSocketChannel(null, "GET /tagged HTTP/1.1\r\n");
+        new Connection(minijax, channel1).handle();
+        final String output1 = channel1.getOutputAsString();
+        assertTrue(output1.endsWith("Hello world!"));
+
+        final int tagStart = output1.indexOf("ETag: ") + 6;
+        final String tag = output1.substring(tagStart, output1.indexOf("\r\n", tagStart));
+        assertEquals(18, tag.length());
+        final long notModified = MinijaxAutoETag.getNotModifiedCount();
+
+        final String request = "GET /tagged HTTP/1.1\r\n" +
+                "If-None-Match: " + tag + "\r\n";
+        final MockSocketChannel channel2 = new MockSocketChannel(null, request);
+        new Connection(minijax, channel2).handle();
+
+        final String expected = "HTTP/1.1 304\r\n" +
+                "Date: " + new String(DateHeader.get()) + "\r\n" +
+                "ETag: " + tag + "\r\n" +
+                "\r\n";
+        assertEquals(expected, channel2.getOutputAsString());
+        assertEquals(notModified + 1, MinijaxAutoETag.getNotModifiedCount());
+    }
+
+    @Test
+    void testUnescapedRequestTarget() throws Exception {
+        final Minijax minijax = new Minijax().register(HelloResource.class);
+        final MockSocketChannel channel = new MockSocketChannel(null, "GET /uri/a|b?q=c|d HTTP/1.1\r\n");
+        new Connection(minijax, channel).handle();
+
+        final String output = channel.getOutputAsString();
+        assertTrue(output.startsWith("HTTP/1.1 200\r\n"), output);
+        assertTrue(output.endsWith("a|b /uri/a%7Cb?q=c%7Cd"), output);
+    }
 }
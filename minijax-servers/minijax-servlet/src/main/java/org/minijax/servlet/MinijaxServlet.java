@@ -13,8 +13,9 @@
 import jakarta.ws.rs.core.Response;
 
 import org.minijax.Minijax;
+import org.minijax.commons.MinijaxProperties;
 import org.minijax.rs.MinijaxApplication;
-import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxRequestContextPool;
 import org.minijax.rs.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +24,7 @@ public class MinijaxServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private static final Logger LOG = LoggerFactory.getLogger(MinijaxServlet.class);
     private Minijax minijax;
+    private transient MinijaxRequestContextPool<MinijaxServletRequestContext> contexts;
 
     @Override
     public void init() throws ServletException {
@@ -43,13 +45,24 @@ public void init(final ServletConfig config) throws ServletException {
         } catch (final ClassNotFoundException ex) {
             throw new ServletException(ex.getMessage(), ex);
         }
+
+        for (final String name : new String[] { MinijaxProperties.RECYCLE_CONTEXTS, MinijaxProperties.DETECT_CONTEXT_LEAKS }) {
+            final String value = config.getInitParameter(name);
+            if (value != null) {
+                minijax.property(name, value);
+            }
+        }
+
+        contexts = new MinijaxRequestContextPool<>(minijax.getDefaultApplication(), MinijaxServletRequestContext::new);
     }
 
     @Override
     protected void service(final HttpServletRequest servletRequest, final HttpServletResponse servletResponse) {
         final MinijaxApplication application = minijax.getDefaultApplication();
+        final MinijaxServletRequestContext ctx = contexts.acquire();
 
-        try (final MinijaxRequestContext ctx = new MinijaxServletRequestContext(application, servletRequest)) {
+        try {
+            ctx.reset(servletRequest);
             final Response response = application.handle(ctx);
             servletResponse.setStatus(response.getStatus());
 
@@ -69,6 +82,16 @@ protected void service(final HttpServletRequest servletRequest, final HttpServle
 
         } catch (final IOException ex) {
             LOG.error("Unhandled exception: {}", ex.getMessage(), ex);
+        } finally {
+            release(ctx);
+        }
+    }
+
+    private void release(final MinijaxServletRequestContext ctx) {
+        try {
+            contexts.release(ctx);
+        } catch (final IOException ex) {
+            LOG.error("Error closing request context: {}", ex.getMessage(), ex);
         }
     }
 }
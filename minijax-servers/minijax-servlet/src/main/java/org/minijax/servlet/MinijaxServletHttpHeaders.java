@@ -14,7 +14,7 @@
 import org.minijax.rs.MinijaxHttpHeaders;
 
 class MinijaxServletHttpHeaders extends MinijaxHttpHeaders {
-    private final HttpServletRequest request;
+    private HttpServletRequest request;
     private MultivaluedMap<String, String> requestHeaders;
     private Map<String, Cookie> cookies;
 
@@ -22,6 +22,13 @@ public MinijaxServletHttpHeaders(final HttpServletRequest request) {
         this.request = request;
     }
 
+    void reset(final HttpServletRequest request) {
+        reset();
+        this.request = request;
+        requestHeaders = null;
+        cookies = null;
+    }
+
     @Override
     public List<String> getRequestHeader(final String name) {
         final Enumeration<String> headers = request.getHeaders(name);
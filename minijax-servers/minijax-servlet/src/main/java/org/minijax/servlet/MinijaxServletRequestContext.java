@@ -3,39 +3,56 @@
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 
 import org.minijax.rs.MinijaxApplication;
 import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxRequestTarget;
 import org.minijax.rs.MinijaxUriInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 class MinijaxServletRequestContext extends MinijaxRequestContext {
     private static final Logger LOG = LoggerFactory.getLogger(MinijaxServletRequestContext.class);
-    private final HttpServletRequest request;
-    private final MinijaxUriInfo uriInfo;
+    private HttpServletRequest request;
+    private MinijaxUriInfo uriInfo;
     private MinijaxServletHttpHeaders httpHeaders;
     private InputStream entityStream;
 
+    MinijaxServletRequestContext(final MinijaxApplication application) {
+        super(application);
+    }
+
     public MinijaxServletRequestContext(final MinijaxApplication application, final HttpServletRequest request) {
         super(application);
+        reset(request);
+    }
+
+    /**
+     * Sets the request.
+     *
+     * The URI info and headers objects are reused if the context is recycled.
+     */
+    void reset(final HttpServletRequest request) {
         this.request = request;
 
-        final UriBuilder uriBuilder = UriBuilder.fromUri(request.getRequestURL().toString());
-        final String queryString = request.getQueryString();
-        if (queryString != null) {
-            uriBuilder.replaceQuery(queryString);
+        final MinijaxRequestTarget target = MinijaxRequestTarget.parse(request.getRequestURL().toString(), request.getQueryString());
+        if (uriInfo == null) {
+            uriInfo = new MinijaxUriInfo(target);
+        } else {
+            uriInfo.reset(target);
+        }
+
+        if (httpHeaders != null) {
+            httpHeaders.reset(request);
         }
-        uriInfo = new MinijaxUriInfo(uriBuilder.build(Collections.emptyMap()));
     }
 
     @Override
     public UriInfo getUriInfo() {
+        checkReleased();
         return uriInfo;
     }
 
@@ -46,6 +63,7 @@ public String getMethod() {
 
     @Override
     public MinijaxServletHttpHeaders getHttpHeaders() {
+         checkReleased();
          if (httpHeaders == null) {
              httpHeaders = new MinijaxServletHttpHeaders(request);
          }
@@ -54,6 +72,7 @@ public MinijaxServletHttpHeaders getHttpHeaders() {
 
     @Override
     public InputStream getEntityStream() {
+        checkReleased();
         if (entityStream == null) {
             try {
                 entityStream = request.getInputStream();
@@ -64,4 +83,11 @@ public InputStream getEntityStream() {
         }
         return entityStream;
     }
+
+    @Override
+    protected void recycle() {
+        super.recycle();
+        request = null;
+        entityStream = null;
+    }
 }
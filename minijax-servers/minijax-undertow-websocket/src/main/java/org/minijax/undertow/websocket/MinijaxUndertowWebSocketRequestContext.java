@@ -1,12 +1,12 @@
 package org.minijax.undertow.websocket;
 
 import java.io.InputStream;
-import java.net.URI;
 
 import jakarta.ws.rs.core.UriInfo;
 
 import org.minijax.rs.MinijaxApplication;
 import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxRequestTarget;
 import org.minijax.rs.MinijaxUriInfo;
 
 import io.undertow.websockets.spi.WebSocketHttpExchange;
@@ -21,7 +21,8 @@ public MinijaxUndertowWebSocketRequestContext(
             final WebSocketHttpExchange exchange) {
         super(container);
         this.exchange = exchange;
-        uriInfo = new MinijaxUriInfo(URI.create(exchange.getRequestURI() + "?" + exchange.getQueryString()));
+        final String requestUri = exchange.getRequestURI();
+        uriInfo = new MinijaxUriInfo(MinijaxRequestTarget.parse(requestUri == null ? "" : requestUri, exchange.getQueryString()));
     }
 
     @Override
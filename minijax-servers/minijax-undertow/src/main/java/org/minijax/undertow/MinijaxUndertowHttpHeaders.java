@@ -11,13 +11,19 @@
 import io.undertow.util.HttpString;
 
 class MinijaxUndertowHttpHeaders extends MinijaxHttpHeaders {
-    private final HeaderMap headerMap;
+    private HeaderMap headerMap;
     private MultivaluedMap<String, String> requestHeaders;
 
     public MinijaxUndertowHttpHeaders(final HeaderMap headerMap) {
         this.headerMap = headerMap;
     }
 
+    void reset(final HeaderMap headerMap) {
+        reset();
+        this.headerMap = headerMap;
+        requestHeaders = null;
+    }
+
     @Override
     public List<String> getRequestHeader(final String name) {
         return headerMap.get(name);
@@ -1,49 +1,64 @@
 package org.minijax.undertow;
 
 import java.io.InputStream;
-import java.util.Collections;
 
 import jakarta.ws.rs.core.UriInfo;
 
 import org.minijax.rs.MinijaxApplication;
 import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxRequestTarget;
 import org.minijax.rs.MinijaxUriInfo;
-import org.minijax.rs.uri.MinijaxUriBuilder;
 
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.Headers;
 
 class MinijaxUndertowRequestContext extends MinijaxRequestContext {
-    private final HttpServerExchange exchange;
-    private final MinijaxUriInfo uriInfo;
+    private HttpServerExchange exchange;
+    private MinijaxUriInfo uriInfo;
     private MinijaxUndertowHttpHeaders httpHeaders;
     private InputStream entityStream;
 
+    MinijaxUndertowRequestContext(final MinijaxApplication application) {
+        super(application);
+    }
+
     public MinijaxUndertowRequestContext(
             final MinijaxApplication application,
             final HttpServerExchange exchange) {
 
         super(application);
-        this.exchange = exchange;
+        reset(exchange);
+    }
 
-        final MinijaxUriBuilder uriBuilder = new MinijaxUriBuilder();
-        uriBuilder.uri(exchange.getRequestURL());
+    /**
+     * Sets the exchange.
+     *
+     * The URI info and headers objects are reused if the context is recycled.
+     */
+    void reset(final HttpServerExchange exchange) {
+        this.exchange = exchange;
 
-        final String queryString = exchange.getQueryString();
-        if (queryString != null) {
-            uriBuilder.replaceQuery(queryString);
-        }
+        MinijaxRequestTarget target = MinijaxRequestTarget.parse(exchange.getRequestURL(), exchange.getQueryString());
 
         final String forwardedProto = exchange.getRequestHeaders().getFirst(Headers.X_FORWARDED_PROTO);
         if (forwardedProto != null) {
-            uriBuilder.scheme(forwardedProto);
+            target = target.withScheme(forwardedProto);
         }
 
-        uriInfo = new MinijaxUriInfo(uriBuilder.buildFromMap(Collections.emptyMap()));
+        if (uriInfo == null) {
+            uriInfo = new MinijaxUriInfo(target);
+        } else {
+            uriInfo.reset(target);
+        }
+
+        if (httpHeaders != null) {
+            httpHeaders.reset(exchange.getRequestHeaders());
+        }
     }
 
     @Override
     public UriInfo getUriInfo() {
+        checkReleased();
         return uriInfo;
     }
 
@@ -54,6 +69,7 @@ public String getMethod() {
 
     @Override
     public MinijaxUndertowHttpHeaders getHttpHeaders() {
+        checkReleased();
         if (httpHeaders == null) {
             httpHeaders = new MinijaxUndertowHttpHeaders(exchange.getRequestHeaders());
         }
@@ -62,9 +78,17 @@ public MinijaxUndertowHttpHeaders getHttpHeaders() {
 
     @Override
     public InputStream getEntityStream() {
+        checkReleased();
         if (entityStream == null) {
             entityStream = exchange.getInputStream();
         }
         return entityStream;
     }
+
+    @Override
+    protected void recycle() {
+        super.recycle();
+        exchange = null;
+        entityStream = null;
+    }
 }
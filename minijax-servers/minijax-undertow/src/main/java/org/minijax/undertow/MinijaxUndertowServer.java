@@ -9,7 +9,7 @@
 
 import org.minijax.Minijax;
 import org.minijax.rs.MinijaxApplication;
-import org.minijax.rs.MinijaxRequestContext;
+import org.minijax.rs.MinijaxRequestContextPool;
 import org.minijax.rs.MinijaxServer;
 import org.minijax.rs.util.EntityUtils;
 import org.minijax.undertow.websocket.MinijaxUndertowWebSocketConnectionCallback;
@@ -29,6 +29,7 @@ public class MinijaxUndertowServer implements MinijaxServer, HttpHandler {
     private static final Logger LOG = LoggerFactory.getLogger(MinijaxUndertowServer.class);
     private final Minijax minijax;
     private final Undertow undertow;
+    private final MinijaxRequestContextPool<MinijaxUndertowRequestContext> contexts;
 
     public MinijaxUndertowServer(final Minijax minijax) {
         this(minijax, Undertow.builder());
@@ -36,6 +37,7 @@ public MinijaxUndertowServer(final Minijax minijax) {
 
     MinijaxUndertowServer(final Minijax minijax, final Undertow.Builder undertowBuilder) {
         this.minijax = minijax;
+        contexts = new MinijaxRequestContextPool<>(minijax.getDefaultApplication(), MinijaxUndertowRequestContext::new);
         undertow = undertowBuilder
                 .addHttpListener(minijax.getPort(), minijax.getHost())
                 .setHandler(buildHandler())
@@ -56,8 +58,10 @@ public void stop() {
     @Override
     public void handleRequest(final HttpServerExchange exchange) throws Exception {
         final MinijaxApplication application = minijax.getDefaultApplication();
+        final MinijaxUndertowRequestContext ctx = contexts.acquire();
 
-        try (final MinijaxRequestContext ctx = new MinijaxUndertowRequestContext(application, exchange)) {
+        try {
+            ctx.reset(exchange);
             final Response response = application.handle(ctx);
 
             exchange.setStatusCode(response.getStatus());
@@ -83,6 +87,8 @@ public void handleRequest(final HttpServerExchange exchange) throws Exception {
         } catch (final Exception ex) { // NOSONAR
             LOG.error("Unhandled exception: {}", ex.getMessage(), ex);
             throw ex; // NOSONAR
+        } finally {
+            contexts.release(ctx);
         }
     }
 